@@ -17,8 +17,8 @@ public abstract class AbstractMessage {
     protected static final int DEFAULT_PAYLOAD_RESERVE = 0;
 
     protected MemoryStream payload;
-    private final BinaryReader reader;
-    private final BinaryWriter writer;
+    private BinaryReader reader;
+    private BinaryWriter writer;
 
     /**
      * Initializes a new instance of the {@link AbstractMessage} class.
@@ -34,9 +34,6 @@ public abstract class AbstractMessage {
      */
     public AbstractMessage(int payloadReserve) {
         payload = new MemoryStream(payloadReserve);
-
-        reader = new BinaryReader(payload);
-        writer = new BinaryWriter(payload.asOutputStream());
     }
 
     /**
@@ -51,31 +48,31 @@ public abstract class AbstractMessage {
     }
 
     public void write(byte data) throws IOException {
-        writer.write(data);
+        getWriter().write(data);
     }
 
     public void write(short data) throws IOException {
-        writer.writeShort(data);
+        getWriter().writeShort(data);
     }
 
     public void write(int data) throws IOException {
-        writer.writeInt(data);
+        getWriter().writeInt(data);
     }
 
     public void write(long data) throws IOException {
-        writer.writeLong(data);
+        getWriter().writeLong(data);
     }
 
     public void write(byte[] data) throws IOException {
-        writer.write(data);
+        getWriter().write(data);
     }
 
     public void write(float data) throws IOException {
-        writer.writeFloat(data);
+        getWriter().writeFloat(data);
     }
 
     public void write(double data) throws IOException {
-        writer.writeDouble(data);
+        getWriter().writeDouble(data);
     }
 
     public void write(String data) throws IOException {
@@ -102,31 +99,31 @@ public abstract class AbstractMessage {
     }
 
     public byte readByte() throws IOException {
-        return reader.readByte();
+        return getReader().readByte();
     }
 
     public byte[] readBytes(int numBytes) throws IOException {
-        return reader.readBytes(numBytes);
+        return getReader().readBytes(numBytes);
     }
 
     public short readShort() throws IOException {
-        return reader.readShort();
+        return getReader().readShort();
     }
 
     public int readInt() throws IOException {
-        return reader.readInt();
+        return getReader().readInt();
     }
 
     public long readLong() throws IOException {
-        return reader.readLong();
+        return getReader().readLong();
     }
 
     public float readFloat() throws IOException {
-        return reader.readFloat();
+        return getReader().readFloat();
     }
 
     public double readDouble() throws IOException {
-        return reader.readDouble();
+        return getReader().readDouble();
     }
 
     public String readNullTermString() throws IOException {
@@ -134,7 +131,22 @@ public abstract class AbstractMessage {
     }
 
     public String readNullTermString(Charset charset) throws IOException {
-        return reader.readNullTermString(charset);
+        return getReader().readNullTermString(charset);
+    }
+
+    // reader and writer are created on the first use, most messages never touch the payload
+    private BinaryReader getReader() {
+        if (Objects.isNull(reader)) {
+            reader = new BinaryReader(payload);
+        }
+        return reader;
+    }
+
+    private BinaryWriter getWriter() {
+        if (Objects.isNull(writer)) {
+            writer = new BinaryWriter(payload.asOutputStream());
+        }
+        return writer;
     }
 
     public MemoryStream getPayload() {
@@ -1,24 +1,25 @@
 package com.avenga.steamclient.base;
 
-import com.avenga.steamclient.enums.SeekOrigin;
+import com.avenga.steamclient.exception.MessageBodyDecodeException;
 import com.avenga.steamclient.generated.MsgGCHdrProtoBuf;
-import com.avenga.steamclient.util.stream.BinaryReader;
 import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.GeneratedMessageV3;
+import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.InputStream;
 import java.util.Objects;
 
 public class ClientGCProtobufMessage<BodyType extends GeneratedMessageV3.Builder<BodyType>> extends HeaderClientGCProtobufMessage {
     private static final Logger LOGGER = LoggerFactory.getLogger(ClientGCProtobufMessage.class);
     private static final int PAYLOAD_RESERVE = 64;
     private BodyType body;
+    private Message parsedBody;
     private final Class<? extends AbstractMessage> clazz;
 
     /**
@@ -33,7 +34,7 @@ public class ClientGCProtobufMessage<BodyType extends GeneratedMessageV3.Builder
         if (!msg.isProto()) {
             LOGGER.debug("ClientMsgProtobuf<" + clazz.getSimpleName() + "> used for non-proto message!");
         }
-        deserialize(msg.getData());
+        deserialize(msg);
     }
 
     /**
@@ -58,13 +59,7 @@ public class ClientGCProtobufMessage<BodyType extends GeneratedMessageV3.Builder
     public ClientGCProtobufMessage(Class<? extends AbstractMessage> clazz, int eMsg, int payloadReserve) {
         super(MsgGCHdrProtoBuf.class, payloadReserve);
         this.clazz = clazz;
-
-        try {
-            final Method m = clazz.getMethod("newBuilder");
-            body = (BodyType) m.invoke(null);
-        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            LOGGER.debug(e.getMessage(), e);
-        }
+        this.body = (BodyType) ProtobufBodyRegistry.newBuilder(clazz);
 
         getHeader().setEMsg(eMsg);
     }
@@ -101,37 +96,71 @@ public class ClientGCProtobufMessage<BodyType extends GeneratedMessageV3.Builder
 
     @Override
     public byte[] serialize() {
-        byte[] result = null;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            getHeader().serialize(baos);
-            body.build().writeTo(baos);
-            baos.write(payload.toByteArray());
-            result = baos.toByteArray();
-        } catch (IOException ex) {
-            LOGGER.debug(ex.getMessage(), ex);
-        }
-        return result;
+        var header = getHeader();
+        var protoHeader = header.getProto().build();
+        header.setHeaderLength(protoHeader.getSerializedSize());
+        return ProtobufMessageSerializer.serialize(header.getMsg(), protoHeader, getBody().build(), payload);
     }
 
     @Override
     public void deserialize(byte[] data) {
         Objects.requireNonNull(data, "data wasn't provided");
-        try (BinaryReader ms = new BinaryReader(new ByteArrayInputStream(data))) {
-            getHeader().deserialize(ms);
-            final Method m = clazz.getMethod("newBuilder");
-            body = (BodyType) m.invoke(null);
-            body.mergeFrom(ms);
-            payload.write(data, ms.getPosition(), ms.available());
-            payload.seek(0, SeekOrigin.BEGIN);
+        deserialize(UnsafeByteOperations.unsafeWrap(data));
+    }
+
+    /**
+     * Deserializes the message from the data slice. The body is parsed straight from the slice and its bytes fields
+     * alias the slice instead of copying it.
+     *
+     * @param data The data slice.
+     */
+    public void deserialize(ByteString data) {
+        Objects.requireNonNull(data, "data wasn't provided");
+        try (InputStream headerStream = data.newInput()) {
+            getHeader().deserialize(headerStream);
+            parseBody(data.substring(data.size() - headerStream.available()));
         } catch (Exception ex) {
             LOGGER.debug(ex.getMessage(), ex);
         }
     }
 
     /**
-     * @return the body structure of this message.
+     * Deserializes the message from the packet message. The header is taken from the header view of the packet
+     * message and the body is shared with the packet message, so the body is decoded once for all its consumers.
+     *
+     * @param packetMessage The packet message.
+     */
+    private void deserialize(GCPacketMessage packetMessage) {
+        var packetHeader = packetMessage.getPacketHeader();
+        if (!packetHeader.isProto()) {
+            deserialize(packetMessage.getDataSlice());
+            return;
+        }
+
+        packetHeader.copyTo(getHeader());
+        try {
+            parsedBody = packetMessage.getBody(clazz);
+            body = null;
+        } catch (MessageBodyDecodeException ex) {
+            LOGGER.debug(ex.getMessage(), ex);
+        }
+    }
+
+    private void parseBody(ByteString bodyData) throws IOException {
+        CodedInputStream bodyStream = bodyData.newCodedInput();
+        bodyStream.enableAliasing(true);
+        parsedBody = ProtobufBodyRegistry.parse(clazz, bodyStream);
+        body = null;
+    }
+
+    /**
+     * @return the body structure of this message. Builder of the received body is created on the first call.
      */
     public BodyType getBody() {
+        if (Objects.isNull(body)) {
+            body = (BodyType) parsedBody.toBuilder();
+            parsedBody = null;
+        }
         return body;
     }
 }
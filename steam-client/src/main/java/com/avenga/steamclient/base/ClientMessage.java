@@ -3,6 +3,7 @@ package com.avenga.steamclient.base;
 import com.avenga.steamclient.enums.EMsg;
 import com.avenga.steamclient.model.JobID;
 import com.avenga.steamclient.model.SteamID;
+import com.avenga.steamclient.util.LeasedBuffer;
 
 /**
  * Represents a unified interface into client messages.
@@ -86,6 +87,15 @@ public interface ClientMessage {
      */
     byte[] serialize();
 
+    /**
+     * Serializes this client message instance to a buffer which the receiver must release.
+     *
+     * @return Leased buffer with the data representing a client message.
+     */
+    default LeasedBuffer serializeLeased() {
+        return LeasedBuffer.wrap(serialize());
+    }
+
     /**
      * Initializes this client message by deserializing the specified data.
      *
@@ -1,19 +1,21 @@
 package com.avenga.steamclient.base;
 
 import com.avenga.steamclient.enums.EMsg;
-import com.avenga.steamclient.enums.SeekOrigin;
+import com.avenga.steamclient.exception.MessageBodyDecodeException;
 import com.avenga.steamclient.generated.MsgHdrProtoBuf;
-import com.avenga.steamclient.util.stream.BinaryReader;
+import com.avenga.steamclient.util.LeasedBuffer;
+import com.avenga.steamclient.util.MessageUtil;
 import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.GeneratedMessageV3;
+import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.InputStream;
 import java.util.Objects;
 
 /**
@@ -29,6 +31,8 @@ public class ClientMessageProtobuf<BodyType extends GeneratedMessageV3.Builder<B
 
     private BodyType body;
 
+    private Message parsedBody;
+
     private final Class<? extends AbstractMessage> clazz;
 
     /**
@@ -55,7 +59,7 @@ public class ClientMessageProtobuf<BodyType extends GeneratedMessageV3.Builder<B
         if (!message.isProto()) {
             LOGGER.debug("ClientMsgProtobuf<" + clazz.getSimpleName() + "> used for non-proto message!");
         }
-        deserialize(message.getData());
+        deserialize(message);
     }
 
     /**
@@ -80,13 +84,7 @@ public class ClientMessageProtobuf<BodyType extends GeneratedMessageV3.Builder<B
     public ClientMessageProtobuf(Class<? extends AbstractMessage> clazz, EMsg eMsg, int payloadReserve) {
         super(payloadReserve);
         this.clazz = clazz;
-
-        try {
-            final Method m = clazz.getMethod("newBuilder");
-            body = (BodyType) m.invoke(null);
-        } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            LOGGER.debug(e.getMessage(), e);
-        }
+        this.body = (BodyType) ProtobufBodyRegistry.newBuilder(clazz);
 
         getHeader().setEMsg(eMsg);
     }
@@ -120,40 +118,84 @@ public class ClientMessageProtobuf<BodyType extends GeneratedMessageV3.Builder<B
     }
 
     /**
-     * @return the body structure of this message.
+     * @return the body structure of this message. Builder of the received body is created on the first call.
      */
     public BodyType getBody() {
+        if (Objects.isNull(body)) {
+            body = (BodyType) parsedBody.toBuilder();
+            parsedBody = null;
+        }
         return body;
     }
 
     @Override
     public byte[] serialize() {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(0);
+        var header = getHeader();
+        var protoHeader = header.getProto().build();
+        header.setHeaderLength(protoHeader.getSerializedSize());
+        return ProtobufMessageSerializer.serialize(MessageUtil.makeMessage(header.getMsg().code(), true), protoHeader,
+                getBody().build(), payload);
+    }
 
-        try {
-            getHeader().serialize(outputStream);
-            outputStream.write(body.build().toByteArray());
-            outputStream.write(payload.toByteArray());
-        } catch (IOException e) {
-            LOGGER.debug(e.getMessage(), e);
-        }
-        return outputStream.toByteArray();
+    @Override
+    public LeasedBuffer serializeLeased() {
+        var header = getHeader();
+        var protoHeader = header.getProto().build();
+        header.setHeaderLength(protoHeader.getSerializedSize());
+        return ProtobufMessageSerializer.serializeLeased(MessageUtil.makeMessage(header.getMsg().code(), true),
+                protoHeader, getBody().build(), payload);
     }
 
     @Override
     public void deserialize(byte[] data) {
         Objects.requireNonNull(data, "data wasn't provided");
 
-        try (var reader = new BinaryReader(new ByteArrayInputStream(data))) {
-            getHeader().deserialize(reader);
-            final Method m = clazz.getMethod("newBuilder");
-            body = (BodyType) m.invoke(null);
-            body.mergeFrom(reader);
-            payload.write(data, reader.getPosition(), reader.available());
-            payload.seek(0, SeekOrigin.BEGIN);
-        } catch (IOException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
+        deserialize(UnsafeByteOperations.unsafeWrap(data));
+    }
+
+    /**
+     * Deserializes the message from the data slice. The body is parsed straight from the slice and its bytes fields
+     * alias the slice instead of copying it.
+     *
+     * @param data The data slice.
+     */
+    public void deserialize(ByteString data) {
+        Objects.requireNonNull(data, "data wasn't provided");
+
+        try (InputStream headerStream = data.newInput()) {
+            getHeader().deserialize(headerStream);
+            parseBody(data.substring(data.size() - headerStream.available()));
+        } catch (IOException e) {
             LOGGER.debug(e.getMessage(), e);
         }
+    }
+
+    /**
+     * Deserializes the message from the packet message. The header is taken from the header view of the packet
+     * message and the body is shared with the packet message, so the body is decoded once for all its consumers.
+     *
+     * @param packetMessage The packet message.
+     */
+    private void deserialize(PacketMessage packetMessage) {
+        var packetHeader = packetMessage.getPacketHeader();
+        if (!packetHeader.isProto()) {
+            deserialize(packetMessage.getDataSlice());
+            return;
+        }
+
+        packetHeader.copyTo(getHeader());
+        try {
+            parsedBody = packetMessage.getBody(clazz);
+            body = null;
+        } catch (MessageBodyDecodeException e) {
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
 
+    private void parseBody(ByteString bodyData) throws IOException {
+        CodedInputStream bodyStream = bodyData.newCodedInput();
+        bodyStream.enableAliasing(true);
+        parsedBody = ProtobufBodyRegistry.parse(clazz, bodyStream);
+        body = null;
     }
 }
@@ -1,9 +1,9 @@
 package com.avenga.steamclient.base;
 
 import com.avenga.steamclient.enums.EMsg;
-import com.avenga.steamclient.generated.ExtendedClientMsgHdr;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 /**
@@ -13,9 +13,9 @@ public class ClientPacketMessage implements PacketMessage {
 
     private EMsg messageType;
 
-    private long targetJobID;
+    private final PacketHeader header;
 
-    private long sourceJobID;
+    private final ByteString data;
 
     private byte[] payload;
 
@@ -27,17 +27,22 @@ public class ClientPacketMessage implements PacketMessage {
      * @throws IOException exception while deserializing the data
      */
     public ClientPacketMessage(EMsg eMsg, byte[] data) throws IOException {
-        this.messageType = eMsg;
+        this(eMsg, UnsafeByteOperations.unsafeWrap(data));
         this.payload = data;
+    }
 
-        ExtendedClientMsgHdr extendedHdr = new ExtendedClientMsgHdr();
-
-        try (ByteArrayInputStream stream = new ByteArrayInputStream(data)) {
-            extendedHdr.deserialize(stream);
-        }
-
-        targetJobID = extendedHdr.getTargetJobID();
-        sourceJobID = extendedHdr.getSourceJobID();
+    /**
+     * Initializes a new instance of the {@link ClientPacketMessage} class.
+     *
+     * @param eMsg The network message type for this packet message.
+     * @param data The data slice, it is not copied.
+     * @throws IOException exception while deserializing the data
+     */
+    public ClientPacketMessage(EMsg eMsg, ByteString data) throws IOException {
+        this.messageType = eMsg;
+        this.data = data;
+        this.header = PacketHeader.readExtended(data);
+        PacketMetrics.recordPacket();
     }
 
     @Override
@@ -52,16 +57,29 @@ public class ClientPacketMessage implements PacketMessage {
 
     @Override
     public long getTargetJobID() {
-        return targetJobID;
+        return header.getTargetJobID();
     }
 
     @Override
     public long getSourceJobID() {
-        return sourceJobID;
+        return header.getSourceJobID();
+    }
+
+    @Override
+    public PacketHeader getPacketHeader() {
+        return header;
     }
 
     @Override
     public byte[] getData() {
+        if (payload == null) {
+            payload = data.toByteArray();
+        }
         return payload;
     }
+
+    @Override
+    public ByteString getDataSlice() {
+        return data;
+    }
 }
@@ -1,9 +1,10 @@
 package com.avenga.steamclient.base;
 
 import com.avenga.steamclient.enums.EMsg;
-import com.avenga.steamclient.generated.MsgHdrProtoBuf;
+import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 /**
@@ -13,9 +14,11 @@ public class ClientProtobufPacketMessage implements PacketMessage {
 
     private EMsg messageType;
 
-    private long targetJobID;
+    private final PacketHeader header;
 
-    private long sourceJobID;
+    private final LazyBody body;
+
+    private final ByteString data;
 
     private byte[] payload;
 
@@ -27,17 +30,23 @@ public class ClientProtobufPacketMessage implements PacketMessage {
      * @throws IOException exception while deserializing the data
      */
     public ClientProtobufPacketMessage(EMsg eMsg, byte[] data) throws IOException {
-        this.messageType = eMsg;
+        this(eMsg, UnsafeByteOperations.unsafeWrap(data));
         this.payload = data;
+    }
 
-        MsgHdrProtoBuf protobufHeader = new MsgHdrProtoBuf();
-
-        try (ByteArrayInputStream stream = new ByteArrayInputStream(data)) {
-            protobufHeader.deserialize(stream);
-        }
-
-        targetJobID = protobufHeader.getProto().getJobidTarget();
-        sourceJobID = protobufHeader.getProto().getJobidSource();
+    /**
+     * Initializes a new instance of the {@link ClientProtobufPacketMessage} class.
+     *
+     * @param eMsg The network message type for this packet message.
+     * @param data The data slice, it is not copied.
+     * @throws IOException exception while deserializing the data
+     */
+    public ClientProtobufPacketMessage(EMsg eMsg, ByteString data) throws IOException {
+        this.messageType = eMsg;
+        this.data = data;
+        this.header = PacketHeader.readProtobuf(data);
+        this.body = new LazyBody(data, header);
+        PacketMetrics.recordPacket();
     }
 
     @Override
@@ -52,16 +61,34 @@ public class ClientProtobufPacketMessage implements PacketMessage {
 
     @Override
     public long getTargetJobID() {
-        return targetJobID;
+        return header.getTargetJobID();
     }
 
     @Override
     public long getSourceJobID() {
-        return sourceJobID;
+        return header.getSourceJobID();
+    }
+
+    @Override
+    public PacketHeader getPacketHeader() {
+        return header;
+    }
+
+    @Override
+    public <T extends AbstractMessage> T getBody(Class<T> clazz) {
+        return body.get(clazz);
     }
 
     @Override
     public byte[] getData() {
+        if (payload == null) {
+            payload = data.toByteArray();
+        }
         return payload;
     }
+
+    @Override
+    public ByteString getDataSlice() {
+        return data;
+    }
 }
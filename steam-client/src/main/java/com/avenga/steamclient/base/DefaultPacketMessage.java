@@ -1,9 +1,9 @@
 package com.avenga.steamclient.base;
 
 import com.avenga.steamclient.enums.EMsg;
-import com.avenga.steamclient.generated.MsgHdr;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 /**
@@ -13,9 +13,9 @@ public class DefaultPacketMessage implements PacketMessage {
 
     private EMsg msgType;
 
-    private long targetJobID;
+    private final PacketHeader header;
 
-    private long sourceJobID;
+    private final ByteString data;
 
     private byte[] payload;
 
@@ -27,17 +27,22 @@ public class DefaultPacketMessage implements PacketMessage {
      * @throws IOException exception while deserializing the data
      */
     public DefaultPacketMessage(EMsg eMsg, byte[] data) throws IOException {
-        this.msgType = eMsg;
+        this(eMsg, UnsafeByteOperations.unsafeWrap(data));
         this.payload = data;
+    }
 
-        MsgHdr msgHdr = new MsgHdr();
-
-        try (ByteArrayInputStream stream = new ByteArrayInputStream(data)) {
-            msgHdr.deserialize(stream);
-        }
-
-        targetJobID = msgHdr.getTargetJobID();
-        sourceJobID = msgHdr.getSourceJobID();
+    /**
+     * Initializes a new instance of the{@link DefaultPacketMessage} class.
+     *
+     * @param eMsg The network message type for this packet message.
+     * @param data The data slice, it is not copied.
+     * @throws IOException exception while deserializing the data
+     */
+    public DefaultPacketMessage(EMsg eMsg, ByteString data) throws IOException {
+        this.msgType = eMsg;
+        this.data = data;
+        this.header = PacketHeader.readDefault(data);
+        PacketMetrics.recordPacket();
     }
 
     @Override
@@ -52,16 +57,29 @@ public class DefaultPacketMessage implements PacketMessage {
 
     @Override
     public long getTargetJobID() {
-        return this.targetJobID;
+        return header.getTargetJobID();
     }
 
     @Override
     public long getSourceJobID() {
-        return this.sourceJobID;
+        return header.getSourceJobID();
+    }
+
+    @Override
+    public PacketHeader getPacketHeader() {
+        return header;
     }
 
     @Override
     public byte[] getData() {
+        if (payload == null) {
+            payload = data.toByteArray();
+        }
         return payload;
     }
+
+    @Override
+    public ByteString getDataSlice() {
+        return data;
+    }
 }
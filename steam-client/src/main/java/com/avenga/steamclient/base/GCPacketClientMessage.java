@@ -1,11 +1,11 @@
 package com.avenga.steamclient.base;
 
-import com.avenga.steamclient.generated.MsgGCHdr;
 import com.avenga.steamclient.model.JobID;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Objects;
 
@@ -17,6 +17,8 @@ public class GCPacketClientMessage implements GCPacketMessage {
     private int msgType;
     private JobID targetJobID;
     private JobID sourceJobID;
+    private final PacketHeader header;
+    private final ByteString data;
     private byte[] payload;
 
     /**
@@ -26,22 +28,25 @@ public class GCPacketClientMessage implements GCPacketMessage {
      * @param data The data.
      */
     public GCPacketClientMessage(int eMsg, byte[] data) {
-        Objects.requireNonNull(data, "data wasn't provided");
-
-        msgType = eMsg;
+        this(eMsg, UnsafeByteOperations.unsafeWrap(Objects.requireNonNull(data, "data wasn't provided")));
         payload = data;
+    }
 
-        MsgGCHdr gcHdr = new MsgGCHdr();
+    /**
+     * Initializes a new instance of the {@link GCPacketClientMessage} class.
+     *
+     * @param eMsg The network message type for this packet message.
+     * @param data The data slice, it is not copied.
+     */
+    public GCPacketClientMessage(int eMsg, ByteString data) {
+        Objects.requireNonNull(data, "data wasn't provided");
 
-        // we need to pull out the job ids, so we deserialize the protobuf header
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(data)) {
-            gcHdr.deserialize(bais);
-        } catch (IOException ex) {
-            LOGGER.debug(ex.getMessage(), ex);
-        }
+        msgType = eMsg;
+        this.data = data;
 
-        targetJobID = new JobID(gcHdr.getTargetJobID());
-        sourceJobID = new JobID(gcHdr.getSourceJobID());
+        header = readHeader(eMsg, data);
+        targetJobID = new JobID(header.getTargetJobID());
+        sourceJobID = new JobID(header.getSourceJobID());
     }
 
     @Override
@@ -64,8 +69,30 @@ public class GCPacketClientMessage implements GCPacketMessage {
         return sourceJobID;
     }
 
+    @Override
+    public PacketHeader getPacketHeader() {
+        return header;
+    }
+
     @Override
     public byte[] getData() {
+        if (payload == null) {
+            payload = data.toByteArray();
+        }
         return payload;
     }
+
+    @Override
+    public ByteString getDataSlice() {
+        return data;
+    }
+
+    private static PacketHeader readHeader(int eMsg, ByteString data) {
+        try {
+            return PacketHeader.readGC(eMsg, data);
+        } catch (IOException ex) {
+            LOGGER.debug(ex.getMessage(), ex);
+            return PacketHeader.empty(eMsg);
+        }
+    }
 }
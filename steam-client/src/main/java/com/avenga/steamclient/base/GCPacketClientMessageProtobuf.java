@@ -1,11 +1,12 @@
 package com.avenga.steamclient.base;
 
-import com.avenga.steamclient.generated.MsgGCHdrProtoBuf;
 import com.avenga.steamclient.model.JobID;
+import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Objects;
 
@@ -17,6 +18,9 @@ public class GCPacketClientMessageProtobuf implements GCPacketMessage {
     private int msgType;
     private JobID targetJobID;
     private JobID sourceJobID;
+    private final PacketHeader header;
+    private final LazyBody body;
+    private final ByteString data;
     private byte[] payload;
 
     /**
@@ -26,22 +30,26 @@ public class GCPacketClientMessageProtobuf implements GCPacketMessage {
      * @param data The data.
      */
     public GCPacketClientMessageProtobuf(int eMsg, byte[] data) {
-        Objects.requireNonNull(data, "data wasn't provided");
-
-        msgType = eMsg;
+        this(eMsg, UnsafeByteOperations.unsafeWrap(Objects.requireNonNull(data, "data wasn't provided")));
         payload = data;
+    }
 
-        MsgGCHdrProtoBuf protobufHeader = new MsgGCHdrProtoBuf();
+    /**
+     * Initializes a new instance of the {@link GCPacketClientMessageProtobuf} class.
+     *
+     * @param eMsg The network message type for this packet message.
+     * @param data The data slice, it is not copied.
+     */
+    public GCPacketClientMessageProtobuf(int eMsg, ByteString data) {
+        Objects.requireNonNull(data, "data wasn't provided");
 
-        // we need to pull out the job ids, so we deserialize the protobuf header
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(data)) {
-            protobufHeader.deserialize(bais);
-        } catch (IOException ex) {
-            LOGGER.debug(ex.getMessage(), ex);
-        }
+        msgType = eMsg;
+        this.data = data;
 
-        targetJobID = new JobID(protobufHeader.getProto().getJobidTarget());
-        sourceJobID = new JobID(protobufHeader.getProto().getJobidSource());
+        header = readHeader(eMsg, data);
+        body = new LazyBody(data, header);
+        targetJobID = new JobID(header.getTargetJobID());
+        sourceJobID = new JobID(header.getSourceJobID());
     }
 
     @Override
@@ -64,8 +72,35 @@ public class GCPacketClientMessageProtobuf implements GCPacketMessage {
         return sourceJobID;
     }
 
+    @Override
+    public PacketHeader getPacketHeader() {
+        return header;
+    }
+
+    @Override
+    public <T extends AbstractMessage> T getBody(Class<T> clazz) {
+        return body.get(clazz);
+    }
+
     @Override
     public byte[] getData() {
+        if (payload == null) {
+            payload = data.toByteArray();
+        }
         return payload;
     }
+
+    @Override
+    public ByteString getDataSlice() {
+        return data;
+    }
+
+    private static PacketHeader readHeader(int eMsg, ByteString data) {
+        try {
+            return PacketHeader.readProtobuf(data);
+        } catch (IOException ex) {
+            LOGGER.debug(ex.getMessage(), ex);
+            return PacketHeader.empty(eMsg);
+        }
+    }
 }
@@ -32,7 +32,12 @@ public class HeaderClientMessageProtobuf extends BaseMessage<MsgHdrProtoBuf> {
             LOGGER.debug("ClientMsgProtobuf used for non-proto message!");
         }
 
-        deserialize(packetMessage.getData());
+        var packetHeader = packetMessage.getPacketHeader();
+        if (packetHeader.isProto()) {
+            packetHeader.copyTo(getHeader());
+        } else {
+            deserialize(packetMessage.getData());
+        }
     }
 
     private HeaderClientMessageProtobuf() {
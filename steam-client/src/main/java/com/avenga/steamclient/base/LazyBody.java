@@ -0,0 +1,51 @@
+package com.avenga.steamclient.base;
+
+import com.avenga.steamclient.exception.MessageBodyDecodeException;
+import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+
+import java.util.Objects;
+
+/**
+ * Protobuf body of a received packet message. The body is decoded on the first request and reused by the later
+ * requests of the same type, so packets which nobody consumes are never decoded.
+ */
+final class LazyBody {
+
+    private final ByteString data;
+    private final PacketHeader header;
+    private volatile Message body;
+
+    LazyBody(ByteString data, PacketHeader header) {
+        this.data = data;
+        this.header = header;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends AbstractMessage> T get(Class<T> clazz) {
+        var decodedBody = body;
+        if (Objects.nonNull(decodedBody) && decodedBody.getClass() == clazz) {
+            return (T) decodedBody;
+        }
+
+        if (!header.isProto()) {
+            throw new MessageBodyDecodeException("Header of the message " + header.getMessageType() + " wasn't read.");
+        }
+
+        try {
+            CodedInputStream bodyStream = data.substring(header.getBodyOffset()).newCodedInput();
+            bodyStream.enableAliasing(true);
+            var parsedBody = (T) ProtobufBodyRegistry.parse(clazz, bodyStream);
+            if (Objects.isNull(decodedBody)) {
+                body = parsedBody;
+            }
+            return parsedBody;
+        } catch (InvalidProtocolBufferException e) {
+            throw new MessageBodyDecodeException("Failed to decode " + clazz.getSimpleName() + " body of the message "
+                    + header.getMessageType(), e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.avenga.steamclient.base;
+
+import com.avenga.steamclient.enums.EMsg;
+import com.avenga.steamclient.generated.MsgGCHdrProtoBuf;
+import com.avenga.steamclient.generated.MsgHdrProtoBuf;
+import com.avenga.steamclient.protobufs.steamclient.SteammessagesBase.CMsgProtoBufHeader;
+import com.avenga.steamclient.util.MessageUtil;
+import com.google.protobuf.ByteString;
+import lombok.Getter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Immutable view of the packet message header. The header is parsed once when the packet message is created, later
+ * stages take the header fields and the body offset from the view instead of reading the data again.
+ */
+@Getter
+public final class PacketHeader {
+
+    private static final int PROTOBUF_HEADER_OFFSET = 8;
+    private static final int DEFAULT_HEADER_SIZE = 20;
+    private static final int EXTENDED_HEADER_SIZE = 36;
+    private static final int GC_HEADER_SIZE = 18;
+    private static final long INVALID_JOB_ID = 0xFFFFFFFFFFFFFFFFL;
+
+    /**
+     * Message type code without the protobuf flag.
+     */
+    private final int messageType;
+    private final boolean proto;
+    private final long targetJobID;
+    private final long sourceJobID;
+    private final long steamID;
+    private final int sessionID;
+    /**
+     * Offset of the message body in the packet data.
+     */
+    private final int bodyOffset;
+    /**
+     * Protobuf header of the message or <b>null</b> if the message isn't protobuf backed.
+     */
+    private final CMsgProtoBufHeader protoHeader;
+
+    private PacketHeader(int messageType, long targetJobID, long sourceJobID, long steamID, int sessionID, int bodyOffset,
+                         CMsgProtoBufHeader protoHeader) {
+        this.messageType = messageType;
+        this.proto = Objects.nonNull(protoHeader);
+        this.targetJobID = targetJobID;
+        this.sourceJobID = sourceJobID;
+        this.steamID = steamID;
+        this.sessionID = sessionID;
+        this.bodyOffset = bodyOffset;
+        this.protoHeader = protoHeader;
+    }
+
+    /**
+     * Reads protobuf header of Steam Network or Game Coordinator message.
+     *
+     * @param data The data slice.
+     * @return header of the message.
+     * @throws IOException if the data doesn't contain the header.
+     */
+    public static PacketHeader readProtobuf(ByteString data) throws IOException {
+        checkSize(data, PROTOBUF_HEADER_OFFSET);
+        var headerLength = MessageUtil.readInt(data, 4);
+        var bodyOffset = PROTOBUF_HEADER_OFFSET + headerLength;
+        checkSize(data, bodyOffset);
+
+        var protoHeader = CMsgProtoBufHeader.parseFrom(data.substring(PROTOBUF_HEADER_OFFSET, bodyOffset));
+        return new PacketHeader(MessageUtil.getGCMsg(MessageUtil.readInt(data, 0)), protoHeader.getJobidTarget(),
+                protoHeader.getJobidSource(), protoHeader.getSteamid(), protoHeader.getClientSessionid(), bodyOffset,
+                protoHeader);
+    }
+
+    /**
+     * Reads basic header of Steam Network message used by channel encryption messages.
+     *
+     * @param data The data slice.
+     * @return header of the message.
+     * @throws IOException if the data doesn't contain the header.
+     */
+    public static PacketHeader readDefault(ByteString data) throws IOException {
+        checkSize(data, DEFAULT_HEADER_SIZE);
+        return new PacketHeader(MessageUtil.readInt(data, 0), MessageUtil.readLong(data, 4),
+                MessageUtil.readLong(data, 12), 0, 0, DEFAULT_HEADER_SIZE, null);
+    }
+
+    /**
+     * Reads extended header of Steam Network message.
+     *
+     * @param data The data slice.
+     * @return header of the message.
+     * @throws IOException if the data doesn't contain the header.
+     */
+    public static PacketHeader readExtended(ByteString data) throws IOException {
+        checkSize(data, EXTENDED_HEADER_SIZE);
+        return new PacketHeader(MessageUtil.readInt(data, 0), MessageUtil.readLong(data, 7),
+                MessageUtil.readLong(data, 15), MessageUtil.readLong(data, 24), MessageUtil.readInt(data, 32),
+                EXTENDED_HEADER_SIZE, null);
+    }
+
+    /**
+     * Reads header of Game Coordinator message which isn't protobuf backed.
+     *
+     * @param eMsg The Game Coordinator message type.
+     * @param data The data slice.
+     * @return header of the message.
+     * @throws IOException if the data doesn't contain the header.
+     */
+    public static PacketHeader readGC(int eMsg, ByteString data) throws IOException {
+        checkSize(data, GC_HEADER_SIZE);
+        return new PacketHeader(eMsg, MessageUtil.readLong(data, 2), MessageUtil.readLong(data, 10), 0, 0,
+                GC_HEADER_SIZE, null);
+    }
+
+    /**
+     * @param eMsg The message type code.
+     * @return header of the message which couldn't be read.
+     */
+    public static PacketHeader empty(int eMsg) {
+        return new PacketHeader(eMsg, INVALID_JOB_ID, INVALID_JOB_ID, 0, 0, 0, null);
+    }
+
+    /**
+     * @return Steam Network message type or <b>null</b> if the type is unknown.
+     */
+    public EMsg getEMsg() {
+        return EMsg.from(messageType);
+    }
+
+    /**
+     * @return name of the target job of the protobuf header or <b>null</b> if the message isn't protobuf backed.
+     */
+    public String getTargetJobName() {
+        return proto ? protoHeader.getTargetJobName() : null;
+    }
+
+    /**
+     * Fills the protobuf header of a client message, so the message doesn't read the header from the data again.
+     *
+     * @param header header of the client message.
+     */
+    public void copyTo(MsgHdrProtoBuf header) {
+        header.setMsg(getEMsg());
+        header.setHeaderLength(bodyOffset - PROTOBUF_HEADER_OFFSET);
+        header.setProto(protoHeader.toBuilder());
+    }
+
+    /**
+     * Fills the protobuf header of a Game Coordinator client message, so the message doesn't read the header from the
+     * data again.
+     *
+     * @param header header of the Game Coordinator client message.
+     */
+    public void copyTo(MsgGCHdrProtoBuf header) {
+        header.setMsg(messageType);
+        header.setHeaderLength(bodyOffset - PROTOBUF_HEADER_OFFSET);
+        header.setProto(protoHeader.toBuilder());
+    }
+
+    private static void checkSize(ByteString data, int size) throws EOFException {
+        if (data.size() < size) {
+            throw new EOFException("Packet data of " + data.size() + " bytes is too small to contain the header of "
+                    + size + " bytes");
+        }
+    }
+}
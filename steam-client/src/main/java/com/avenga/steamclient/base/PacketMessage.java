@@ -1,6 +1,12 @@
 package com.avenga.steamclient.base;
 
 import com.avenga.steamclient.enums.EMsg;
+import com.avenga.steamclient.exception.MessageBodyDecodeException;
+import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import java.nio.ByteBuffer;
 
 /**
  * Represents a simple unified interface into client messages recieved from the network.
@@ -37,10 +43,50 @@ public interface PacketMessage {
      */
     long getSourceJobID();
 
+    /**
+     * Gets the header of this packet message, it is read once when the packet message is created.
+     *
+     * @return The header view.
+     */
+    PacketHeader getPacketHeader();
+
+    /**
+     * Gets the protobuf body of this packet message. The body is decoded on the first call and reused by the later
+     * calls with the same type.
+     *
+     * @param clazz The type of the body.
+     * @param <T>   The type of the body.
+     * @return The decoded body.
+     * @throws MessageBodyDecodeException if the body couldn't be decoded.
+     * @throws UnsupportedOperationException if this packet message isn't protobuf backed.
+     */
+    default <T extends AbstractMessage> T getBody(Class<T> clazz) {
+        throw new UnsupportedOperationException("Packet message isn't protobuf backed.");
+    }
+
     /**
      * Gets the underlying data that represents this client message.
      *
      * @return The data.
      */
     byte[] getData();
+
+    /**
+     * Gets a read-only view of the underlying data. Unlike {@link #getData()} the view never copies the data,
+     * so it should be preferred for parsing.
+     *
+     * @return The data slice.
+     */
+    default ByteString getDataSlice() {
+        return UnsafeByteOperations.unsafeWrap(getData());
+    }
+
+    /**
+     * Gets a read-only buffer over the underlying data.
+     *
+     * @return The data buffer.
+     */
+    default ByteBuffer getDataBuffer() {
+        return getDataSlice().asReadOnlyByteBuffer();
+    }
 }
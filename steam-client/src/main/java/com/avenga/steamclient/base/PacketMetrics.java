@@ -0,0 +1,39 @@
+package com.avenga.steamclient.base;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the packet messages received from Steam Network and the protobuf bodies decoded from them. Bodies are
+ * decoded only when a consumer of the message asks for them, so the difference of the counters shows how many
+ * packets were routed without decoding. Counters are shared by all clients.
+ */
+public final class PacketMetrics {
+
+    private static final LongAdder PACKETS_RECEIVED = new LongAdder();
+    private static final LongAdder BODIES_DECODED = new LongAdder();
+
+    private PacketMetrics() {
+    }
+
+    static void recordPacket() {
+        PACKETS_RECEIVED.increment();
+    }
+
+    static void recordBodyDecoded() {
+        BODIES_DECODED.increment();
+    }
+
+    /**
+     * @return amount of packet messages received from Steam Network, including messages of {@code Multi} packets.
+     */
+    public static long getPacketsReceived() {
+        return PACKETS_RECEIVED.sum();
+    }
+
+    /**
+     * @return amount of decoded protobuf bodies of Steam Network and Game Coordinator messages.
+     */
+    public static long getBodiesDecoded() {
+        return BODIES_DECODED.sum();
+    }
+}
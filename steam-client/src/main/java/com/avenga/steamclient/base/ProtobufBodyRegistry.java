@@ -0,0 +1,65 @@
+package com.avenga.steamclient.base;
+
+import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+
+/**
+ * Registry of the protobuf message body types. Default instance and parser of every body class are resolved once on
+ * the first use of the class, so messages are constructed and parsed without reflection.
+ */
+public final class ProtobufBodyRegistry {
+
+    private static final ClassValue<BodyType> BODY_TYPES = new ClassValue<>() {
+        @Override
+        protected BodyType computeValue(Class<?> clazz) {
+            return new BodyType(Internal.getDefaultInstance(clazz.asSubclass(AbstractMessage.class)));
+        }
+    };
+
+    private ProtobufBodyRegistry() {
+    }
+
+    /**
+     * @param clazz the type of the body.
+     * @return new empty builder of the body.
+     */
+    public static Message.Builder newBuilder(Class<? extends AbstractMessage> clazz) {
+        return BODY_TYPES.get(clazz).defaultInstance.newBuilderForType();
+    }
+
+    /**
+     * @param clazz the type of the body.
+     * @return parser of the body.
+     */
+    public static Parser<? extends Message> getParser(Class<? extends AbstractMessage> clazz) {
+        return BODY_TYPES.get(clazz).parser;
+    }
+
+    /**
+     * Parses the body from the stream. Parsed bodies are counted by {@link PacketMetrics}.
+     *
+     * @param clazz       the type of the body.
+     * @param inputStream stream positioned at the beginning of the body.
+     * @return parsed body.
+     * @throws InvalidProtocolBufferException if the body could not be parsed.
+     */
+    public static Message parse(Class<? extends AbstractMessage> clazz, CodedInputStream inputStream)
+            throws InvalidProtocolBufferException {
+        PacketMetrics.recordBodyDecoded();
+        return getParser(clazz).parseFrom(inputStream);
+    }
+
+    private static final class BodyType {
+        private final Message defaultInstance;
+        private final Parser<? extends Message> parser;
+
+        private BodyType(Message defaultInstance) {
+            this.defaultInstance = defaultInstance;
+            this.parser = defaultInstance.getParserForType();
+        }
+    }
+}
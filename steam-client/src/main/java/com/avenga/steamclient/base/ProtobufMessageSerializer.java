@@ -0,0 +1,80 @@
+package com.avenga.steamclient.base;
+
+import com.avenga.steamclient.util.BufferPool;
+import com.avenga.steamclient.util.LeasedBuffer;
+import com.avenga.steamclient.util.stream.MemoryStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
+import java.io.IOException;
+
+/**
+ * Serializer of the protobuf backed messages. Sizes of the header and the body are computed up front, so the message
+ * is written once into an array of the exact size instead of a growing stream which is copied at the end.
+ */
+final class ProtobufMessageSerializer {
+
+    private static final int PROTOBUF_HEADER_OFFSET = 8;
+
+    private ProtobufMessageSerializer() {
+    }
+
+    /**
+     * Serializes the message.
+     *
+     * @param rawMsg  The message type code as it is written to the data.
+     * @param header  The protobuf header of the message.
+     * @param body    The body of the message.
+     * @param payload The payload of the message.
+     * @return serialized message.
+     */
+    static byte[] serialize(int rawMsg, MessageLite header, MessageLite body, MemoryStream payload) {
+        var bodyLength = body.getSerializedSize();
+        var data = new byte[getSerializedSize(header, bodyLength, payload)];
+        write(rawMsg, header, body, bodyLength, payload, data);
+        return data;
+    }
+
+    /**
+     * Serializes the message into a pooled buffer.
+     *
+     * @param rawMsg  The message type code as it is written to the data.
+     * @param header  The protobuf header of the message.
+     * @param body    The body of the message.
+     * @param payload The payload of the message.
+     * @return leased buffer with the serialized message.
+     */
+    static LeasedBuffer serializeLeased(int rawMsg, MessageLite header, MessageLite body, MemoryStream payload) {
+        var bodyLength = body.getSerializedSize();
+        var data = BufferPool.acquire(getSerializedSize(header, bodyLength, payload));
+        try {
+            write(rawMsg, header, body, bodyLength, payload, data.getArray());
+        } catch (RuntimeException e) {
+            data.release();
+            throw e;
+        }
+        return data;
+    }
+
+    private static int getSerializedSize(MessageLite header, int bodyLength, MemoryStream payload) {
+        return PROTOBUF_HEADER_OFFSET + header.getSerializedSize() + bodyLength + (int) payload.getLength();
+    }
+
+    private static void write(int rawMsg, MessageLite header, MessageLite body, int bodyLength, MemoryStream payload,
+                              byte[] data) {
+        var headerLength = header.getSerializedSize();
+        var payloadOffset = PROTOBUF_HEADER_OFFSET + headerLength + bodyLength;
+
+        try {
+            var outputStream = CodedOutputStream.newInstance(data, 0, payloadOffset);
+            outputStream.writeFixed32NoTag(rawMsg);
+            outputStream.writeFixed32NoTag(headerLength);
+            header.writeTo(outputStream);
+            body.writeTo(outputStream);
+            outputStream.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException("Serialized size of the message has changed during serialization", e);
+        }
+        payload.copyTo(data, payloadOffset);
+    }
+}
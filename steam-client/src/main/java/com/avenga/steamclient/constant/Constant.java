@@ -13,6 +13,7 @@ public class Constant {
 
     public static final String CALLBACK_EXCEPTION_MESSAGE_FORMAT = "{}: Exception during handling {} callback with message: {}";
     public static final String TIMEOUT_EXCEPTION_MESSAGE_FORMAT = "Timeout was reached during handling %s callback with queue sequence: %d";
+    public static final String EXPIRED_CALLBACK_MESSAGE_FORMAT = "Callback of the message %d for application %d with queue sequence %d expired after %d ms";
     public static final String RETRY_EXCEPTION_MESSAGE_FORMAT = "Message wasn't received after %d retries with message: %s";
     public static final String UTILITY_CLASS_INIT_ERROR = "Instance of this class can't be initialized!";
 
@@ -0,0 +1,26 @@
+package com.avenga.steamclient.crypto;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import java.security.GeneralSecurityException;
+
+/**
+ * Serves symmetric algorithms from BouncyCastle, or from SpongyCastle on Android.
+ */
+public class BouncyCastleCryptoBackend implements SymmetricCryptoBackend {
+
+    @Override
+    public Cipher createBlockCipher() throws GeneralSecurityException {
+        return Cipher.getInstance(CryptoHelper.ALGORITHM_WITHOUT_PADDING, CryptoHelper.SEC_PROV);
+    }
+
+    @Override
+    public Cipher createPaddedCipher() throws GeneralSecurityException {
+        return Cipher.getInstance(CryptoHelper.ALGORITHM_WITH_PADDING, CryptoHelper.SEC_PROV);
+    }
+
+    @Override
+    public Mac createMac(String algorithm) throws GeneralSecurityException {
+        return Mac.getInstance(algorithm, CryptoHelper.SEC_PROV);
+    }
+}
@@ -27,8 +27,13 @@ public class CryptoHelper {
     private static final int CRYPTO_KEY_LENGTH = 32;
     private static final int IV_LENGTH = 16;
     private static final String ENCRYPTION_ALGORITHM = "AES";
-    private static final String ALGORITHM_WITHOUT_PADDING = "AES/ECB/NoPadding";
-    private static final String ALGORITHM_WITH_PADDING = "AES/CBC/PKCS7Padding";
+    static final String ALGORITHM_WITHOUT_PADDING = "AES/ECB/NoPadding";
+    static final String ALGORITHM_WITH_PADDING = "AES/CBC/PKCS7Padding";
+
+    /**
+     * {@link SecureRandom} is thread safe, so the instance is shared instead of seeding a new one per message.
+     */
+    private static final SecureRandom RANDOM = new SecureRandom();
 
     public static final String SEC_PROV;
 
@@ -59,12 +64,15 @@ public class CryptoHelper {
      * @return the generated block
      */
     public static byte[] generateRandomBlock(int size) {
-        SecureRandom random = new SecureRandom();
         byte[] b = new byte[size];
-        random.nextBytes(b);
+        RANDOM.nextBytes(b);
         return b;
     }
 
+    static void nextRandomBytes(byte[] bytes) {
+        RANDOM.nextBytes(bytes);
+    }
+
     /**
      * Performs CRC32 on an input byte array using the CrcStandard.Crc32Bit parameters
      *
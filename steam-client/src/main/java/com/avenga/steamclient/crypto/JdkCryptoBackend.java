@@ -0,0 +1,53 @@
+package com.avenga.steamclient.crypto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import java.security.GeneralSecurityException;
+
+/**
+ * Serves symmetric algorithms from the JDK SunJCE provider, whose AES implementation is replaced by hardware
+ * intrinsics by the JIT. Algorithms the JDK provider doesn't offer, e.g. on Android, are taken from the
+ * {@link BouncyCastleCryptoBackend}. This is the default backend.
+ */
+public class JdkCryptoBackend implements SymmetricCryptoBackend {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdkCryptoBackend.class);
+
+    private static final String JDK_PROVIDER = "SunJCE";
+    private static final String ALGORITHM_WITH_PADDING = "AES/CBC/PKCS5Padding";
+
+    private final SymmetricCryptoBackend fallback = new BouncyCastleCryptoBackend();
+
+    @Override
+    public Cipher createBlockCipher() throws GeneralSecurityException {
+        try {
+            return Cipher.getInstance(CryptoHelper.ALGORITHM_WITHOUT_PADDING, JDK_PROVIDER);
+        } catch (GeneralSecurityException e) {
+            LOGGER.debug("{} is not available from {}, falling back: {}", CryptoHelper.ALGORITHM_WITHOUT_PADDING, JDK_PROVIDER, e.toString());
+            return fallback.createBlockCipher();
+        }
+    }
+
+    @Override
+    public Cipher createPaddedCipher() throws GeneralSecurityException {
+        try {
+            return Cipher.getInstance(ALGORITHM_WITH_PADDING, JDK_PROVIDER);
+        } catch (GeneralSecurityException e) {
+            LOGGER.debug("{} is not available from {}, falling back: {}", ALGORITHM_WITH_PADDING, JDK_PROVIDER, e.toString());
+            return fallback.createPaddedCipher();
+        }
+    }
+
+    @Override
+    public Mac createMac(String algorithm) throws GeneralSecurityException {
+        try {
+            return Mac.getInstance(algorithm, JDK_PROVIDER);
+        } catch (GeneralSecurityException e) {
+            LOGGER.debug("{} is not available from {}, falling back: {}", algorithm, JDK_PROVIDER, e.toString());
+            return fallback.createMac(algorithm);
+        }
+    }
+}
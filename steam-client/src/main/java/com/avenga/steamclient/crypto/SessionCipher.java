@@ -0,0 +1,200 @@
+package com.avenga.steamclient.crypto;
+
+import com.avenga.steamclient.exception.CryptoException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.Objects;
+
+/**
+ * Channel encryption contexts of a single session. Ciphers, keys and MACs are created once for the session key,
+ * every direction has its own contexts, so encryption and decryption never contend with each other.
+ * Uses the same format as {@link CryptoHelper#symmetricEncrypt(byte[], byte[])} and
+ * {@link CryptoHelper#symmetricEncryptWithHMACIV(byte[], byte[], byte[])}: 16 byte AES/ECB encrypted IV followed
+ * by the AES/CBC/PKCS7 encrypted plaintext.
+ */
+public class SessionCipher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionCipher.class);
+
+    private static final int CRYPTO_KEY_LENGTH = 32;
+    private static final int IV_LENGTH = 16;
+    private static final int HMAC_RANDOM_LENGTH = 3;
+    private static final int BLOCK_SIZE = 16;
+    private static final String ENCRYPTION_ALGORITHM = "AES";
+    private static final String HMAC_ALGORITHM = "HmacSHA1";
+
+    private final SecretKeySpec key;
+
+    private final Direction outgoing;
+
+    private final Direction incoming;
+
+    /**
+     * Creates the contexts with the default {@link JdkCryptoBackend}.
+     *
+     * @param sessionKey the session key.
+     * @param hmacSecret secret of the HMAC-SHA1 IV, or <b>null</b> if the session uses random IVs.
+     * @throws CryptoException if the contexts can't be created.
+     */
+    public SessionCipher(byte[] sessionKey, byte[] hmacSecret) {
+        this(sessionKey, hmacSecret, new JdkCryptoBackend());
+    }
+
+    /**
+     * @param sessionKey the session key.
+     * @param hmacSecret secret of the HMAC-SHA1 IV, or <b>null</b> if the session uses random IVs.
+     * @param backend    backend which creates the ciphers and MACs.
+     * @throws CryptoException if the contexts can't be created.
+     */
+    public SessionCipher(byte[] sessionKey, byte[] hmacSecret, SymmetricCryptoBackend backend) {
+        Objects.requireNonNull(sessionKey, "sessionKey byte array wasn't provided");
+        Objects.requireNonNull(backend, "crypto backend wasn't provided");
+
+        if (sessionKey.length != CRYPTO_KEY_LENGTH) {
+            LOGGER.debug("SessionCipher used with non " + CRYPTO_KEY_LENGTH + " byte key!");
+        }
+
+        this.key = new SecretKeySpec(sessionKey, ENCRYPTION_ALGORITHM);
+        this.outgoing = new Direction(Cipher.ENCRYPT_MODE, hmacSecret, backend);
+        this.incoming = new Direction(Cipher.DECRYPT_MODE, hmacSecret, backend);
+    }
+
+    /**
+     * Calculates the size of the encrypted message.
+     *
+     * @param inputLength length of the plaintext.
+     * @return length of the encrypted IV and ciphertext.
+     */
+    public static int getEncryptedSize(int inputLength) {
+        return IV_LENGTH + (inputLength / BLOCK_SIZE + 1) * BLOCK_SIZE;
+    }
+
+    /**
+     * Encrypts the plaintext.
+     *
+     * @param input plaintext to encrypt.
+     * @return encrypted IV followed by the ciphertext.
+     */
+    public byte[] encrypt(byte[] input) {
+        byte[] output = new byte[getEncryptedSize(input.length)];
+        encrypt(input, 0, input.length, output, 0);
+        return output;
+    }
+
+    /**
+     * Encrypts the plaintext into the caller-supplied buffer.
+     *
+     * @param input        plaintext buffer.
+     * @param inputOffset  offset of the plaintext.
+     * @param inputLength  length of the plaintext.
+     * @param output       output buffer, must have at least {@link #getEncryptedSize(int)} bytes after the offset.
+     * @param outputOffset offset in the output buffer.
+     * @return amount of bytes written to the output buffer.
+     */
+    public int encrypt(byte[] input, int inputOffset, int inputLength, byte[] output, int outputOffset) {
+        Objects.requireNonNull(input, "input byte array wasn't provided");
+        Objects.requireNonNull(output, "output byte array wasn't provided");
+
+        synchronized (outgoing) {
+            try {
+                byte[] iv = outgoing.iv;
+                if (outgoing.mac == null) {
+                    CryptoHelper.nextRandomBytes(iv);
+                } else {
+                    // IV is HMAC-SHA1(Random(3) + Plaintext) + Random(3). (Same random values for both)
+                    CryptoHelper.nextRandomBytes(outgoing.random);
+                    System.arraycopy(outgoing.random, 0, iv, IV_LENGTH - HMAC_RANDOM_LENGTH, HMAC_RANDOM_LENGTH);
+                    outgoing.mac.update(outgoing.random);
+                    outgoing.mac.update(input, inputOffset, inputLength);
+                    outgoing.mac.doFinal(outgoing.hash, 0);
+                    System.arraycopy(outgoing.hash, 0, iv, 0, IV_LENGTH - HMAC_RANDOM_LENGTH);
+                }
+
+                int written = outgoing.ecb.doFinal(iv, 0, IV_LENGTH, output, outputOffset);
+                outgoing.cbc.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(iv));
+                return written + outgoing.cbc.doFinal(input, inputOffset, inputLength, output, outputOffset + written);
+            } catch (GeneralSecurityException e) {
+                throw new CryptoException("failed to symmetric encrypt", e);
+            }
+        }
+    }
+
+    /**
+     * Decrypts the message and validates its HMAC if the session uses HMAC IVs.
+     *
+     * @param input encrypted IV followed by the ciphertext.
+     * @return decrypted plaintext.
+     */
+    public byte[] decrypt(byte[] input) {
+        Objects.requireNonNull(input, "input byte array wasn't provided");
+
+        if (input.length < IV_LENGTH) {
+            throw new CryptoException("failed to symmetric decrypt: message is shorter than IV");
+        }
+
+        synchronized (incoming) {
+            try {
+                byte[] iv = incoming.iv;
+                if (incoming.ecb.doFinal(input, 0, IV_LENGTH, iv, 0) != IV_LENGTH) {
+                    throw new CryptoException("failed to symmetric decrypt: invalid IV");
+                }
+
+                incoming.cbc.init(Cipher.DECRYPT_MODE, key, new IvParameterSpec(iv));
+                byte[] plaintext = incoming.cbc.doFinal(input, IV_LENGTH, input.length - IV_LENGTH);
+
+                if (incoming.mac != null) {
+                    incoming.mac.update(iv, IV_LENGTH - HMAC_RANDOM_LENGTH, HMAC_RANDOM_LENGTH);
+                    incoming.mac.update(plaintext);
+                    incoming.mac.doFinal(incoming.hash, 0);
+
+                    for (int i = 0; i < IV_LENGTH - HMAC_RANDOM_LENGTH; i++) {
+                        if (incoming.hash[i] != iv[i]) {
+                            throw new CryptoException("NetFilterEncryption was unable to decrypt packet: HMAC from server did not match computed HMAC.");
+                        }
+                    }
+                }
+
+                return plaintext;
+            } catch (GeneralSecurityException e) {
+                throw new CryptoException("failed to symmetric decrypt", e);
+            }
+        }
+    }
+
+    /**
+     * Cipher and MAC contexts of one direction, guarded by the instance monitor.
+     */
+    private final class Direction {
+        private final Cipher ecb;
+        private final Cipher cbc;
+        private final Mac mac;
+        private final byte[] iv = new byte[IV_LENGTH];
+        private final byte[] random = new byte[HMAC_RANDOM_LENGTH];
+        private final byte[] hash;
+
+        private Direction(int mode, byte[] hmacSecret, SymmetricCryptoBackend backend) {
+            try {
+                this.ecb = backend.createBlockCipher();
+                this.ecb.init(mode, key);
+                this.cbc = backend.createPaddedCipher();
+
+                if (hmacSecret == null) {
+                    this.mac = null;
+                    this.hash = null;
+                } else {
+                    this.mac = backend.createMac(HMAC_ALGORITHM);
+                    this.mac.init(new SecretKeySpec(hmacSecret, HMAC_ALGORITHM));
+                    this.hash = new byte[mac.getMacLength()];
+                }
+            } catch (GeneralSecurityException e) {
+                throw new CryptoException("failed to create session cipher", e);
+            }
+        }
+    }
+}
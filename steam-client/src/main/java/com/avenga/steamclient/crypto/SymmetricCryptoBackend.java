@@ -0,0 +1,32 @@
+package com.avenga.steamclient.crypto;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import java.security.GeneralSecurityException;
+
+/**
+ * Provides cipher and MAC instances used for the channel encryption. Implementations decide which security
+ * provider serves the symmetric algorithms, RSA is always handled by {@link CryptoHelper#SEC_PROV}.
+ * Set the backend through {@link com.avenga.steamclient.model.configuration.SteamConfigurationState#setSymmetricCryptoBackend}.
+ */
+public interface SymmetricCryptoBackend {
+
+    /**
+     * @return new uninitialized AES/ECB cipher without padding, used for the IV.
+     * @throws GeneralSecurityException if the cipher is not available.
+     */
+    Cipher createBlockCipher() throws GeneralSecurityException;
+
+    /**
+     * @return new uninitialized AES/CBC cipher with PKCS#7 (PKCS#5 for 16 byte blocks) padding, used for the message.
+     * @throws GeneralSecurityException if the cipher is not available.
+     */
+    Cipher createPaddedCipher() throws GeneralSecurityException;
+
+    /**
+     * @param algorithm MAC algorithm name.
+     * @return new uninitialized MAC.
+     * @throws GeneralSecurityException if the MAC is not available.
+     */
+    Mac createMac(String algorithm) throws GeneralSecurityException;
+}
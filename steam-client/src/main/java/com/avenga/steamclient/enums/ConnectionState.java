@@ -0,0 +1,37 @@
+package com.avenga.steamclient.enums;
+
+/**
+ * Lifecycle state of the connection to a Steam3 server.
+ */
+public enum ConnectionState {
+
+    /**
+     * No connection is open.
+     */
+    DISCONNECTED,
+
+    /**
+     * Transport connection to the CM server is being opened.
+     */
+    CONNECTING,
+
+    /**
+     * Transport connection is open, encryption of the data channel is being negotiated.
+     */
+    ENCRYPTING,
+
+    /**
+     * Data channel is encrypted, the session isn't logged on yet.
+     */
+    LOGGING_ON,
+
+    /**
+     * Session is logged on.
+     */
+    READY,
+
+    /**
+     * Connection is being closed.
+     */
+    DRAINING
+}
@@ -0,0 +1,12 @@
+package com.avenga.steamclient.exception;
+
+public class GameCoordinatorUnavailableException extends RuntimeException {
+
+    public GameCoordinatorUnavailableException(String message) {
+        super(message);
+    }
+
+    public GameCoordinatorUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
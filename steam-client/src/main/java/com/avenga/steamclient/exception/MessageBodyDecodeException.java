@@ -0,0 +1,12 @@
+package com.avenga.steamclient.exception;
+
+public class MessageBodyDecodeException extends RuntimeException {
+
+    public MessageBodyDecodeException(String message) {
+        super(message);
+    }
+
+    public MessageBodyDecodeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,13 +1,21 @@
 package com.avenga.steamclient.model.configuration;
 
+import com.avenga.steamclient.crypto.SymmetricCryptoBackend;
 import com.avenga.steamclient.enums.EClientPersonaStateFlag;
 import com.avenga.steamclient.enums.EUniverse;
 import com.avenga.steamclient.enums.ProtocolType;
+import com.avenga.steamclient.network.EventLoopGroup;
+import com.avenga.steamclient.network.FlushPolicy;
 import com.avenga.steamclient.provider.ServerListProvider;
 import com.avenga.steamclient.provider.SmartCMServerProvider;
+import com.avenga.steamclient.steam.asyncclient.SteamClientAsync;
+import com.avenga.steamclient.steam.asyncclient.callbackmanager.OverflowPolicy;
+import com.avenga.steamclient.steam.asyncclient.callbackmanager.WaitStrategy;
 import com.avenga.steamclient.steam.client.SteamClient;
+import com.avenga.steamclient.util.HashedWheelTimer;
 
 import java.util.EnumSet;
+import java.util.concurrent.Executor;
 
 /**
  * Configuration object to use.
@@ -21,6 +29,7 @@ public class SteamConfiguration {
     public SteamConfiguration(SteamConfigurationState state) {
         this.state = state;
         this.serverProvider = new SmartCMServerProvider(this);
+        applyBackoffDefaults();
     }
 
     public SteamConfiguration() {
@@ -55,6 +64,82 @@ public class SteamConfiguration {
         return state.getDefaultPersonaStateFlags();
     }
 
+    /**
+     * @return The executor completing {@link SteamClient} callbacks of the received messages, so parsing of the
+     * responses and user continuations don't run on the network thread. Any executor can be used, e.g. a virtual
+     * thread per task executor on runtimes which support them, or {@code Runnable::run} to complete callbacks on the
+     * network thread.
+     */
+    public Executor getCallbackCompletionExecutor() {
+        return state.getCallbackCompletionExecutor();
+    }
+
+    /**
+     * @return The policy of handling callbacks posted to the full {@link SteamClientAsync} callback queue.
+     */
+    public OverflowPolicy getCallbackOverflowPolicy() {
+        return state.getCallbackOverflowPolicy();
+    }
+
+    /**
+     * @return The capacity of the {@link SteamClientAsync} callback queue, or 0 if the queue is unbounded.
+     */
+    public int getCallbackQueueCapacity() {
+        return state.getCallbackQueueCapacity();
+    }
+
+    /**
+     * @return The time in milliseconds after which pending {@link SteamClient} callbacks expire.
+     */
+    public long getCallbackTimeout() {
+        return state.getCallbackTimeout();
+    }
+
+    /**
+     * @return The timer which expires pending callbacks, shared by all clients using this configuration.
+     */
+    public HashedWheelTimer getCallbackTimer() {
+        return state.getCallbackTimer();
+    }
+
+    /**
+     * @return The strategy of waiting for callbacks posted to the {@link SteamClientAsync} callback queue.
+     */
+    public WaitStrategy getCallbackWaitStrategy() {
+        return state.getCallbackWaitStrategy();
+    }
+
+    /**
+     * @return The event loop group shared by TCP connections of all clients using this configuration,
+     * or <b>null</b> if every connection uses its own reader thread.
+     */
+    public EventLoopGroup getEventLoopGroup() {
+        return state.getEventLoopGroup();
+    }
+
+    /**
+     * @return The policy of writing queued outgoing TCP frames. {@link FlushPolicy#MICRO_BATCH} applies only with the
+     * {@link #getEventLoopGroup() event loop group}.
+     */
+    public FlushPolicy getFlushPolicy() {
+        return state.getFlushPolicy();
+    }
+
+    /**
+     * @return The delay in milliseconds before queued outgoing TCP frames are written with {@link FlushPolicy#MICRO_BATCH} policy.
+     */
+    public long getFlushDelay() {
+        return state.getFlushDelay();
+    }
+
+    /**
+     * @return The time in milliseconds during which Game Coordinator requests fail fast after Steam reported that
+     * the Game Coordinator host is unavailable. The {@link SteamClient} reconnects after this time.
+     */
+    public long getGcUnavailableBackoff() {
+        return state.getGcUnavailableBackoff();
+    }
+
     /**
      * @return The supported protocol types to use when attempting to connect to Steam.
      */
@@ -62,6 +147,42 @@ public class SteamConfiguration {
         return state.getProtocolTypes();
     }
 
+    /**
+     * @return The delay bound in milliseconds of the first retry of {@link SteamClient#connectAndLogin()}. Bound of
+     * every next retry is doubled up to {@link #getReconnectBackoffMax()}, actual delay is random within the bound.
+     */
+    public long getReconnectBackoffBase() {
+        return state.getReconnectBackoffBase();
+    }
+
+    /**
+     * @return The maximal delay bound in milliseconds of the {@link SteamClient#connectAndLogin()} retries.
+     */
+    public long getReconnectBackoffMax() {
+        return state.getReconnectBackoffMax();
+    }
+
+    /**
+     * Replaces backoff delays which are unset or invalid, e.g. of the state built without
+     * {@link SteamConfigurationState#buildDefaultState()}: Game Coordinator and reconnect base delays should be
+     * positive and max reconnect delay shouldn't be lower than the base delay.
+     */
+    private void applyBackoffDefaults() {
+        if (state.getGcUnavailableBackoff() <= 0) {
+            state.setGcUnavailableBackoff(SteamConfigurationState.DEFAULT_GC_UNAVAILABLE_BACKOFF);
+        }
+        if (state.getReconnectBackoffBase() <= 0) {
+            state.setReconnectBackoffBase(SteamConfigurationState.DEFAULT_RECONNECT_BACKOFF_BASE);
+        }
+        if (state.getReconnectBackoffMax() <= 0) {
+            state.setReconnectBackoffMax(Math.max(SteamConfigurationState.DEFAULT_RECONNECT_BACKOFF_MAX,
+                    state.getReconnectBackoffBase()));
+        }
+        if (state.getReconnectBackoffMax() < state.getReconnectBackoffBase()) {
+            state.setReconnectBackoffMax(state.getReconnectBackoffBase());
+        }
+    }
+
     /**
      * @return The server list provider to use.
      */
@@ -69,6 +190,21 @@ public class SteamConfiguration {
         return state.getServerListProvider();
     }
 
+    /**
+     * @return The backend which creates ciphers and MACs of the channel encryption.
+     */
+    public SymmetricCryptoBackend getSymmetricCryptoBackend() {
+        return state.getSymmetricCryptoBackend();
+    }
+
+    /**
+     * @return The executor running connection and reconnection tasks of the {@link SteamClient}, can be shared by
+     * many clients.
+     */
+    public Executor getTaskExecutor() {
+        return state.getTaskExecutor();
+    }
+
     /**
      * @return The Universe to connect to. This should always be {@link EUniverse#Public} unless you work at Valve and are using this internally. If this is you, hello there.
      */
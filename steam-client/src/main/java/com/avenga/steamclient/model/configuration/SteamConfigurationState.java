@@ -1,28 +1,55 @@
 package com.avenga.steamclient.model.configuration;
 
 import com.avenga.steamclient.constant.Constant;
+import com.avenga.steamclient.crypto.JdkCryptoBackend;
+import com.avenga.steamclient.crypto.SymmetricCryptoBackend;
 import com.avenga.steamclient.enums.EClientPersonaStateFlag;
 import com.avenga.steamclient.enums.EUniverse;
 import com.avenga.steamclient.enums.ProtocolType;
+import com.avenga.steamclient.network.EventLoopGroup;
+import com.avenga.steamclient.network.FlushPolicy;
 import com.avenga.steamclient.provider.NullServerListProvider;
 import com.avenga.steamclient.provider.ServerListProvider;
+import com.avenga.steamclient.steam.asyncclient.callbackmanager.OverflowPolicy;
+import com.avenga.steamclient.steam.asyncclient.callbackmanager.WaitStrategy;
+import com.avenga.steamclient.util.HashedWheelTimer;
+import com.avenga.steamclient.util.SharedExecutors;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.EnumSet;
+import java.util.concurrent.Executor;
 
 @Getter
 @Setter
 @Builder
 public class SteamConfigurationState {
 
+    public static final long DEFAULT_RECONNECT_BACKOFF_BASE = 1000L;
+    public static final long DEFAULT_RECONNECT_BACKOFF_MAX = 60000L;
+    public static final long DEFAULT_GC_UNAVAILABLE_BACKOFF = 900000L;
+
     private boolean allowDirectoryFetch;
+    private Executor callbackCompletionExecutor;
+    private OverflowPolicy callbackOverflowPolicy;
+    private int callbackQueueCapacity;
+    private long callbackTimeout;
+    private HashedWheelTimer callbackTimer;
+    private WaitStrategy callbackWaitStrategy;
     private int cellID;
     private long connectionTimeout;
     private EnumSet<EClientPersonaStateFlag> defaultPersonaStateFlags;
+    private EventLoopGroup eventLoopGroup;
+    private FlushPolicy flushPolicy;
+    private long flushDelay;
+    private long gcUnavailableBackoff;
     private EnumSet<ProtocolType> protocolTypes;
+    private long reconnectBackoffBase;
+    private long reconnectBackoffMax;
     private ServerListProvider serverListProvider;
+    private SymmetricCryptoBackend symmetricCryptoBackend;
+    private Executor taskExecutor;
     private EUniverse universe;
     private String webAPIBaseAddress;
     private String webAPIKey;
@@ -30,11 +57,23 @@ public class SteamConfigurationState {
     public static SteamConfigurationState buildDefaultState() {
         return SteamConfigurationState.builder()
                 .allowDirectoryFetch(true)
+                .callbackCompletionExecutor(SharedExecutors.getCallbackCompletionExecutor())
+                .callbackTimeout(300000L)
+                .callbackTimer(HashedWheelTimer.getShared())
+                .callbackWaitStrategy(WaitStrategy.PARK)
+                .callbackOverflowPolicy(OverflowPolicy.BLOCK)
                 .connectionTimeout(5000L)
                 .defaultPersonaStateFlags(EnumSet.of(EClientPersonaStateFlag.PlayerName, EClientPersonaStateFlag.Presence,
                         EClientPersonaStateFlag.SourceID, EClientPersonaStateFlag.GameExtraInfo, EClientPersonaStateFlag.LastSeen))
+                .flushPolicy(FlushPolicy.IMMEDIATE)
+                .flushDelay(1L)
+                .gcUnavailableBackoff(DEFAULT_GC_UNAVAILABLE_BACKOFF)
                 .protocolTypes(EnumSet.of(ProtocolType.TCP))
+                .reconnectBackoffBase(DEFAULT_RECONNECT_BACKOFF_BASE)
+                .reconnectBackoffMax(DEFAULT_RECONNECT_BACKOFF_MAX)
                 .serverListProvider(new NullServerListProvider())
+                .symmetricCryptoBackend(new JdkCryptoBackend())
+                .taskExecutor(SharedExecutors.getTaskExecutor())
                 .universe(EUniverse.Public)
                 .webAPIBaseAddress(Constant.WEB_API_BASE_ADDRESS)
                 .build();
@@ -1,9 +1,13 @@
 package com.avenga.steamclient.model.steam;
 
 import com.avenga.steamclient.base.PacketMessage;
+import com.avenga.steamclient.enums.EMsg;
 import com.avenga.steamclient.steam.asyncclient.SteamClientAsync;
 import com.avenga.steamclient.steam.asyncclient.callbacks.DisconnectedCallback;
 
+import java.util.Map;
+import java.util.function.Consumer;
+
 /**
  * This class implements the base requirements every message handler should inherit from.
  */
@@ -44,6 +48,17 @@ public abstract class ClientMessageHandler {
         return client;
     }
 
+    /**
+     * Gets handlers of the packet messages consumed by this handler. {@link SteamClientAsync} routes the packet messages
+     * straight to them. Handler which returns <b>null</b> receives every packet message in
+     * {@link #handleMessage(PacketMessage)}.
+     *
+     * @return handlers of the packet messages by their type or <b>null</b>.
+     */
+    public Map<EMsg, Consumer<PacketMessage>> getPacketHandlers() {
+        return null;
+    }
+
     /**
      * Handles a client message. This should not be called directly.
      *
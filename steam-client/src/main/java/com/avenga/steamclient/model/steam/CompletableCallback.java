@@ -63,6 +63,13 @@ public interface CompletableCallback {
      */
     void complete(Object packetMessage);
 
+    /**
+     * Completes {@link CompletableFuture} of the callback with exception, e.g. when the callback expired.
+     *
+     * @param throwable cause of the failure.
+     */
+    void completeExceptionally(Throwable throwable);
+
     /**
      * Cancel {@link CompletableFuture} of the callback.
      */
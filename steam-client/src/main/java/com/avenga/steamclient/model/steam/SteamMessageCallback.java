@@ -111,6 +111,11 @@ public class SteamMessageCallback<TPacket> implements CompletableCallback {
         callback.complete(packetMessage);
     }
 
+    @Override
+    public void completeExceptionally(Throwable throwable) {
+        callback.completeExceptionally(throwable);
+    }
+
     @Override
     public void cancel() {
         callback.cancel(true);
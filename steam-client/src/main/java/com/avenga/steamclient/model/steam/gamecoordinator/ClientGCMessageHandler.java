@@ -4,6 +4,9 @@ import com.avenga.steamclient.steam.asyncclient.SteamClientAsync;
 import com.avenga.steamclient.steam.asyncclient.callbacks.DisconnectedCallback;
 import com.avenga.steamclient.steam.asyncclient.steamgamecoordinator.SteamGameCoordinatorAsync;
 
+import java.util.Map;
+import java.util.function.Consumer;
+
 /**
  * This class implements the base requirements every GC message handler should inherit from.
  */
@@ -51,6 +54,17 @@ public abstract class ClientGCMessageHandler {
         return gameCoordinator;
     }
 
+    /**
+     * Gets handlers of the Game Coordinator messages consumed by this handler. {@link SteamGameCoordinatorAsync} routes
+     * the messages of the {@link #getApplicationId() application} straight to them. Handler which returns <b>null</b>
+     * receives every message of the application in {@link #handleMessage(GCMessage)}.
+     *
+     * @return handlers of the Game Coordinator messages by their id or <b>null</b>.
+     */
+    public Map<Integer, Consumer<GCMessage>> getMessageHandlers() {
+        return null;
+    }
+
     /**
      * Handles a Game Coordinator client message. This should not be called directly.
      *
@@ -6,16 +6,32 @@ import com.avenga.steamclient.base.GCPacketMessage;
 import com.avenga.steamclient.protobufs.steamclient.SteammessagesClientserver2.CMsgGCClient;
 import com.avenga.steamclient.util.MessageUtil;
 import com.avenga.steamclient.util.SteamEnumUtils;
+import com.google.protobuf.ByteString;
 
+import java.util.Objects;
+
+/**
+ * Game Coordinator message received in {@link CMsgGCClient}. Routing uses the application id and the message type of
+ * the wrapper, the header of the payload is read when the message is requested for the first time.
+ */
 public class GCMessage {
     private int eMsg;
     private int appID;
-    private GCPacketMessage message;
+    private ByteString payload;
+    private volatile GCPacketMessage message;
 
     public GCMessage(CMsgGCClient.Builder gcMsg) {
-        eMsg = gcMsg.getMsgtype();
-        appID = gcMsg.getAppid();
-        message = getPacketGCMsg(gcMsg.getMsgtype(), gcMsg.getPayload().toByteArray());
+        this(gcMsg.getMsgtype(), gcMsg.getAppid(), gcMsg.getPayload());
+    }
+
+    public GCMessage(CMsgGCClient gcMsg) {
+        this(gcMsg.getMsgtype(), gcMsg.getAppid(), gcMsg.getPayload());
+    }
+
+    private GCMessage(int eMsg, int appID, ByteString payload) {
+        this.eMsg = eMsg;
+        this.appID = appID;
+        this.payload = payload;
     }
 
     /**
@@ -43,14 +59,19 @@ public class GCMessage {
      * @return the actual message
      */
     public GCPacketMessage getMessage() {
-        return message;
+        var packetMessage = message;
+        if (Objects.isNull(packetMessage)) {
+            packetMessage = getPacketGCMsg(eMsg, payload);
+            message = packetMessage;
+        }
+        return packetMessage;
     }
 
     public String getMessageType() {
         return SteamEnumUtils.getEnumName(geteMsg(), appID).orElse("");
     }
 
-    private static GCPacketMessage getPacketGCMsg(int eMsg, byte[] data) {
+    private static GCPacketMessage getPacketGCMsg(int eMsg, ByteString data) {
         int realEMsg = MessageUtil.getGCMsg(eMsg);
 
         if (MessageUtil.isProtoBuf(eMsg)) {
@@ -16,9 +16,10 @@ public class LogOnDetailsRecord {
     private static final long UNAVAILABLE_ACCOUNT_BAN_PERIOD = 1;
 
     private LogOnDetails logOnDetails;
-    private Instant blockedTime;
-    private boolean permanentlyBlocked;
-    private int rateLimitFailuers;
+    private volatile Instant blockedTime;
+    private volatile boolean permanentlyBlocked;
+    private volatile boolean unavailable;
+    private volatile int rateLimitFailuers;
 
     public LogOnDetailsRecord(LogOnDetails logOnDetails) {
         this.logOnDetails = logOnDetails;
@@ -51,6 +52,7 @@ public class LogOnDetailsRecord {
             resetRateLimitFailures();
         }
         this.blockedTime = null;
+        this.unavailable = false;
     }
 
     public void blockPermanently() {
@@ -59,6 +61,7 @@ public class LogOnDetailsRecord {
 
     public void blockUnavailableAccount() {
         this.blockedTime = Instant.now().plus(UNAVAILABLE_ACCOUNT_BAN_PERIOD, ChronoUnit.DAYS);
+        this.unavailable = true;
     }
 
     public void resetRateLimitFailures() {
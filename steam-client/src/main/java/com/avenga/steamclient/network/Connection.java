@@ -3,6 +3,7 @@ package com.avenga.steamclient.network;
 import com.avenga.steamclient.enums.ProtocolType;
 import com.avenga.steamclient.event.Event;
 import com.avenga.steamclient.event.EventArgs;
+import com.avenga.steamclient.util.LeasedBuffer;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -84,6 +85,27 @@ public abstract class Connection {
      */
     public abstract void send(byte[] data);
 
+    /**
+     * Sends the specified data packet and releases the buffer once the data isn't needed anymore. Connections which
+     * don't {@link #isLeasedBufferSupported() support} leased buffers send a copy of the data.
+     *
+     * @param data The leased buffer with the data packet to send.
+     */
+    public void send(LeasedBuffer data) {
+        try {
+            send(data.toByteArray());
+        } finally {
+            data.release();
+        }
+    }
+
+    /**
+     * @return <b>true</b> if the connection sends {@link LeasedBuffer leased buffers} without copying them.
+     */
+    public boolean isLeasedBufferSupported() {
+        return false;
+    }
+
     /**
      * Gets the local IP.
      *
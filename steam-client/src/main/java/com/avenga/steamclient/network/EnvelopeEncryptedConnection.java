@@ -3,8 +3,10 @@ package com.avenga.steamclient.network;
 import com.avenga.steamclient.base.Message;
 import com.avenga.steamclient.base.PacketMessage;
 import com.avenga.steamclient.crypto.CryptoHelper;
+import com.avenga.steamclient.crypto.JdkCryptoBackend;
 import com.avenga.steamclient.crypto.KeyDictionary;
 import com.avenga.steamclient.crypto.RSACrypto;
+import com.avenga.steamclient.crypto.SymmetricCryptoBackend;
 import com.avenga.steamclient.enums.*;
 import com.avenga.steamclient.event.EventArgs;
 import com.avenga.steamclient.event.EventHandler;
@@ -12,6 +14,7 @@ import com.avenga.steamclient.generated.MsgChannelEncryptRequest;
 import com.avenga.steamclient.generated.MsgChannelEncryptResponse;
 import com.avenga.steamclient.generated.MsgChannelEncryptResult;
 import com.avenga.steamclient.steam.CMClient;
+import com.avenga.steamclient.util.LeasedBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +29,8 @@ public class EnvelopeEncryptedConnection extends Connection {
 
     private final Connection inner;
     private final EUniverse universe;
+
+    private final SymmetricCryptoBackend cryptoBackend;
     private EncryptionState state;
     private INetFilterEncryption encryption;
 
@@ -74,10 +79,15 @@ public class EnvelopeEncryptedConnection extends Connection {
     };
 
     public EnvelopeEncryptedConnection(Connection inner, EUniverse universe) {
+        this(inner, universe, new JdkCryptoBackend());
+    }
+
+    public EnvelopeEncryptedConnection(Connection inner, EUniverse universe, SymmetricCryptoBackend cryptoBackend) {
         Objects.requireNonNull(inner, "inner connection wasn't provided");
 
         this.inner = inner;
         this.universe = universe;
+        this.cryptoBackend = Objects.isNull(cryptoBackend) ? new JdkCryptoBackend() : cryptoBackend;
 
         inner.getNetMsgReceived().addEventHandler(onNetMsgReceived);
         inner.getConnected().addEventHandler(onConnected);
@@ -142,9 +152,9 @@ public class EnvelopeEncryptedConnection extends Connection {
         }
 
         if (randomChallenge != null) {
-            encryption = new NetFilterEncryptionWithHMAC(tempSessionKey);
+            encryption = new NetFilterEncryptionWithHMAC(tempSessionKey, cryptoBackend);
         } else {
-            encryption = new NetFilterEncryption(tempSessionKey);
+            encryption = new NetFilterEncryption(tempSessionKey, cryptoBackend);
         }
 
         state = EncryptionState.CHALLENGED;
@@ -202,6 +212,20 @@ public class EnvelopeEncryptedConnection extends Connection {
         inner.send(data);
     }
 
+    @Override
+    public void send(LeasedBuffer data) {
+        if (state == EncryptionState.ENCRYPTED) {
+            data = encryption.processOutgoing(data);
+        }
+
+        inner.send(data);
+    }
+
+    @Override
+    public boolean isLeasedBufferSupported() {
+        return inner.isLeasedBufferSupported();
+    }
+
     @Override
     public InetAddress getLocalIP() {
         return inner.getLocalIP();
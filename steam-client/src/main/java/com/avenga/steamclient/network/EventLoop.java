@@ -0,0 +1,134 @@
+package com.avenga.steamclient.network;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Single selector thread of the {@link EventLoopGroup}. Every channel registered with a loop is always served by
+ * the same thread, so the order of events of one connection is preserved.
+ */
+class EventLoop implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLoop.class);
+
+    private final Selector selector;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    EventLoop(String threadName) throws IOException {
+        this.selector = Selector.open();
+        this.thread = new Thread(this, threadName);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Runs the task on the loop thread, immediately when called from the loop thread itself.
+     *
+     * @param task task to run.
+     */
+    void execute(Runnable task) {
+        if (inEventLoop()) {
+            task.run();
+            return;
+        }
+
+        tasks.offer(task);
+        selector.wakeup();
+    }
+
+    boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Registers the channel with the loop selector. Must be called from the loop thread.
+     *
+     * @param channel  non-blocking channel to register.
+     * @param ops      initial interest set.
+     * @param handler  handler invoked on the loop thread for every selected key of the channel.
+     * @return registered selection key.
+     * @throws ClosedChannelException if the channel was closed.
+     */
+    SelectionKey register(SelectableChannel channel, int ops, Consumer<SelectionKey> handler) throws ClosedChannelException {
+        return channel.register(selector, ops, handler);
+    }
+
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run() {
+        while (running) {
+            try {
+                selector.select();
+            } catch (IOException e) {
+                LOGGER.debug("Selector exception in {}: {}", thread.getName(), e.toString());
+                continue;
+            }
+
+            runTasks();
+
+            var selectedKeys = selector.selectedKeys();
+            for (SelectionKey key : selectedKeys) {
+                try {
+                    ((Consumer<SelectionKey>) key.attachment()).accept(key);
+                } catch (CancelledKeyException ignored) {
+                    // channel was closed by the handler
+                } catch (Exception e) {
+                    LOGGER.debug("Unhandled exception in {}: {}", thread.getName(), e.toString());
+                }
+            }
+            selectedKeys.clear();
+        }
+
+        runTasks();
+        closeSelector();
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                LOGGER.debug("Unhandled task exception in {}: {}", thread.getName(), e.toString());
+            }
+        }
+    }
+
+    private void closeSelector() {
+        for (SelectionKey key : selector.keys()) {
+            try {
+                key.channel().close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        try {
+            selector.close();
+        } catch (IOException e) {
+            LOGGER.debug("Selector close exception in {}: {}", thread.getName(), e.toString());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.avenga.steamclient.network;
+
+import com.avenga.steamclient.model.configuration.SteamConfigurationState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed set of selector threads which serve TCP connections of many clients. Share one group between
+ * {@link com.avenga.steamclient.steam.client.SteamClient} instances through
+ * {@link SteamConfigurationState#getEventLoopGroup()} to avoid a dedicated reader thread per connection.
+ * Each connection is bound to a single loop, so the order of its packets is preserved.
+ * The group also provides a shared scheduler which is used for client heartbeats and connection timeouts.
+ */
+public class EventLoopGroup {
+
+    private static final String LOOP_THREAD_NAME = "EventLoop-%d";
+
+    private static final String SCHEDULER_THREAD_NAME = "EventLoopScheduler";
+
+    private final EventLoop[] eventLoops;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicInteger nextLoop = new AtomicInteger();
+
+    /**
+     * Creates group with one selector thread per available processor.
+     */
+    public EventLoopGroup() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates group with a fixed amount of selector threads.
+     *
+     * @param threadCount amount of the selector threads.
+     */
+    public EventLoopGroup(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Event loop group requires at least one thread.");
+        }
+
+        this.eventLoops = new EventLoop[threadCount];
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                eventLoops[i] = new EventLoop(String.format(LOOP_THREAD_NAME, i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open selector for event loop group", e);
+        }
+
+        for (EventLoop eventLoop : eventLoops) {
+            eventLoop.start();
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, SCHEDULER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    EventLoop next() {
+        return eventLoops[Math.floorMod(nextLoop.getAndIncrement(), eventLoops.length)];
+    }
+
+    /**
+     * @return scheduler shared by all connections of the group.
+     */
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @return amount of the selector threads.
+     */
+    public int getThreadCount() {
+        return eventLoops.length;
+    }
+
+    /**
+     * Stops all selector threads and the scheduler. Connections still served by the group are closed.
+     */
+    public void shutdown() {
+        for (EventLoop eventLoop : eventLoops) {
+            eventLoop.shutdown();
+        }
+        scheduler.shutdownNow();
+    }
+}
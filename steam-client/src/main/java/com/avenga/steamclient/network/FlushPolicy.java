@@ -0,0 +1,20 @@
+package com.avenga.steamclient.network;
+
+/**
+ * Defines when queued outgoing frames of {@link NioTcpConnection} are written to the socket.
+ */
+public enum FlushPolicy {
+
+    /**
+     * Frames are written as soon as they are queued. Frames queued while a write is in progress are written
+     * together with the next gathering write.
+     */
+    IMMEDIATE,
+
+    /**
+     * The first queued frame schedules a write after the configured flush delay, so bursts of frames are written
+     * with a single gathering write. Requires connections served by an {@link EventLoopGroup}, other connections
+     * write frames immediately.
+     */
+    MICRO_BATCH
+}
@@ -1,7 +1,23 @@
 package com.avenga.steamclient.network;
 
+import com.avenga.steamclient.util.LeasedBuffer;
+
 public interface INetFilterEncryption {
 
     byte[] processIncoming(byte[] data);
     byte[] processOutgoing(byte[] data);
+
+    /**
+     * Encrypts the outgoing data and releases its buffer.
+     *
+     * @param data leased buffer with the plaintext.
+     * @return leased buffer with the encrypted data.
+     */
+    default LeasedBuffer processOutgoing(LeasedBuffer data) {
+        try {
+            return LeasedBuffer.wrap(processOutgoing(data.toByteArray()));
+        } finally {
+            data.release();
+        }
+    }
 }
@@ -1,7 +1,11 @@
 package com.avenga.steamclient.network;
 
-import com.avenga.steamclient.crypto.CryptoHelper;
+import com.avenga.steamclient.crypto.JdkCryptoBackend;
+import com.avenga.steamclient.crypto.SessionCipher;
+import com.avenga.steamclient.crypto.SymmetricCryptoBackend;
 import com.avenga.steamclient.exception.CryptoException;
+import com.avenga.steamclient.util.BufferPool;
+import com.avenga.steamclient.util.LeasedBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -11,19 +15,23 @@ public class NetFilterEncryption implements INetFilterEncryption {
 
     private static final int AES_KEY_LENGTH = 32;
 
-    private final byte[] sessionKey;
+    private final SessionCipher sessionCipher;
 
     public NetFilterEncryption(byte[] sessionKey) {
+        this(sessionKey, new JdkCryptoBackend());
+    }
+
+    public NetFilterEncryption(byte[] sessionKey, SymmetricCryptoBackend cryptoBackend) {
         if (sessionKey.length != AES_KEY_LENGTH) {
             LOGGER.debug("AES session key was not " + AES_KEY_LENGTH + " bytes!");
         }
-        this.sessionKey = sessionKey;
+        this.sessionCipher = new SessionCipher(sessionKey, null, cryptoBackend);
     }
 
     @Override
     public byte[] processIncoming(byte[] data) {
         try {
-            return CryptoHelper.symmetricDecrypt(data, sessionKey);
+            return sessionCipher.decrypt(data);
         } catch (CryptoException e) {
             throw new IllegalStateException("Unable to decrypt incoming packet", e);
         }
@@ -32,9 +40,23 @@ public class NetFilterEncryption implements INetFilterEncryption {
     @Override
     public byte[] processOutgoing(byte[] data) {
         try {
-            return CryptoHelper.symmetricEncrypt(data, sessionKey);
+            return sessionCipher.encrypt(data);
+        } catch (CryptoException e) {
+            throw new IllegalStateException("Unable to encrypt outgoing packet", e);
+        }
+    }
+
+    @Override
+    public LeasedBuffer processOutgoing(LeasedBuffer data) {
+        var output = BufferPool.acquire(SessionCipher.getEncryptedSize(data.getLength()));
+        try {
+            sessionCipher.encrypt(data.getArray(), 0, data.getLength(), output.getArray(), 0);
+            return output;
         } catch (CryptoException e) {
+            output.release();
             throw new IllegalStateException("Unable to encrypt outgoing packet", e);
+        } finally {
+            data.release();
         }
     }
 }
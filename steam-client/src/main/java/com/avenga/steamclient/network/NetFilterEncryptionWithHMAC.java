@@ -1,7 +1,11 @@
 package com.avenga.steamclient.network;
 
-import com.avenga.steamclient.crypto.CryptoHelper;
+import com.avenga.steamclient.crypto.JdkCryptoBackend;
+import com.avenga.steamclient.crypto.SessionCipher;
+import com.avenga.steamclient.crypto.SymmetricCryptoBackend;
 import com.avenga.steamclient.exception.CryptoException;
+import com.avenga.steamclient.util.BufferPool;
+import com.avenga.steamclient.util.LeasedBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,22 +16,25 @@ public class NetFilterEncryptionWithHMAC implements INetFilterEncryption {
     private static final int AES_KEY_LENGTH = 32;
     private static final int IV_LENGTH = 16;
 
-    private final byte[] sessionKey;
-    private final byte[] hmacSecret;
+    private final SessionCipher sessionCipher;
 
     public NetFilterEncryptionWithHMAC(byte[] sessionKey) {
+        this(sessionKey, new JdkCryptoBackend());
+    }
+
+    public NetFilterEncryptionWithHMAC(byte[] sessionKey, SymmetricCryptoBackend cryptoBackend) {
         if (sessionKey.length != AES_KEY_LENGTH) {
             LOGGER.debug("AES session key was not " + AES_KEY_LENGTH + " bytes!");
         }
-        this.sessionKey = sessionKey;
-        this.hmacSecret = new byte[IV_LENGTH];
+        byte[] hmacSecret = new byte[IV_LENGTH];
         System.arraycopy(sessionKey, 0, hmacSecret, 0, hmacSecret.length);
+        this.sessionCipher = new SessionCipher(sessionKey, hmacSecret, cryptoBackend);
     }
 
     @Override
     public byte[] processIncoming(byte[] data) {
         try {
-            return CryptoHelper.symmetricDecryptHMACIV(data, sessionKey, hmacSecret);
+            return sessionCipher.decrypt(data);
         } catch (CryptoException e) {
             throw new IllegalStateException("Unable to decrypt incoming packet", e);
         }
@@ -36,9 +43,23 @@ public class NetFilterEncryptionWithHMAC implements INetFilterEncryption {
     @Override
     public byte[] processOutgoing(byte[] data) {
         try {
-            return CryptoHelper.symmetricEncryptWithHMACIV(data, sessionKey, hmacSecret);
+            return sessionCipher.encrypt(data);
+        } catch (CryptoException e) {
+            throw new IllegalStateException("Unable to encrypt outgoing packet", e);
+        }
+    }
+
+    @Override
+    public LeasedBuffer processOutgoing(LeasedBuffer data) {
+        var output = BufferPool.acquire(SessionCipher.getEncryptedSize(data.getLength()));
+        try {
+            sessionCipher.encrypt(data.getArray(), 0, data.getLength(), output.getArray(), 0);
+            return output;
         } catch (CryptoException e) {
+            output.release();
             throw new IllegalStateException("Unable to encrypt outgoing packet", e);
+        } finally {
+            data.release();
         }
     }
 }
@@ -0,0 +1,533 @@
+package com.avenga.steamclient.network;
+
+import com.avenga.steamclient.enums.ProtocolType;
+import com.avenga.steamclient.util.LeasedBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.avenga.steamclient.network.TcpFrameReader.HEADER_SIZE;
+import static com.avenga.steamclient.network.TcpFrameReader.MAGIC;
+
+/**
+ * TCP transport built on top of {@link SocketChannel}. Unlike {@link TcpConnection} it does not poll the socket,
+ * packets are raised with {@link #onNetMsgReceived(NetMsgEventArgs)} as soon as a whole frame (length + "VT01"
+ * magic + body) has arrived.
+ * Without {@link EventLoopGroup} the connection uses a dedicated reader thread blocked on the channel, otherwise the
+ * channel is non-blocking and served by one of the selector threads of the group.
+ * Proxies are not supported by {@link SocketChannel}, so proxied connections should still use {@link TcpConnection}.
+ * {@link LeasedBuffer Leased buffers} are queued without copying and released once their frame is written or dropped.
+ */
+public class NioTcpConnection extends Connection {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NioTcpConnection.class);
+
+    private final EventLoopGroup eventLoopGroup;
+
+    private final TcpFrameReader frameReader = new TcpFrameReader();
+
+    private static final int MAX_GATHERED_BUFFERS = 64;
+
+    private final FlushPolicy flushPolicy;
+
+    private final long flushDelay;
+
+    private final OutboundQueueMetrics outboundQueueMetrics;
+
+    /**
+     * Multi-producer queue of the framed messages.
+     */
+    private final Queue<OutboundFrame> outboundQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Frames taken from the queue but not fully written yet. Accessed only by the thread which drains the queue.
+     */
+    private final Deque<OutboundFrame> unflushedFrames = new ArrayDeque<>();
+
+    private final ByteBuffer[] gatheredBuffers = new ByteBuffer[MAX_GATHERED_BUFFERS];
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private volatile SocketChannel channel;
+
+    private InetSocketAddress currentEndPoint;
+
+    private EventLoop eventLoop;
+
+    private SelectionKey selectionKey;
+
+    private ScheduledFuture<?> connectTimeout;
+
+    private volatile boolean userRequestedDisconnect;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private boolean isConnectionFailure;
+
+    private final Object netLock = new Object();
+
+    public NioTcpConnection(String clientName) {
+        this(clientName, null);
+    }
+
+    /**
+     * @param clientName     client name for logger.
+     * @param eventLoopGroup group to serve the connection, or {@code null} to use a dedicated reader thread.
+     */
+    public NioTcpConnection(String clientName, EventLoopGroup eventLoopGroup) {
+        this(clientName, eventLoopGroup, FlushPolicy.IMMEDIATE, 0, new OutboundQueueMetrics());
+    }
+
+    /**
+     * @param clientName           client name for logger.
+     * @param eventLoopGroup       group to serve the connection, or {@code null} to use a dedicated reader thread.
+     * @param flushPolicy          policy of writing queued frames, {@link FlushPolicy#MICRO_BATCH} requires the event
+     *                             loop group and falls back to {@link FlushPolicy#IMMEDIATE} without it.
+     * @param flushDelay           delay in milliseconds of the {@link FlushPolicy#MICRO_BATCH} policy.
+     * @param outboundQueueMetrics metrics to update.
+     */
+    public NioTcpConnection(String clientName, EventLoopGroup eventLoopGroup, FlushPolicy flushPolicy, long flushDelay,
+                            OutboundQueueMetrics outboundQueueMetrics) {
+        this.clientName = clientName;
+        this.eventLoopGroup = eventLoopGroup;
+        this.flushPolicy = getFlushPolicy(clientName, eventLoopGroup, flushPolicy);
+        this.flushDelay = flushDelay;
+        this.outboundQueueMetrics = outboundQueueMetrics;
+    }
+
+    @Override
+    public void connect(InetSocketAddress endPoint, int timeout) {
+        if (Objects.isNull(eventLoopGroup)) {
+            connectBlocking(endPoint, timeout);
+        } else {
+            connectNonBlocking(endPoint, timeout);
+        }
+    }
+
+    @Override
+    public void disconnect() {
+        userRequestedDisconnect = true;
+        if (Objects.isNull(eventLoop)) {
+            closeChannel();
+        } else {
+            eventLoop.execute(() -> release(true));
+        }
+    }
+
+    @Override
+    public void send(byte[] data) {
+        send(LeasedBuffer.wrap(data));
+    }
+
+    @Override
+    public void send(LeasedBuffer data) {
+        if (channel == null) {
+            LOGGER.debug("{}: Attempting to send client data when not connected.", clientName);
+            data.release();
+            return;
+        }
+
+        outboundQueue.offer(new OutboundFrame(data));
+        outboundQueueMetrics.frameQueued();
+
+        if (flushPolicy == FlushPolicy.MICRO_BATCH && flushDelay > 0) {
+            // frames queued until the scheduled flush starts are written together with this one
+            if (flushScheduled.compareAndSet(false, true)) {
+                eventLoopGroup.getScheduler().schedule(this::scheduledFlush, flushDelay, TimeUnit.MILLISECONDS);
+            }
+        } else if (Objects.nonNull(eventLoop)) {
+            if (flushScheduled.compareAndSet(false, true)) {
+                eventLoop.execute(this::scheduledFlush);
+            }
+        } else {
+            drainBlocking();
+        }
+    }
+
+    @Override
+    public boolean isLeasedBufferSupported() {
+        return true;
+    }
+
+    @Override
+    public InetAddress getLocalIP() {
+        var currentChannel = channel;
+        return currentChannel == null ? null : currentChannel.socket().getLocalAddress();
+    }
+
+    @Override
+    public InetSocketAddress getCurrentEndPoint() {
+        return currentEndPoint;
+    }
+
+    @Override
+    public ProtocolType getProtocolTypes() {
+        return ProtocolType.TCP;
+    }
+
+    private void connectBlocking(InetSocketAddress endPoint, int timeout) {
+        Thread netThread;
+        synchronized (netLock) {
+            currentEndPoint = endPoint;
+            userRequestedDisconnect = false;
+            released.set(false);
+            try {
+                LOGGER.debug("{}: Connecting to {} ...", clientName, currentEndPoint);
+                channel = SocketChannel.open();
+                channel.socket().connect(endPoint, timeout);
+                channel.socket().setTcpNoDelay(true);
+
+                netThread = new Thread(this::readLoop, "NioTcpConnection");
+            } catch (IOException e) {
+                LOGGER.debug("{}: Socket exception while completing connection request to {}: {}",
+                        clientName, currentEndPoint, e.toString());
+                checkAndSetConnectionFailure(e);
+                release(false);
+                return;
+            }
+        }
+
+        LOGGER.debug("{}: Connected to {}", clientName, currentEndPoint);
+        netThread.start();
+        onConnected();
+    }
+
+    private void connectNonBlocking(InetSocketAddress endPoint, int timeout) {
+        boolean connectedImmediately;
+        synchronized (netLock) {
+            currentEndPoint = endPoint;
+            userRequestedDisconnect = false;
+            released.set(false);
+            eventLoop = eventLoopGroup.next();
+            try {
+                LOGGER.debug("{}: Connecting to {} ...", clientName, currentEndPoint);
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                connectedImmediately = channel.connect(endPoint);
+            } catch (IOException e) {
+                LOGGER.debug("{}: Socket exception while completing connection request to {}: {}",
+                        clientName, currentEndPoint, e.toString());
+                checkAndSetConnectionFailure(e);
+                eventLoop.execute(() -> release(false));
+                return;
+            }
+
+            connectTimeout = eventLoopGroup.getScheduler().schedule(() -> eventLoop.execute(this::checkConnectTimeout),
+                    timeout, TimeUnit.MILLISECONDS);
+        }
+
+        eventLoop.execute(() -> register(connectedImmediately));
+    }
+
+    private void register(boolean connectedImmediately) {
+        var currentChannel = channel;
+        if (currentChannel == null) {
+            return;
+        }
+
+        try {
+            selectionKey = eventLoop.register(currentChannel, connectedImmediately ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT,
+                    this::handleSelectedKey);
+        } catch (ClosedChannelException e) {
+            release(userRequestedDisconnect);
+            return;
+        }
+
+        if (connectedImmediately) {
+            connectionCompleted();
+        }
+    }
+
+    private void checkConnectTimeout() {
+        var currentChannel = channel;
+        if (currentChannel != null && !currentChannel.isConnected()) {
+            LOGGER.debug("{}: Timed out while connecting to {}", clientName, currentEndPoint);
+            release(false);
+        }
+    }
+
+    private void handleSelectedKey(SelectionKey key) {
+        if (key.isConnectable()) {
+            try {
+                if (!channel.finishConnect()) {
+                    return;
+                }
+            } catch (IOException e) {
+                LOGGER.debug("{}: Socket exception while completing connection request to {}: {}",
+                        clientName, currentEndPoint, e.toString());
+                checkAndSetConnectionFailure(e);
+                release(false);
+                return;
+            }
+            key.interestOps(SelectionKey.OP_READ);
+            connectionCompleted();
+        }
+
+        if (key.isValid() && key.isReadable()) {
+            readAvailableFrames();
+        }
+
+        if (key.isValid() && key.isWritable()) {
+            flush();
+        }
+    }
+
+    private void connectionCompleted() {
+        connectTimeout.cancel(false);
+        LOGGER.debug("{}: Connected to {}", clientName, currentEndPoint);
+        onConnected();
+        flush();
+    }
+
+    private void readAvailableFrames() {
+        try {
+            byte[] packetData;
+            while ((packetData = frameReader.read(channel)) != null) {
+                onNetMsgReceived(new NetMsgEventArgs(packetData, currentEndPoint));
+                if (channel == null) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("{}: Socket exception occurred while reading packet {}", clientName, e.toString());
+            release(userRequestedDisconnect);
+        }
+    }
+
+    private void scheduledFlush() {
+        if (Objects.nonNull(eventLoop) && !eventLoop.inEventLoop()) {
+            eventLoop.execute(this::scheduledFlush);
+            return;
+        }
+
+        flushScheduled.set(false);
+        if (Objects.nonNull(eventLoop)) {
+            flush();
+        } else {
+            drainBlocking();
+        }
+    }
+
+    /**
+     * Writes queued frames from the event loop thread, waits for {@link SelectionKey#OP_WRITE} if the socket buffer is full.
+     */
+    private void flush() {
+        var currentChannel = channel;
+        if (currentChannel == null || !currentChannel.isConnected()) {
+            return;
+        }
+
+        try {
+            boolean completed = writeQueued(currentChannel);
+            selectionKey.interestOps(completed ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        } catch (IOException e) {
+            LOGGER.debug("{}: Socket exception while writing data {}", clientName, e.toString());
+            releaseUnflushedFrames();
+            release(false);
+        }
+    }
+
+    /**
+     * Writes queued frames of the blocking channel. The sender which acquires the drain lock writes frames of all other
+     * senders as well, the rest return immediately instead of waiting for the lock.
+     */
+    private void drainBlocking() {
+        do {
+            if (!drainLock.tryLock()) {
+                return;
+            }
+
+            try {
+                var currentChannel = channel;
+                if (currentChannel == null) {
+                    return;
+                }
+                writeQueued(currentChannel);
+            } catch (IOException e) {
+                LOGGER.debug("{}: Socket exception while writing data {}", clientName, e.toString());
+                releaseUnflushedFrames();
+                closeChannel();
+                return;
+            } finally {
+                drainLock.unlock();
+            }
+        } while (!outboundQueue.isEmpty());
+    }
+
+    /**
+     * Writes as many queued frames as possible with gathering writes.
+     *
+     * @param currentChannel channel to write to.
+     * @return <b>true</b> if all queued frames were written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private boolean writeQueued(SocketChannel currentChannel) throws IOException {
+        while (true) {
+            int count = 0;
+            for (OutboundFrame frame : unflushedFrames) {
+                if (count + 2 > MAX_GATHERED_BUFFERS) {
+                    break;
+                }
+                count = frame.gather(gatheredBuffers, count);
+            }
+
+            int dequeued = 0;
+            OutboundFrame frame;
+            while (count + 2 <= MAX_GATHERED_BUFFERS && (frame = outboundQueue.poll()) != null) {
+                dequeued++;
+                unflushedFrames.addLast(frame);
+                count = frame.gather(gatheredBuffers, count);
+            }
+            outboundQueueMetrics.framesDequeued(dequeued);
+
+            if (count == 0) {
+                return true;
+            }
+
+            long written = currentChannel.write(gatheredBuffers, 0, count);
+            outboundQueueMetrics.flushed(written);
+            Arrays.fill(gatheredBuffers, 0, count, null);
+
+            while (!unflushedFrames.isEmpty() && !unflushedFrames.peekFirst().body.hasRemaining()) {
+                unflushedFrames.pollFirst().data.release();
+            }
+
+            if (!unflushedFrames.isEmpty() && written == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Releases frames which won't be written because the channel failed. Called by the thread which drains the queue.
+     */
+    private void releaseUnflushedFrames() {
+        OutboundFrame frame;
+        while ((frame = unflushedFrames.pollFirst()) != null) {
+            frame.data.release();
+        }
+    }
+
+    private static FlushPolicy getFlushPolicy(String clientName, EventLoopGroup eventLoopGroup, FlushPolicy flushPolicy) {
+        if (Objects.isNull(flushPolicy)) {
+            return FlushPolicy.IMMEDIATE;
+        }
+        // blocking writes of the delayed flushes would run on a thread shared by all connections
+        if (flushPolicy == FlushPolicy.MICRO_BATCH && Objects.isNull(eventLoopGroup)) {
+            LOGGER.debug("{}: Micro-batched flushes require an event loop group, frames are written immediately",
+                    clientName);
+            return FlushPolicy.IMMEDIATE;
+        }
+        return flushPolicy;
+    }
+
+    private void readLoop() {
+        var currentChannel = channel;
+
+        try {
+            while (currentChannel.isOpen()) {
+                // the channel is blocking, so the frame is always complete
+                onNetMsgReceived(new NetMsgEventArgs(frameReader.read(currentChannel), currentEndPoint));
+            }
+        } catch (AsynchronousCloseException e) {
+            LOGGER.debug("{}: Socket channel closed while reading", clientName);
+        } catch (IOException e) {
+            LOGGER.debug("{}: Socket exception occurred while reading packet {}", clientName, e.toString());
+        }
+
+        release(userRequestedDisconnect);
+    }
+
+    private void closeChannel() {
+        var currentChannel = channel;
+        if (currentChannel != null) {
+            try {
+                currentChannel.close();
+            } catch (IOException e) {
+                LOGGER.debug("{}: Socket close exception: {}", clientName, e.toString());
+            }
+        }
+    }
+
+    private void release(boolean userRequestedDisconnect) {
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+
+        synchronized (netLock) {
+            closeChannel();
+            channel = null;
+            int dropped = 0;
+            OutboundFrame frame;
+            while ((frame = outboundQueue.poll()) != null) {
+                frame.data.release();
+                dropped++;
+            }
+            outboundQueueMetrics.framesDequeued(dropped);
+            if (connectTimeout != null) {
+                connectTimeout.cancel(false);
+            }
+        }
+
+        onDisconnected(userRequestedDisconnect, isConnectionFailure);
+    }
+
+    private void checkAndSetConnectionFailure(Exception exception) {
+        if (exception instanceof SocketException) {
+            this.isConnectionFailure = true;
+        }
+    }
+
+    /**
+     * Framed message: length and magic header followed by the leased body.
+     */
+    private static final class OutboundFrame {
+        private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final ByteBuffer body;
+        private final LeasedBuffer data;
+
+        private OutboundFrame(LeasedBuffer data) {
+            this.data = data;
+            this.body = data.toByteBuffer();
+            header.putInt(data.getLength()).putInt(MAGIC).flip();
+        }
+
+        /**
+         * Adds buffers of the frame which still have data to write.
+         *
+         * @param buffers buffers of the gathering write.
+         * @param offset  index of the first free element.
+         * @return index of the next free element.
+         */
+        private int gather(ByteBuffer[] buffers, int offset) {
+            if (header.hasRemaining()) {
+                buffers[offset++] = header;
+            }
+            buffers[offset++] = body;
+            return offset;
+        }
+    }
+}
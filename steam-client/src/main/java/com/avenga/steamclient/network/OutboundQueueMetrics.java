@@ -0,0 +1,78 @@
+package com.avenga.steamclient.network;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the outbound frame queue of the TCP transport. Shared by all connections opened by one client.
+ */
+public class OutboundQueueMetrics {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    private final LongAdder queuedFrames = new LongAdder();
+
+    private final LongAdder flushCount = new LongAdder();
+
+    private final LongAdder flushedBytes = new LongAdder();
+
+    void frameQueued() {
+        queuedFrames.increment();
+        int depth = queueDepth.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    void framesDequeued(int count) {
+        queueDepth.addAndGet(-count);
+    }
+
+    void flushed(long bytes) {
+        flushCount.increment();
+        flushedBytes.add(bytes);
+    }
+
+    /**
+     * @return amount of frames waiting to be written.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the highest observed amount of frames waiting to be written.
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * @return total amount of queued frames.
+     */
+    public long getQueuedFrames() {
+        return queuedFrames.sum();
+    }
+
+    /**
+     * @return total amount of socket writes.
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    /**
+     * @return total amount of written bytes.
+     */
+    public long getFlushedBytes() {
+        return flushedBytes.sum();
+    }
+
+    /**
+     * @return average amount of bytes written by a single socket write.
+     */
+    public double getAverageBytesPerFlush() {
+        long count = flushCount.sum();
+        return count == 0 ? 0 : (double) flushedBytes.sum() / count;
+    }
+}
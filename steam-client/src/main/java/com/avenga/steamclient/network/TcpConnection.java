@@ -6,6 +6,7 @@ import com.avenga.steamclient.util.stream.BinaryWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.net.*;
 import java.util.Objects;
@@ -16,6 +17,8 @@ public class TcpConnection extends Connection {
 
     private static final int MAGIC = 0x31305456; // "VT01"
 
+    private static final int READ_BUFFER_SIZE = 32 * 1024;
+
     private Socket socket;
 
     private InetSocketAddress currentEndPoint;
@@ -40,6 +43,11 @@ public class TcpConnection extends Connection {
     }
 
     private void shutdown() {
+        // socket is already released if the connection was closed by the remote side
+        if (socket == null) {
+            return;
+        }
+
         try {
             if (socket.isConnected()) {
                 socket.shutdownInput();
@@ -61,7 +69,7 @@ public class TcpConnection extends Connection {
 
         try {
             synchronized (netLock) {
-                netReader = new BinaryReader(socket.getInputStream());
+                netReader = new BinaryReader(new BufferedInputStream(socket.getInputStream(), READ_BUFFER_SIZE));
                 netWriter = new BinaryWriter(socket.getOutputStream());
 
                 netLoop = new NetLoop();
@@ -134,6 +142,7 @@ public class TcpConnection extends Connection {
         synchronized (netLock) {
             if (netLoop != null) {
                 netLoop.stop(true);
+                shutdown();
             }
         }
     }
@@ -168,6 +177,7 @@ public class TcpConnection extends Connection {
                 // afaik read also throws an exception if the connection is open but there is nothing to read
                 if (netLoop != null) {
                     netLoop.stop(false);
+                    shutdown();
                 }
             }
         }
@@ -194,8 +204,6 @@ public class TcpConnection extends Connection {
      * Nets the loop.
      */
     private class NetLoop implements Runnable {
-        private static final int POLL_MS = 100;
-
         private volatile boolean cancelRequested = false;
 
         private volatile boolean userRequested = false;
@@ -208,40 +216,17 @@ public class TcpConnection extends Connection {
         @Override
         public void run() {
             while (!cancelRequested) {
-                try {
-                    Thread.sleep(POLL_MS);
-                } catch (InterruptedException e) {
-                    LOGGER.debug("{}: Thread interrupted {}", clientName, e.toString());
-                }
-
-                if (cancelRequested) {
-                    break;
-                }
-
-                boolean canRead;
-
-                try {
-                    canRead = netReader.available() > 0;
-                } catch (IOException e) {
-                    LOGGER.debug("{}: Socket exception while polling {}", clientName, e.toString());
-                    break;
-                }
-
-                if (!canRead) {
-                    // nothing to read yet
-                    continue;
-                }
-
                 byte[] packData;
 
                 try {
+                    // blocks until the next frame arrives or the socket is shut down by disconnect()
                     packData = readPacket();
-
-                    onNetMsgReceived(new NetMsgEventArgs(packData, currentEndPoint));
                 } catch (IOException e) {
                     LOGGER.debug("{}: Socket exception occurred while reading packet {}", clientName, e.toString());
                     break;
                 }
+
+                onNetMsgReceived(new NetMsgEventArgs(packData, currentEndPoint));
             }
 
             if (cancelRequested) {
@@ -0,0 +1,90 @@
+package com.avenga.steamclient.network;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Reads length + "VT01" magic framed packets from a channel. Works with both blocking and non-blocking channels,
+ * for the latter a partially received frame is kept until the rest of it arrives.
+ * The channel is read in bulk into a reusable buffer, so several small frames cost a single read. Bodies which
+ * are larger than the buffer are read straight into the frame array.
+ */
+class TcpFrameReader {
+
+    static final int MAGIC = 0x31305456; // "VT01"
+
+    static final int HEADER_SIZE = 8;
+
+    private static final int READ_BUFFER_SIZE = 32 * 1024;
+
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN).flip();
+
+    private ByteBuffer body;
+
+    /**
+     * Reads the next frame, from already buffered data if possible.
+     *
+     * @param channel channel to read from.
+     * @return frame body or {@code null} if the frame is not complete yet and the channel has no more data.
+     * @throws IOException if the channel reached the end of stream or the frame is invalid.
+     */
+    byte[] read(ReadableByteChannel channel) throws IOException {
+        while (true) {
+            var packetData = decode();
+            if (packetData != null) {
+                return packetData;
+            }
+
+            int read;
+            if (body != null && body.remaining() >= READ_BUFFER_SIZE) {
+                read = channel.read(body);
+            } else {
+                readBuffer.compact();
+                read = channel.read(readBuffer);
+                readBuffer.flip();
+            }
+
+            if (read < 0) {
+                throw new EOFException();
+            }
+            if (read == 0) {
+                return null;
+            }
+        }
+    }
+
+    private byte[] decode() throws IOException {
+        if (body == null) {
+            if (readBuffer.remaining() < HEADER_SIZE) {
+                return null;
+            }
+
+            int packetLength = readBuffer.getInt();
+            int packetMagic = readBuffer.getInt();
+
+            if (packetMagic != MAGIC) {
+                throw new IOException("Got a packet with invalid magic!");
+            }
+            if (packetLength < 0) {
+                throw new IOException("Got a packet with negative length!");
+            }
+
+            body = ByteBuffer.allocate(packetLength);
+        }
+
+        int count = Math.min(body.remaining(), readBuffer.remaining());
+        body.put(readBuffer.array(), readBuffer.position(), count);
+        readBuffer.position(readBuffer.position() + count);
+
+        if (body.hasRemaining()) {
+            return null;
+        }
+
+        var packetData = body.array();
+        body = null;
+        return packetData;
+    }
+}
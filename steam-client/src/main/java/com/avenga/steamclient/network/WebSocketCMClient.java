@@ -37,6 +37,13 @@ class WebSocketCMClient extends WebSocketClient {
     @Override
     public void onMessage(ByteBuffer bytes) {
         if (listener != null) {
+            // every frame gets its own buffer, so the backing array can be passed on when the frame fills it
+            if (bytes.hasArray() && bytes.arrayOffset() == 0 && bytes.position() == 0
+                    && bytes.remaining() == bytes.array().length) {
+                listener.onData(bytes.array());
+                return;
+            }
+
             byte[] data = new byte[bytes.remaining()];
             bytes.get(data);
             listener.onData(data);
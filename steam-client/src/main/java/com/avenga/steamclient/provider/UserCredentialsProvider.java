@@ -9,99 +9,228 @@ import java.time.Instant;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Scheduler of the Steam user credentials shared by the clients. Ready credentials are provided in the order they were
+ * returned, clients waiting for credentials are served in the order they asked for them.
+ * <p>
+ * Blocked credentials are kept in a {@link DelayQueue} ordered by their blocked time. The reset job takes every
+ * credential from the queue at its blocked time and hands it over to the waiting client at once.
+ * Permanently blocked credentials are never provided again.
+ */
 public class UserCredentialsProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(UserCredentialsProvider.class);
-    private static final int THREAD_SLEEP_TIME = 1;
-    private static final long BANNED_TIME_CHECK_PERIOD = 5;
 
-    private final ConcurrentLinkedQueue<LogOnDetailsRecord> credentialRecords;
-    private final List<LogOnDetailsRecord> bannedCredentialRecords;
-    private ScheduledExecutorService executor;
+    // guards ready credentials and waiting clients
+    private final Object lock = new Object();
+    private final Queue<LogOnDetailsRecord> credentialRecords = new LinkedList<>();
+    private final Queue<CompletableFuture<LogOnDetailsRecord>> waitingClients = new LinkedList<>();
+    private final DelayQueue<BlockedCredential> blockedCredentialRecords = new DelayQueue<>();
+    private final Set<LogOnDetailsRecord> permanentlyBlockedRecords = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
     private String clientName;
 
     public UserCredentialsProvider(List<LogOnDetails> logOnDetails) {
-        this.credentialRecords = new ConcurrentLinkedQueue<>();
-        this.bannedCredentialRecords = new LinkedList<>();
-
         logOnDetails.stream().map(LogOnDetailsRecord::new).forEach(this.credentialRecords::add);
         startResetBannedCredentialJob();
     }
 
-    public synchronized LogOnDetailsRecord getNext() {
-        LogOnDetailsRecord detailsRecord = null;
-        while (detailsRecord == null) {
-            detailsRecord = credentialRecords.poll();
-            if (detailsRecord == null) {
-                LOGGER.info("{}: Waiting for user credentials: {} second(s)", clientName, THREAD_SLEEP_TIME);
-                try {
-                    TimeUnit.SECONDS.sleep(THREAD_SLEEP_TIME);
-                } catch (InterruptedException e) {
-                    LOGGER.error(e.getMessage(), e);
+    /**
+     * Provides the next ready credentials, waits until credentials become ready if there are none.
+     *
+     * @return credentials which should be given back with {@link #returnKey(LogOnDetailsRecord)}.
+     */
+    public LogOnDetailsRecord getNext() {
+        var next = getNextAsync();
+        if (!next.isDone()) {
+            LOGGER.info("{}: Waiting for user credentials", clientName);
+        }
+        return next.join();
+    }
+
+    /**
+     * Provides the next ready credentials without blocking the calling thread. If there are no ready credentials, future
+     * completes as soon as credentials are returned or unblocked. Cancelled future gives up its place in the queue of
+     * the waiting clients.
+     *
+     * @return future of the credentials which should be given back with {@link #returnKey(LogOnDetailsRecord)}.
+     */
+    public CompletableFuture<LogOnDetailsRecord> getNextAsync() {
+        synchronized (lock) {
+            removeCancelledClients();
+            if (waitingClients.isEmpty()) {
+                var detailsRecord = credentialRecords.poll();
+                if (Objects.nonNull(detailsRecord)) {
+                    return CompletableFuture.completedFuture(detailsRecord);
                 }
             }
+
+            var waitingClient = new CompletableFuture<LogOnDetailsRecord>();
+            waitingClients.add(waitingClient);
+            return waitingClient;
         }
-        return detailsRecord;
     }
 
     public void returnKey(LogOnDetailsRecord detailsRecord) {
         if (detailsRecord.isBlocked()) {
             LOGGER.debug("{}: User {} was banned until: {}", clientName, detailsRecord.getLogOnDetails().getUsername(),
                     detailsRecord.getBlockedTime());
-            bannedCredentialRecords.add(detailsRecord);
+            blockedCredentialRecords.add(new BlockedCredential(detailsRecord));
         } else if (detailsRecord.isPermanentlyBlocked()) {
             LOGGER.debug("{}: User {} was permanently blocked", clientName, detailsRecord.getLogOnDetails().getUsername());
-            bannedCredentialRecords.add(detailsRecord);
+            permanentlyBlockedRecords.add(detailsRecord);
         } else {
             detailsRecord.resetRateLimitFailures();
-            credentialRecords.add(detailsRecord);
+            addReadyRecord(detailsRecord);
         }
     }
 
     public void returnBlockedKey(LogOnDetailsRecord detailsRecord) {
         LOGGER.debug("{}: User {} was blocked until: {}", clientName, detailsRecord.getLogOnDetails().getUsername(),
                 detailsRecord.getBlockedTime());
-        credentialRecords.remove(detailsRecord);
-        bannedCredentialRecords.add(detailsRecord);
+        synchronized (lock) {
+            credentialRecords.remove(detailsRecord);
+        }
+        blockedCredentialRecords.removeIf(blockedCredential -> blockedCredential.detailsRecord.equals(detailsRecord));
+        blockedCredentialRecords.add(new BlockedCredential(detailsRecord));
+    }
+
+    /**
+     * @return amount of credentials which can be provided right now.
+     */
+    public int getReadyCount() {
+        synchronized (lock) {
+            return credentialRecords.size();
+        }
+    }
+
+    /**
+     * @return amount of credentials blocked after log on rate limit was exceeded.
+     */
+    public int getRateLimitedCount() {
+        return (int) blockedCredentialRecords.stream()
+                .filter(blockedCredential -> blockedCredential.detailsRecord.getRateLimitFailuers() > 0)
+                .count();
+    }
+
+    /**
+     * @return amount of credentials of disabled accounts or accounts with invalid password, including permanently
+     * blocked credentials.
+     */
+    public int getDisabledCount() {
+        return permanentlyBlockedRecords.size() + (int) blockedCredentialRecords.stream()
+                .filter(blockedCredential -> blockedCredential.detailsRecord.isUnavailable())
+                .count();
+    }
+
+    /**
+     * @return amount of temporary blocked credentials, including rate limited and disabled ones.
+     */
+    public int getBlockedCount() {
+        return blockedCredentialRecords.size();
+    }
+
+    /**
+     * @return amount of clients waiting for credentials.
+     */
+    public int getWaitingCount() {
+        synchronized (lock) {
+            removeCancelledClients();
+            return waitingClients.size();
+        }
     }
 
     public void stopResetBannedCredentialJob() {
-        executor.shutdown();
+        executor.shutdownNow();
     }
 
     public void startResetBannedCredentialJob() {
         if (Objects.nonNull(executor) && !executor.isShutdown()) {
             return;
         }
-        executor = Executors.newSingleThreadScheduledExecutor();
-        resetBannedUserCredentials();
+        executor = Executors.newSingleThreadExecutor();
+        executor.execute(this::resetBannedUserCredentials);
     }
 
     public void setClientName(String clientName) {
         this.clientName = clientName;
     }
 
+    private void addReadyRecord(LogOnDetailsRecord detailsRecord) {
+        CompletableFuture<LogOnDetailsRecord> waitingClient;
+        while (true) {
+            synchronized (lock) {
+                waitingClient = waitingClients.poll();
+                if (Objects.isNull(waitingClient)) {
+                    credentialRecords.add(detailsRecord);
+                    return;
+                }
+            }
+
+            // client is completed outside of the lock, the continuation of the client could ask for credentials again
+            if (waitingClient.complete(detailsRecord)) {
+                return;
+            }
+        }
+    }
+
+    private void removeCancelledClients() {
+        waitingClients.removeIf(CompletableFuture::isDone);
+    }
+
     private void resetBannedUserCredentials() {
-        var scheduledFuture = executor.scheduleAtFixedRate(() -> {
+        while (!Thread.currentThread().isInterrupted()) {
             try {
-                var currentTime = Instant.now();
-                var iterator = bannedCredentialRecords.listIterator();
-                while (iterator.hasNext()) {
-                    var record = iterator.next();
-                    if (Objects.nonNull(record.getBlockedTime()) && currentTime.isAfter(record.getBlockedTime())) {
-                        record.resetBlockedTime();
-                        credentialRecords.add(record);
-                        iterator.remove();
-                        LOGGER.debug("{}: User {} was removed from banned list", clientName, record.getLogOnDetails().getUsername());
-                    }
+                var detailsRecord = blockedCredentialRecords.take().detailsRecord;
+                var blockedTime = detailsRecord.getBlockedTime();
+                if (Objects.nonNull(blockedTime) && Instant.now().isBefore(blockedTime)) {
+                    // blocked time was prolonged after the credentials were queued
+                    blockedCredentialRecords.add(new BlockedCredential(detailsRecord));
+                    continue;
                 }
+
+                detailsRecord.resetBlockedTime();
+                LOGGER.debug("{}: User {} was removed from banned list", clientName, detailsRecord.getLogOnDetails().getUsername());
+                addReadyRecord(detailsRecord);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             } catch (Exception e) {
                 LOGGER.debug("{}: Exception in user credentials schedular task: {}", clientName, e.toString());
             }
-        }, THREAD_SLEEP_TIME, BANNED_TIME_CHECK_PERIOD, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Blocked credentials which expire at the blocked time they had when they were queued.
+     */
+    private static final class BlockedCredential implements Delayed {
+        private final LogOnDetailsRecord detailsRecord;
+        private final long deadline;
+
+        private BlockedCredential(LogOnDetailsRecord detailsRecord) {
+            this.detailsRecord = detailsRecord;
+            var blockedTime = detailsRecord.getBlockedTime();
+            var delay = Objects.isNull(blockedTime) ? 0 : blockedTime.toEpochMilli() - System.currentTimeMillis();
+            this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delay));
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadline, ((BlockedCredential) other).deadline);
+        }
     }
 }
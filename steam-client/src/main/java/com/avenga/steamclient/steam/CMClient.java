@@ -2,6 +2,7 @@ package com.avenga.steamclient.steam;
 
 import com.avenga.steamclient.base.*;
 import com.avenga.steamclient.enums.*;
+import com.avenga.steamclient.event.Event;
 import com.avenga.steamclient.event.EventArgs;
 import com.avenga.steamclient.event.EventHandler;
 import com.avenga.steamclient.model.SteamID;
@@ -12,10 +13,14 @@ import com.avenga.steamclient.network.*;
 import com.avenga.steamclient.protobufs.steamclient.SteammessagesClientserverLogin.CMsgClientHeartBeat;
 import com.avenga.steamclient.provider.SmartCMServerProvider;
 import com.avenga.steamclient.steam.handler.*;
+import com.avenga.steamclient.steam.route.PacketRouter;
 import com.avenga.steamclient.util.MessageUtil;
 import com.avenga.steamclient.util.ScheduledFunction;
+import com.avenga.steamclient.util.SharedExecutors;
 import com.avenga.steamclient.util.network.DebugNetworkListener;
 import com.avenga.steamclient.util.network.PacketDebugNetworkListener;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
@@ -28,8 +33,9 @@ import java.net.Proxy;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.avenga.steamclient.enums.EMsg.*;
 
@@ -86,10 +92,32 @@ public class CMClient {
 
     private Map<EServerType, Set<InetSocketAddress>> serverMap;
 
-    private final Map<EMsg, ClientPacketHandler> packetHandlers;
+    /**
+     * Routing table of the received packet messages. Internal handlers of the client are registered as observers,
+     * subclasses register handlers of their messages at setup.
+     */
+    private final PacketRouter packetRouter = new PacketRouter();
 
     private CompletableFuture<Boolean> disconnectCallback;
 
+    /**
+     * Connect waiting for the disconnection of the open connection, guarded by the connection lock. Connects called
+     * meanwhile are coalesced into it.
+     */
+    private PendingConnect pendingConnect;
+
+    private final AtomicReference<ConnectionState> connectionState = new AtomicReference<>(ConnectionState.DISCONNECTED);
+
+    /**
+     * Occurs when the {@link ConnectionState} of the client changes.
+     */
+    private final Event<ConnectionStateChangedEventArgs> connectionStateChanged = new Event<>();
+
+    /**
+     * Metrics of the outbound queue of TCP connections opened by this client.
+     */
+    private final OutboundQueueMetrics outboundQueueMetrics = new OutboundQueueMetrics();
+
     public CMClient(SteamConfiguration configuration, String clientName) {
         Objects.requireNonNull(configuration, "Steam configuration wasn't provided");
 
@@ -98,18 +126,17 @@ public class CMClient {
         this.configuration.setClientNameToServerProvider(clientName);
 
         this.serverMap = new HashMap<>();
-        this.heartBeatFunction = new ScheduledFunction(() ->
-                send(new ClientMessageProtobuf<CMsgClientHeartBeat.Builder>(CMsgClientHeartBeat.class, EMsg.ClientHeartBeat)),
-                HEART_BEAT_DELAY);
-
-        this.packetHandlers = Map.of(
-                Multi, new MultiClientPacketHandler(),
-                ClientLogOnResponse, new LogOnClientPacketHandler(),
-                ClientLoggedOff, new LoggedOffClientPacketHandler(),
-                ClientCMList, new CMListClientPacketHandler(),
-                ClientSessionToken, new SessionTokenClientPacketHandler(),
-                ClientNewLoginKey, new UserNewLoginKeyClientPacketHandler()
-        );
+        Runnable heartBeat = () ->
+                send(new ClientMessageProtobuf<CMsgClientHeartBeat.Builder>(CMsgClientHeartBeat.class, EMsg.ClientHeartBeat));
+        this.heartBeatFunction = Objects.isNull(configuration.getEventLoopGroup()) ? new ScheduledFunction(heartBeat, HEART_BEAT_DELAY)
+                : new ScheduledFunction(heartBeat, HEART_BEAT_DELAY, configuration.getEventLoopGroup().getScheduler());
+
+        addPacketHandler(Multi, new MultiClientPacketHandler());
+        addPacketHandler(ClientLogOnResponse, new LogOnClientPacketHandler());
+        addPacketHandler(ClientLoggedOff, new LoggedOffClientPacketHandler());
+        addPacketHandler(ClientCMList, new CMListClientPacketHandler());
+        addPacketHandler(ClientSessionToken, new SessionTokenClientPacketHandler());
+        addPacketHandler(ClientNewLoginKey, new UserNewLoginKeyClientPacketHandler());
     }
 
     /**
@@ -137,13 +164,23 @@ public class CMClient {
         connect(null);
     }
 
+    /**
+     * Connects this client to the CM server. If the client has an open connection, it is closed first and the new
+     * connection is opened after the disconnected event, without blocking the calling thread. Connects called before
+     * the disconnected event open single connection to the server of the last call. The open connection is dropped if
+     * the disconnected event doesn't occur within the {@link SteamConfiguration#getConnectionTimeout() connection timeout}.
+     *
+     * @param cmServer CM server to connect to or <b>null</b> to select the next server candidate.
+     */
     public void connect(ServerRecord cmServer) {
         synchronized (connectionLock) {
-            try {
-                initDisconnectAndWait();
-
-                assert connection != null;
+            if (Objects.nonNull(connection)) {
+                connectAfterDisconnect(cmServer);
+                return;
+            }
 
+            try {
+                setConnectionState(ConnectionState.CONNECTING);
                 expectDisconnection = false;
 
                 if (cmServer == null) {
@@ -157,6 +194,7 @@ public class CMClient {
                 connection.connect(cmServer.getEndpoint());
             } catch (Exception e) {
                 LOGGER.debug("{}: Failed to connect to Steam network {}", clientName, e.toString());
+                setConnectionState(ConnectionState.DISCONNECTED);
                 onClientDisconnected(false);
             }
         }
@@ -170,6 +208,7 @@ public class CMClient {
             heartBeatFunction.stop();
 
             if (connection != null) {
+                setConnectionState(ConnectionState.DRAINING);
                 connection.disconnect();
             }
         }
@@ -196,11 +235,7 @@ public class CMClient {
             }
         }
 
-        var handler = this.packetHandlers.get(packetMessage.getMessageType());
-
-        if (handler != null) {
-            handler.handle(packetMessage, this);
-        }
+        packetRouter.route(packetMessage);
 
         return true;
     }
@@ -224,26 +259,52 @@ public class CMClient {
 
         LOGGER.debug("{}: Sent -> EMsg: {} (Proto: {})", clientName, message.getMsgType(), message.isProto());
 
-        try {
+        // we'll swallow any network failures here because they will be thrown later
+        // on the network thread, and that will lead to a disconnect callback
+        // down the line
+
+        var currentConnection = connection;
+        if (currentConnection != null && currentConnection.isLeasedBufferSupported()) {
+            // the connection releases the pooled buffer after the data is written
+            var data = message.serializeLeased();
             if (Objects.nonNull(debugNetworkListener)) {
-                debugNetworkListener.onPacketMessageSent(message.getMsgType(), message.serialize());
+                notifyPacketMessageSent(message, data.toByteArray());
             }
-        } catch (Exception e) {
-            LOGGER.debug("{}: DebugNetworkListener threw an exception {}", clientName, e.toString());
+            currentConnection.send(data);
+            return;
         }
 
-        // we'll swallow any network failures here because they will be thrown later
-        // on the network thread, and that will lead to a disconnect callback
-        // down the line
+        byte[] data = message.serialize();
+        notifyPacketMessageSent(message, data);
 
-        if (connection != null) {
-            connection.send(message.serialize());
+        if (currentConnection != null) {
+            currentConnection.send(data);
+        }
+    }
+
+    private void notifyPacketMessageSent(ClientMessage message, byte[] data) {
+        try {
+            if (Objects.nonNull(debugNetworkListener)) {
+                debugNetworkListener.onPacketMessageSent(message.getMsgType(), data);
+            }
+        } catch (Exception e) {
+            LOGGER.debug("{}: DebugNetworkListener threw an exception {}", clientName, e.toString());
         }
     }
 
     public static PacketMessage getPacketMessage(byte[] data) {
-        if (data.length < 4) {
-            LOGGER.debug("PacketMsg too small to contain a message, was only {0} bytes. Message: 0x{1}");
+        return getPacketMessage(UnsafeByteOperations.unsafeWrap(data));
+    }
+
+    /**
+     * Creates packet message over the data slice without copying it.
+     *
+     * @param data slice of the Steam network data.
+     * @return packet message or <b>null</b> if the data can't be deserialized.
+     */
+    public static PacketMessage getPacketMessage(ByteString data) {
+        if (data.size() < 4) {
+            LOGGER.debug("PacketMsg too small to contain a message, was only {} bytes.", data.size());
             return null;
         }
 
@@ -271,6 +332,27 @@ public class CMClient {
     }
 
 
+    /**
+     * @return current lifecycle state of the connection.
+     */
+    public ConnectionState getConnectionState() {
+        return connectionState.get();
+    }
+
+    /**
+     * Changes lifecycle state of the connection and raises {@link #getConnectionStateChanged()} event if the state
+     * was changed.
+     *
+     * @param state new state of the connection.
+     */
+    public void setConnectionState(ConnectionState state) {
+        var previousState = connectionState.getAndSet(state);
+        if (previousState != state) {
+            LOGGER.debug("{}: Connection state changed: {} -> {}", clientName, previousState, state);
+            connectionStateChanged.handleEvent(this, new ConnectionStateChangedEventArgs(previousState, state));
+        }
+    }
+
     /**
      * @return Bootstrap list of CM servers.
      */
@@ -314,6 +396,10 @@ public class CMClient {
         checkAndReturnProxyToQueue();
     }
 
+    private void addPacketHandler(EMsg eMsg, ClientPacketHandler handler) {
+        packetRouter.addObserver(eMsg, packetMessage -> handler.handle(packetMessage, this));
+    }
+
     private Connection createConnection(EnumSet<ProtocolType> protocol) {
         var currentProxy = getCurrentProxy();
         LOGGER.debug("{}: Current proxy configuration: {}", clientName, currentProxy);
@@ -321,9 +407,15 @@ public class CMClient {
         if (protocol.contains(ProtocolType.WEB_SOCKET)) {
             return new WebSocketConnection(currentProxy, clientName);
         } else if (protocol.contains(ProtocolType.TCP)) {
-            return new EnvelopeEncryptedConnection(new TcpConnection(currentProxy, clientName), getUniverse());
+            Connection tcpConnection = Proxy.NO_PROXY.equals(currentProxy) ? new NioTcpConnection(clientName, configuration.getEventLoopGroup(),
+                    configuration.getFlushPolicy(), configuration.getFlushDelay(), outboundQueueMetrics)
+                    : new TcpConnection(currentProxy, clientName);
+            tcpConnection.getConnected().addEventHandler(transportConnected);
+            return new EnvelopeEncryptedConnection(tcpConnection, getUniverse(), configuration.getSymmetricCryptoBackend());
         } else if (protocol.contains(ProtocolType.UDP)) {
-            return new EnvelopeEncryptedConnection(new UdpConnection(clientName), getUniverse());
+            var udpConnection = new UdpConnection(clientName);
+            udpConnection.getConnected().addEventHandler(transportConnected);
+            return new EnvelopeEncryptedConnection(udpConnection, getUniverse(), configuration.getSymmetricCryptoBackend());
         }
 
         throw new IllegalArgumentException("Protocol bitmask has no supported protocols set.");
@@ -332,10 +424,14 @@ public class CMClient {
     private final EventHandler<NetMsgEventArgs> netMsgReceived = (sender, netMsgEventArgs) ->
             onClientMsgReceived(getPacketMessage(netMsgEventArgs.getData()));
 
+    private final EventHandler<EventArgs> transportConnected = (sender, eventArgs) ->
+            setConnectionState(ConnectionState.ENCRYPTING);
+
     private final EventHandler<EventArgs> connected = (sender, eventArgs) -> {
         getServers().tryMark(connection.getCurrentEndPoint(), connection.getProtocolTypes(), ServerQuality.GOOD);
 
         isConnected = true;
+        setConnectionState(ConnectionState.LOGGING_ON);
         onClientConnected();
     };
 
@@ -355,6 +451,7 @@ public class CMClient {
         connection = null;
 
         heartBeatFunction.stop();
+        setConnectionState(ConnectionState.DISCONNECTED);
 
         incrementCounterWhenConnectionFailure(disconnectedEventArgs.isConnectionFailure());
 
@@ -365,22 +462,47 @@ public class CMClient {
         }
     };
 
-    private void initDisconnectAndWait() {
-        if (Objects.nonNull(connection)) {
+    private void connectAfterDisconnect(ServerRecord cmServer) {
+        if (Objects.nonNull(pendingConnect)) {
+            pendingConnect.cmServer = cmServer;
+            return;
+        }
+
+        var pending = new PendingConnect(cmServer, connection);
+        pendingConnect = pending;
+        if (Objects.isNull(disconnectCallback) || disconnectCallback.isDone()) {
             disconnectCallback = new CompletableFuture<>();
-            disconnect();
-            try {
-                while (!disconnectCallback.isDone()) {
-                    TimeUnit.MILLISECONDS.sleep(300);
-                }
-                disconnectCallback.get();
-            } catch (InterruptedException | ExecutionException e) {
-                LOGGER.debug("{}: Disconnect callback was interupted {}", clientName, e.toString());
+        }
+        var callback = disconnectCallback;
+        disconnect();
+        callback.copy()
+                .orTimeout(configuration.getConnectionTimeout(), TimeUnit.MILLISECONDS)
+                .whenCompleteAsync((result, throwable) -> connectPending(pending, throwable), getTaskExecutor());
+    }
+
+    private void connectPending(PendingConnect pending, Throwable throwable) {
+        synchronized (connectionLock) {
+            if (pendingConnect != pending) {
+                return;
             }
-            disconnectCallback = null;
+            pendingConnect = null;
+            if (Objects.nonNull(throwable) && Objects.nonNull(connection) && connection == pending.connection) {
+                LOGGER.debug("{}: Connection wasn't closed within {} ms, dropping it before the reconnect", clientName,
+                        configuration.getConnectionTimeout());
+                disconnected.handleEvent(connection, new DisconnectedEventArgs(true));
+            }
+            connect(pending.cmServer);
         }
     }
 
+    /**
+     * @return executor of the client tasks which may block, like sending messages and connecting.
+     */
+    public Executor getTaskExecutor() {
+        var taskExecutor = configuration.getTaskExecutor();
+        return Objects.isNull(taskExecutor) ? SharedExecutors.getTaskExecutor() : taskExecutor;
+    }
+
     private Proxy getCurrentProxy() {
         this.currentProxyState = connectionProxies.poll();
         return Objects.isNull(currentProxyState) ? Proxy.NO_PROXY : currentProxyState.getProxy();
@@ -404,4 +526,14 @@ public class CMClient {
             }
         }
     }
+
+    private static final class PendingConnect {
+        private final Connection connection;
+        private volatile ServerRecord cmServer;
+
+        private PendingConnect(ServerRecord cmServer, Connection connection) {
+            this.cmServer = cmServer;
+            this.connection = connection;
+        }
+    }
 }
@@ -0,0 +1,14 @@
+package com.avenga.steamclient.steam;
+
+import com.avenga.steamclient.enums.ConnectionState;
+import com.avenga.steamclient.event.EventArgs;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ConnectionStateChangedEventArgs extends EventArgs {
+
+    private ConnectionState previousState;
+    private ConnectionState state;
+}
@@ -10,6 +10,8 @@ import com.avenga.steamclient.model.steam.ClientMessageHandler;
 import com.avenga.steamclient.protobufs.steamclient.SteammessagesClientserver.CMsgClientCMList;
 import com.avenga.steamclient.steam.CMClient;
 import com.avenga.steamclient.steam.asyncclient.callbackmanager.CallbackMessage;
+import com.avenga.steamclient.steam.asyncclient.callbackmanager.CallbackQueue;
+import com.avenga.steamclient.steam.asyncclient.callbackmanager.DefaultCallbackManager;
 import com.avenga.steamclient.steam.asyncclient.callbacks.CMListCallback;
 import com.avenga.steamclient.steam.asyncclient.callbacks.ConnectedCallback;
 import com.avenga.steamclient.steam.asyncclient.callbacks.DisconnectedCallback;
@@ -32,15 +34,15 @@ public class SteamClientAsync extends CMClient {
 
     private static final long DEFAULT_ID = 0;
 
+    private static final long WAIT_WITHOUT_TIMEOUT = -1;
+
     private AtomicLong currentJobId = new AtomicLong(DEFAULT_ID);
 
     private Instant processStartTime;
 
-    private final Object callbackLock = new Object();
-
-    private Queue<CallbackMessage> callbackQueue = new LinkedList<>();
+    private final CallbackQueue callbackQueue;
 
-    private Map<EMsg, Consumer<PacketMessage>> clientHandlers = new HashMap<>();
+    private Map<Class<? extends ClientMessageHandler>, Consumer<PacketMessage>> packetObservers = new HashMap<>();
 
     /**
      * Initializes a new instance of the {@link SteamClientAsync} class with the default configuration.
@@ -79,8 +81,10 @@ public class SteamClientAsync extends CMClient {
         super(configuration, clientName);
 
         processStartTime = Instant.now();
+        callbackQueue = new CallbackQueue(configuration.getCallbackQueueCapacity(), configuration.getCallbackWaitStrategy(),
+                configuration.getCallbackOverflowPolicy());
 
-        clientHandlers.put(EMsg.ClientCMList, this::handleCMList);
+        getPacketRouter().addObserver(EMsg.ClientCMList, this::handleCMList);
 
         addHandler(new SteamUserAsync());
         addHandler(new SteamGameServerAsync());
@@ -97,25 +101,7 @@ public class SteamClientAsync extends CMClient {
             return;
         }
 
-        synchronized (callbackLock) {
-            callbackQueue.offer(callbackMessage);
-            callbackLock.notify();
-        }
-    }
-
-    @Override
-    public boolean onClientMsgReceived(PacketMessage packetMessage) {
-        if (!super.onClientMsgReceived(packetMessage)) {
-            return false;
-        }
-
-        var clientHandler = clientHandlers.get(packetMessage.getMessageType());
-        if (clientHandler != null) {
-            clientHandler.accept(packetMessage);
-        }
-        handlers.forEach((clazz, handler) -> handler.handleMessage(packetMessage));
-
-        return true;
+        callbackQueue.offer(callbackMessage);
     }
 
     @Override
@@ -161,6 +147,15 @@ public class SteamClientAsync extends CMClient {
 
         handler.setup(this);
         handlers.put(handler.getClass(), handler);
+
+        var packetHandlers = handler.getPacketHandlers();
+        if (Objects.isNull(packetHandlers)) {
+            Consumer<PacketMessage> observer = handler::handleMessage;
+            packetObservers.put(handler.getClass(), observer);
+            getPacketRouter().addObserver(observer);
+        } else {
+            packetHandlers.forEach(getPacketRouter()::addObserver);
+        }
     }
 
     /**
@@ -169,7 +164,17 @@ public class SteamClientAsync extends CMClient {
      * @param handler The handler name to remove.
      */
     public void removeHandler(Class<? extends ClientMessageHandler> handler) {
-        handlers.remove(handler);
+        var removedHandler = handlers.remove(handler);
+        if (Objects.isNull(removedHandler)) {
+            return;
+        }
+
+        var observer = packetObservers.remove(handler);
+        if (Objects.nonNull(observer)) {
+            getPacketRouter().removeObserver(observer);
+        } else {
+            removedHandler.getPacketHandlers().forEach(getPacketRouter()::removeObserver);
+        }
     }
 
     /**
@@ -186,98 +191,81 @@ public class SteamClientAsync extends CMClient {
 
     /**
      * Gets the next callback object in the queue, and optionally frees it.
+     * <p>
+     * Callbacks have a single consumer: this method, {@link #waitForCallback(boolean, long)},
+     * {@link #getAllCallbacks(boolean, long)} and {@link #drainCallbacks(Consumer, long)} must not be called by several
+     * threads at the same time, e.g. by a {@link DefaultCallbackManager} and another polling thread.
      *
      * @param freeLast if set to <b>true</b> this function also frees the last callback if one existed.
      * @return The next callback in the queue, or null if no callback is waiting.
      */
     public CallbackMessage getCallback(boolean freeLast) {
-        synchronized (callbackLock) {
-            if (!callbackQueue.isEmpty()) {
-                return freeLast ? callbackQueue.poll() : callbackQueue.peek();
-            }
-        }
-
-        return null;
+        return freeLast ? callbackQueue.poll() : callbackQueue.peek();
     }
 
     /**
      * Blocks the calling thread until a callback object is posted to the queue, and optionally frees it.
+     * Must not be called concurrently with other consumers of the callbacks, see {@link #getCallback(boolean)}.
      *
      * @param freeLast if set to <b>true</b> this function also frees the last callback if one existed.
      * @return The callback object from the queue.
      */
     public CallbackMessage waitForCallback(boolean freeLast) {
-        synchronized (callbackLock) {
-            if (callbackQueue.isEmpty()) {
-                try {
-                    callbackLock.wait();
-                } catch (final InterruptedException e) {
-                    LOGGER.debug("{}: Exception during waiting callback {}", clientName, e.toString());
-                }
-
-                if (callbackQueue.isEmpty()) {
-                    return null;
-                }
-            }
-
-            return freeLast ? callbackQueue.poll() : callbackQueue.peek();
-        }
+        return waitForCallback(freeLast, WAIT_WITHOUT_TIMEOUT);
     }
 
     /**
      * Blocks the calling thread until a callback object is posted to the queue, and optionally frees it.
+     * Must not be called concurrently with other consumers of the callbacks, see {@link #getCallback(boolean)}.
      *
      * @param freeLast if set to <b>true</b> this function also frees the last callback if one existed.
-     * @param timeout  The length of time to block.
+     * @param timeout  The length of time to block in milliseconds, 0 blocks without timeout.
      * @return A callback object from the queue if a callback has been posted, or null if the timeout has elapsed.
      */
     public CallbackMessage waitForCallback(boolean freeLast, long timeout) {
-        synchronized (callbackLock) {
-            if (callbackQueue.isEmpty()) {
-                try {
-                    callbackLock.wait(timeout);
-                } catch (final InterruptedException e) {
-                    LOGGER.debug("{}: Exception during waiting callback {}", clientName, e.toString());
-                }
-            }
-
-            return freeLast ? callbackQueue.poll() : callbackQueue.peek();
+        if (!callbackQueue.await(timeout)) {
+            LOGGER.debug("{}: No callback was posted during waiting", clientName);
+            return null;
         }
+
+        return getCallback(freeLast);
     }
 
     /**
      * Blocks the calling thread until the queue contains a callback object. Returns all callbacks, and optionally frees them.
+     * Must not be called concurrently with other consumers of the callbacks, see {@link #getCallback(boolean)}.
      *
      * @param freeLast if set to <b>true</b> this function also frees all callbacks.
-     * @param timeout  The length of time to block.
+     * @param timeout  The length of time to block in milliseconds, 0 blocks without timeout.
      * @return All current callback objects in the queue.
      */
     public List<CallbackMessage> getAllCallbacks(boolean freeLast, long timeout) {
-        List<CallbackMessage> callbacks;
-
-        synchronized (callbackLock) {
-            if (callbackQueue.isEmpty()) {
-                try {
-                    callbackLock.wait(timeout);
-                } catch (InterruptedException e) {
-                    LOGGER.debug("{}: Exception during waiting all callback {}", clientName, e.toString());
-                }
-
-                if (callbackQueue.isEmpty()) {
-                    return new ArrayList<>();
-                }
-            }
-
-            callbacks = new ArrayList<>(callbackQueue);
+        List<CallbackMessage> callbacks = new ArrayList<>();
 
+        if (callbackQueue.await(timeout)) {
             if (freeLast) {
-                callbackQueue.clear();
+                callbackQueue.drainTo(callbacks::add);
+            } else {
+                callbackQueue.forEach(callbacks::add);
             }
         }
 
         return callbacks;
     }
 
+    /**
+     * Blocks the calling thread until the queue contains a callback object, then removes all callbacks queued at that
+     * moment and passes them to the consumer without copying them into a list. Must not be called concurrently with
+     * other consumers of the callbacks, see {@link #getCallback(boolean)}.
+     *
+     * @param consumer Consumer of the callbacks.
+     * @param timeout  The length of time to block in milliseconds, 0 blocks without timeout.
+     * @return Amount of the consumed callbacks.
+     */
+    public int drainCallbacks(Consumer<? super CallbackMessage> consumer, long timeout) {
+        return callbackQueue.await(timeout) ? callbackQueue.drainTo(consumer) : 0;
+    }
+
     private void handleCMList(PacketMessage packetMessage) {
         ClientMessageProtobuf<CMsgClientCMList.Builder> cmMsg = new ClientMessageProtobuf<>(CMsgClientCMList.class, packetMessage);
 
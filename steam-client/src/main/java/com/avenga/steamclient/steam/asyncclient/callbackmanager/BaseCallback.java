@@ -1,5 +1,7 @@
 package com.avenga.steamclient.steam.asyncclient.callbackmanager;
 
+import com.avenga.steamclient.model.JobID;
+
 /**
  * This is the base class for the utility {@link Callback} class.
  * This is for internal use only, and shouldn't be used directly.
@@ -7,5 +9,13 @@ package com.avenga.steamclient.steam.asyncclient.callbackmanager;
 public abstract class BaseCallback {
     abstract Class getCallbackType();
 
+    abstract JobID getJobID();
+
     abstract void run(Object genericCallback);
+
+    /**
+     * Runs the callback function without checking the type and job of the callback, which were already matched by
+     * the {@link CallbackManager}.
+     */
+    abstract void invoke(Object genericCallback);
 }
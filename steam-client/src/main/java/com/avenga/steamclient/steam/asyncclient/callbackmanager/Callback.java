@@ -45,17 +45,29 @@ public class Callback<TCall extends CallbackMessage> extends BaseCallback implem
         return callbackType;
     }
 
+    @Override
+    JobID getJobID() {
+        return jobID;
+    }
+
     @Override
     void run(Object genericCallback) {
         if (callbackType.isAssignableFrom(genericCallback.getClass())) {
-            TCall callback = (TCall) genericCallback;
+            TCall callback = callbackType.cast(genericCallback);
 
-            if ((callback.getJobID().equals(jobID) || jobID.equals(JobID.INVALID)) && onRun != null) {
-                onRun.accept(callback);
+            if (callback.getJobID().equals(jobID) || jobID.equals(JobID.INVALID)) {
+                invoke(callback);
             }
         }
     }
 
+    @Override
+    void invoke(Object genericCallback) {
+        if (onRun != null) {
+            onRun.accept(callbackType.cast(genericCallback));
+        }
+    }
+
     @Override
     public void close() {
         if (manager != null) {
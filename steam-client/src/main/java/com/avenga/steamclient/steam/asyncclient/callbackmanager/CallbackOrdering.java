@@ -0,0 +1,49 @@
+package com.avenga.steamclient.steam.asyncclient.callbackmanager;
+
+import com.avenga.steamclient.model.JobID;
+
+import java.util.Objects;
+
+/**
+ * Defines which callbacks are run in the posting order when {@link DefaultCallbackManager} runs callbacks in parallel.
+ * Callbacks with the same key run one after another, callbacks with different keys may run at the same time.
+ */
+public enum CallbackOrdering {
+
+    /**
+     * Callbacks of the same class are ordered.
+     */
+    CALLBACK_TYPE {
+        @Override
+        Object getKey(CallbackMessage message) {
+            return message.getClass();
+        }
+    },
+
+    /**
+     * Callbacks of the same job are ordered, callbacks without a job are ordered by their class.
+     */
+    JOB_ID {
+        @Override
+        Object getKey(CallbackMessage message) {
+            JobID jobID = message.getJobID();
+            if (Objects.isNull(jobID) || jobID.equals(JobID.INVALID)) {
+                return message.getClass();
+            }
+            return jobID.getValue();
+        }
+    },
+
+    /**
+     * All callbacks of the account are ordered. Handlers still run off the thread polling the callbacks,
+     * so a slow handler doesn't delay polling of other clients sharing the executor.
+     */
+    ACCOUNT {
+        @Override
+        Object getKey(CallbackMessage message) {
+            return ACCOUNT;
+        }
+    };
+
+    abstract Object getKey(CallbackMessage message);
+}
@@ -0,0 +1,396 @@
+package com.avenga.steamclient.steam.asyncclient.callbackmanager;
+
+import com.avenga.steamclient.steam.asyncclient.SteamClientAsync;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Lock-free multi-producer single-consumer queue of the {@link SteamClientAsync} callbacks. Network threads post
+ * callbacks without taking a lock, the thread running the {@link CallbackManager} consumes them.
+ * <p>
+ * A bounded queue is a ring buffer whose slots are claimed by producers with a single CAS, full queue is handled
+ * by the {@link OverflowPolicy}. An unbounded queue links posted callbacks into a list.
+ * Consumer methods ({@link #poll()}, {@link #peek()}, {@link #await(long)}, {@link #drainTo(Consumer)} and
+ * {@link #forEach(Consumer)}) must not be called by several threads at the same time.
+ */
+public class CallbackQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CallbackQueue.class);
+
+    private static final int SPIN_COUNT = 1000;
+    private static final long TIMED_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCKED_PRODUCER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Storage storage;
+    private final WaitStrategy waitStrategy;
+    private final OverflowPolicy overflowPolicy;
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile Thread waiter;
+    private final Queue<Thread> blockedProducers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates unbounded queue whose consumer parks while waiting.
+     */
+    public CallbackQueue() {
+        this(0, WaitStrategy.PARK, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param capacity       capacity of the queue rounded up to a power of two (at least 2), or 0 for unbounded queue.
+     * @param waitStrategy   how the consumer waits for callbacks.
+     * @param overflowPolicy what happens to callbacks posted to a full bounded queue.
+     */
+    public CallbackQueue(int capacity, WaitStrategy waitStrategy, OverflowPolicy overflowPolicy) {
+        if (capacity < 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity should be in range [0, 2^30]");
+        }
+
+        this.storage = capacity == 0 ? new LinkedStorage() : new RingStorage(capacity);
+        this.waitStrategy = Objects.isNull(waitStrategy) ? WaitStrategy.PARK : waitStrategy;
+        this.overflowPolicy = Objects.isNull(overflowPolicy) ? OverflowPolicy.BLOCK : overflowPolicy;
+    }
+
+    /**
+     * Posts the callback. Can be called by any thread.
+     *
+     * @param callbackMessage callback to post.
+     * @return <b>true</b> if the callback was queued, <b>false</b> if it was dropped.
+     * @throws IllegalStateException if the queue is full and the policy is {@link OverflowPolicy#THROW}.
+     */
+    public boolean offer(CallbackMessage callbackMessage) {
+        Objects.requireNonNull(callbackMessage, "Callback message wasn't provided");
+
+        if (!storage.offer(callbackMessage)) {
+            switch (overflowPolicy) {
+                case DROP_NEWEST:
+                    drop(callbackMessage);
+                    return false;
+                case THROW:
+                    throw new IllegalStateException("Callback queue is full");
+                default:
+                    if (!offerBlocking(callbackMessage)) {
+                        return false;
+                    }
+            }
+        }
+
+        if (waitStrategy != WaitStrategy.TIMED_PARK) {
+            signal();
+        }
+        return true;
+    }
+
+    /**
+     * Parks the producer until the consumer frees space in the queue. Interrupted producer drops the callback and
+     * keeps the interrupt status.
+     */
+    private boolean offerBlocking(CallbackMessage callbackMessage) {
+        var producer = Thread.currentThread();
+        // registered before the next offer, so the consumer freeing space after a failed offer unparks the producer
+        blockedProducers.add(producer);
+        try {
+            while (!storage.offer(callbackMessage)) {
+                signal();
+                if (Thread.interrupted()) {
+                    producer.interrupt();
+                    drop(callbackMessage);
+                    return false;
+                }
+                LockSupport.parkNanos(this, BLOCKED_PRODUCER_PARK_NANOS);
+            }
+            return true;
+        } finally {
+            blockedProducers.remove(producer);
+        }
+    }
+
+    private void drop(CallbackMessage callbackMessage) {
+        droppedCount.increment();
+        LOGGER.debug("Callback queue is full, dropped callback {}", callbackMessage.getClass().getSimpleName());
+    }
+
+    /**
+     * @return removed oldest callback or <b>null</b> if the queue is empty.
+     */
+    public CallbackMessage poll() {
+        var callbackMessage = storage.poll();
+        if (callbackMessage != null) {
+            signalProducers();
+        }
+        return callbackMessage;
+    }
+
+    /**
+     * @return oldest callback without removing it or <b>null</b> if the queue is empty.
+     */
+    public CallbackMessage peek() {
+        return storage.peek();
+    }
+
+    public boolean isEmpty() {
+        return storage.peek() == null;
+    }
+
+    /**
+     * Waits until the queue contains a callback.
+     *
+     * @param timeout time in milliseconds to wait, 0 or negative value waits without timeout.
+     * @return <b>true</b> if the queue contains a callback, <b>false</b> if the timeout elapsed or the thread was interrupted.
+     */
+    public boolean await(long timeout) {
+        if (!isEmpty()) {
+            return true;
+        }
+
+        if (waitStrategy == WaitStrategy.SPIN_THEN_PARK) {
+            for (int i = 0; i < SPIN_COUNT; i++) {
+                Thread.onSpinWait();
+                if (!isEmpty()) {
+                    return true;
+                }
+            }
+        }
+
+        var untimed = timeout <= 0;
+        var deadline = untimed ? 0 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        waiter = Thread.currentThread();
+        try {
+            while (isEmpty()) {
+                if (Thread.interrupted()) {
+                    return false;
+                }
+
+                var parkTime = untimed ? Long.MAX_VALUE : deadline - System.nanoTime();
+                if (parkTime <= 0) {
+                    return false;
+                }
+
+                LockSupport.parkNanos(this, waitStrategy == WaitStrategy.TIMED_PARK ? Math.min(parkTime, TIMED_PARK_NANOS) : parkTime);
+            }
+            return true;
+        } finally {
+            waiter = null;
+        }
+    }
+
+    /**
+     * Removes the callbacks which were queued when the method was called and passes them to the consumer.
+     * Callbacks posted during the drain are left for the next call.
+     *
+     * @param consumer consumer of the callbacks.
+     * @return amount of the drained callbacks.
+     */
+    public int drainTo(Consumer<? super CallbackMessage> consumer) {
+        var count = storage.size();
+        var drained = 0;
+        while (drained < count) {
+            var callbackMessage = storage.poll();
+            if (callbackMessage == null) {
+                break;
+            }
+            drained++;
+            signalProducers();
+            consumer.accept(callbackMessage);
+        }
+        return drained;
+    }
+
+    /**
+     * Passes the queued callbacks to the consumer without removing them.
+     *
+     * @param consumer consumer of the callbacks.
+     */
+    public void forEach(Consumer<? super CallbackMessage> consumer) {
+        storage.forEach(consumer);
+    }
+
+    /**
+     * @return amount of callbacks dropped with {@link OverflowPolicy#DROP_NEWEST} policy or by interrupted producers
+     * of the {@link OverflowPolicy#BLOCK} policy.
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    private void signal() {
+        var thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void signalProducers() {
+        if (!blockedProducers.isEmpty()) {
+            blockedProducers.forEach(LockSupport::unpark);
+        }
+    }
+
+    private interface Storage {
+        boolean offer(CallbackMessage callbackMessage);
+
+        CallbackMessage poll();
+
+        CallbackMessage peek();
+
+        long size();
+
+        void forEach(Consumer<? super CallbackMessage> consumer);
+    }
+
+    /**
+     * Ring buffer with a sequence per slot: a slot is free for the producer claiming sequence {@code s} when its
+     * sequence equals {@code s}, and contains a published callback when it equals {@code s + 1}.
+     */
+    private static final class RingStorage implements Storage {
+        private final AtomicReferenceArray<CallbackMessage> buffer;
+        private final AtomicLongArray sequences;
+        private final int mask;
+        private final AtomicLong tail = new AtomicLong();
+        private volatile long head;
+
+        private RingStorage(int capacity) {
+            var size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+            this.buffer = new AtomicReferenceArray<>(size);
+            this.sequences = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++) {
+                sequences.set(i, i);
+            }
+            this.mask = size - 1;
+        }
+
+        @Override
+        public boolean offer(CallbackMessage callbackMessage) {
+            while (true) {
+                var sequence = tail.get();
+                var index = (int) (sequence & mask);
+                var difference = sequences.get(index) - sequence;
+
+                if (difference == 0) {
+                    if (tail.compareAndSet(sequence, sequence + 1)) {
+                        buffer.lazySet(index, callbackMessage);
+                        sequences.set(index, sequence + 1);
+                        return true;
+                    }
+                } else if (difference < 0) {
+                    return false;
+                }
+            }
+        }
+
+        @Override
+        public CallbackMessage poll() {
+            var sequence = head;
+            var index = (int) (sequence & mask);
+            if (sequences.get(index) != sequence + 1) {
+                return null;
+            }
+
+            var callbackMessage = buffer.get(index);
+            buffer.lazySet(index, null);
+            sequences.set(index, sequence + mask + 1);
+            head = sequence + 1;
+            return callbackMessage;
+        }
+
+        @Override
+        public CallbackMessage peek() {
+            var sequence = head;
+            var index = (int) (sequence & mask);
+            return sequences.get(index) == sequence + 1 ? buffer.get(index) : null;
+        }
+
+        @Override
+        public long size() {
+            return tail.get() - head;
+        }
+
+        @Override
+        public void forEach(Consumer<? super CallbackMessage> consumer) {
+            for (var sequence = head; ; sequence++) {
+                var index = (int) (sequence & mask);
+                if (sequences.get(index) != sequence + 1) {
+                    return;
+                }
+                consumer.accept(buffer.get(index));
+            }
+        }
+    }
+
+    /**
+     * Linked list where producers swap the tail and link the previous node to the new one.
+     */
+    private static final class LinkedStorage implements Storage {
+        private final AtomicReference<Node> tail;
+        private final AtomicLong offered = new AtomicLong();
+        private volatile long polled;
+        private Node head;
+
+        private LinkedStorage() {
+            this.head = new Node(null);
+            this.tail = new AtomicReference<>(head);
+        }
+
+        @Override
+        public boolean offer(CallbackMessage callbackMessage) {
+            var node = new Node(callbackMessage);
+            var previous = tail.getAndSet(node);
+            // volatile write, so the consumer setting the waiter in await either sees the node or gets unparked
+            previous.next = node;
+            offered.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public CallbackMessage poll() {
+            var next = head.next;
+            if (next == null) {
+                return null;
+            }
+
+            var callbackMessage = next.value;
+            next.value = null;
+            head = next;
+            polled++;
+            return callbackMessage;
+        }
+
+        @Override
+        public CallbackMessage peek() {
+            var next = head.next;
+            return next == null ? null : next.value;
+        }
+
+        @Override
+        public long size() {
+            return offered.get() - polled;
+        }
+
+        @Override
+        public void forEach(Consumer<? super CallbackMessage> consumer) {
+            for (var node = head.next; node != null; node = node.next) {
+                consumer.accept(node.value);
+            }
+        }
+
+        private static final class Node {
+            private CallbackMessage value;
+            private volatile Node next;
+
+            private Node(CallbackMessage value) {
+                this.value = value;
+            }
+        }
+    }
+}
@@ -6,18 +6,36 @@ import com.avenga.steamclient.steam.asyncclient.SteamClientAsync;
 import java.io.Closeable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
  * This class is a utility for routing callbacks to function calls.
  * In order to bind callbacks to functions, an instance of this class must be created for the
  * {@link SteamClientAsync SteamClient} instance that will be posting callbacks.
+ * <p>
+ * Registered callbacks are indexed by their callback type and, for callbacks bound to a {@link JobID}, by the job id.
+ * Supertypes of every posted callback class are resolved once, so routing a callback costs a lookup per supertype
+ * instead of a type check per registered callback. Index entries are copied on write, so callbacks can be
+ * registered and unregistered while other callbacks are being handled.
+ * <p>
+ * By default callbacks run on the thread which calls the run methods. A manager created with an executor only
+ * polls callbacks on that thread and runs them on the executor: callbacks with the same {@link CallbackOrdering}
+ * key run in the posting order, callbacks with different keys run in parallel.
  */
 public class DefaultCallbackManager implements CallbackManager {
 
     private SteamClientAsync steamClientAsync;
 
-    private Set<BaseCallback> registeredCallbacks = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final KeyedSerialExecutor callbackExecutor;
+
+    private final CallbackOrdering callbackOrdering;
+
+    private final Map<BaseCallback, Long> registeredCallbacks = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Subscribers> subscribersByType = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Class<?>[]> callbackTypeHierarchy = new ConcurrentHashMap<>();
 
     /**
      * Initializes a new instance of the {@link DefaultCallbackManager} class.
@@ -28,6 +46,52 @@ public class DefaultCallbackManager implements CallbackManager {
         Objects.requireNonNull(steamClientAsync, "Async steam client wasn't provided");
 
         this.steamClientAsync = steamClientAsync;
+        this.callbackExecutor = null;
+        this.callbackOrdering = null;
+    }
+
+    /**
+     * Initializes a new instance of the {@link DefaultCallbackManager} class which runs callbacks on the executor.
+     *
+     * @param steamClientAsync The {@link SteamClientAsync SteamClient} instance to handle the callbacks of.
+     * @param executor         The executor running the callbacks.
+     * @param ordering         Defines which callbacks are run in the posting order.
+     * @param maxQueuedPerKey  Maximum amount of queued callbacks with the same ordering key. Callbacks over the limit
+     *                         are dropped, so polling thread keeps dispatching callbacks of other keys.
+     */
+    public DefaultCallbackManager(SteamClientAsync steamClientAsync, Executor executor, CallbackOrdering ordering,
+                                  int maxQueuedPerKey) {
+        this(steamClientAsync, executor, ordering, maxQueuedPerKey, OverflowPolicy.DROP_NEWEST);
+    }
+
+    /**
+     * Initializes a new instance of the {@link DefaultCallbackManager} class which runs callbacks on the executor with
+     * the given policy of the full ordering keys.
+     *
+     * @param steamClientAsync The {@link SteamClientAsync SteamClient} instance to handle the callbacks of.
+     * @param executor         The executor running the callbacks.
+     * @param ordering         Defines which callbacks are run in the posting order.
+     * @param maxQueuedPerKey  Maximum amount of queued callbacks with the same ordering key.
+     * @param overflowPolicy   Policy applied to callbacks over the limit: {@link OverflowPolicy#DROP_NEWEST} drops
+     *                         them, {@link OverflowPolicy#THROW} fails the run method with
+     *                         {@link java.util.concurrent.RejectedExecutionException} and
+     *                         {@link OverflowPolicy#BLOCK} holds the polling thread until the key runs a callback.
+     */
+    public DefaultCallbackManager(SteamClientAsync steamClientAsync, Executor executor, CallbackOrdering ordering,
+                                  int maxQueuedPerKey, OverflowPolicy overflowPolicy) {
+        Objects.requireNonNull(steamClientAsync, "Async steam client wasn't provided");
+        Objects.requireNonNull(ordering, "Callback ordering wasn't provided");
+
+        this.steamClientAsync = steamClientAsync;
+        this.callbackExecutor = new KeyedSerialExecutor(executor, maxQueuedPerKey, overflowPolicy);
+        this.callbackOrdering = ordering;
+    }
+
+    /**
+     * @return amount of callbacks dropped because their ordering keys had the maximum amount of queued callbacks.
+     */
+    public long getDroppedCallbacks() {
+        return callbackExecutor == null ? 0 : callbackExecutor.getDroppedTasks();
     }
 
     /**
@@ -75,10 +139,7 @@ public class DefaultCallbackManager implements CallbackManager {
      * @param timeout The length of time to block.
      */
     public void runWaitAllCallbacks(int timeout) {
-        List<CallbackMessage> calls = steamClientAsync.getAllCallbacks(true, timeout);
-        for (CallbackMessage call : calls) {
-            handle(call);
-        }
+        steamClientAsync.drainCallbacks(this::handle, timeout);
     }
 
     /**
@@ -113,23 +174,136 @@ public class DefaultCallbackManager implements CallbackManager {
     }
 
     @Override
-    public void register(BaseCallback callback)
+    public synchronized void register(BaseCallback callback)
     {
         Objects.requireNonNull(callback, "Callback wasn't provided");
 
-        registeredCallbacks.add(callback);
+        if (registeredCallbacks.containsKey(callback)) {
+            return;
+        }
+
+        long jobId = getJobId(callback.getJobID());
+        subscribersByType.computeIfAbsent(callback.getCallbackType(), type -> new Subscribers()).add(callback, jobId);
+        registeredCallbacks.put(callback, jobId);
     }
 
     @Override
-    public void unregister(BaseCallback callback) {
-        registeredCallbacks.remove(callback);
+    public synchronized void unregister(BaseCallback callback) {
+        if (callback == null) {
+            return;
+        }
+
+        Long jobId = registeredCallbacks.remove(callback);
+        if (jobId != null) {
+            subscribersByType.get(callback.getCallbackType()).remove(callback, jobId);
+        }
     }
 
     private void handle(CallbackMessage message) {
-        for (BaseCallback callback : registeredCallbacks) {
-            if (callback.getCallbackType().isAssignableFrom(message.getClass())) {
-                callback.run(message);
+        if (callbackExecutor == null) {
+            dispatch(message);
+        } else {
+            callbackExecutor.execute(callbackOrdering.getKey(message), () -> dispatch(message));
+        }
+    }
+
+    private void dispatch(CallbackMessage message) {
+        long jobId = getJobId(message.getJobID());
+        for (Class<?> type : callbackTypeHierarchy.computeIfAbsent(message.getClass(), DefaultCallbackManager::resolveHierarchy)) {
+            Subscribers subscribers = subscribersByType.get(type);
+            if (subscribers != null) {
+                subscribers.run(message, jobId);
+            }
+        }
+    }
+
+    private static long getJobId(JobID jobID) {
+        return Objects.isNull(jobID) ? JobID.INVALID.getValue() : jobID.getValue();
+    }
+
+    /**
+     * Resolves the class, its superclasses and all implemented interfaces.
+     */
+    private static Class<?>[] resolveHierarchy(Class<?> callbackClass) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        Deque<Class<?>> types = new ArrayDeque<>();
+        types.add(callbackClass);
+        while (!types.isEmpty()) {
+            Class<?> type = types.poll();
+            if (hierarchy.add(type)) {
+                if (type.getSuperclass() != null) {
+                    types.add(type.getSuperclass());
+                }
+                types.addAll(Arrays.asList(type.getInterfaces()));
+            }
+        }
+        return hierarchy.toArray(new Class<?>[0]);
+    }
+
+    /**
+     * Callbacks registered for a single callback type. Callbacks without a job run for every posted callback of
+     * the type, other callbacks only for the posted callbacks of their job.
+     * Arrays are replaced on every change, so running callbacks never observes a partially updated array.
+     */
+    private static final class Subscribers {
+        private static final BaseCallback[] EMPTY = new BaseCallback[0];
+
+        private final Map<Long, BaseCallback[]> jobCallbacks = new ConcurrentHashMap<>();
+        private volatile BaseCallback[] callbacks = EMPTY;
+
+        private void add(BaseCallback callback, long jobId) {
+            if (jobId == JobID.INVALID.getValue()) {
+                callbacks = append(callbacks, callback);
+            } else {
+                jobCallbacks.put(jobId, append(jobCallbacks.getOrDefault(jobId, EMPTY), callback));
+            }
+        }
+
+        private void remove(BaseCallback callback, long jobId) {
+            if (jobId == JobID.INVALID.getValue()) {
+                callbacks = removeFrom(callbacks, callback);
+                return;
+            }
+
+            BaseCallback[] remaining = removeFrom(jobCallbacks.getOrDefault(jobId, EMPTY), callback);
+            if (remaining.length == 0) {
+                jobCallbacks.remove(jobId);
+            } else {
+                jobCallbacks.put(jobId, remaining);
+            }
+        }
+
+        private void run(CallbackMessage message, long jobId) {
+            for (BaseCallback callback : callbacks) {
+                callback.invoke(message);
+            }
+
+            if (jobId != JobID.INVALID.getValue() && !jobCallbacks.isEmpty()) {
+                BaseCallback[] callbacksOfJob = jobCallbacks.get(jobId);
+                if (callbacksOfJob != null) {
+                    for (BaseCallback callback : callbacksOfJob) {
+                        callback.invoke(message);
+                    }
+                }
+            }
+        }
+
+        private static BaseCallback[] append(BaseCallback[] callbacks, BaseCallback callback) {
+            BaseCallback[] result = Arrays.copyOf(callbacks, callbacks.length + 1);
+            result[callbacks.length] = callback;
+            return result;
+        }
+
+        private static BaseCallback[] removeFrom(BaseCallback[] callbacks, BaseCallback callback) {
+            for (int i = 0; i < callbacks.length; i++) {
+                if (callbacks[i] == callback) {
+                    BaseCallback[] result = new BaseCallback[callbacks.length - 1];
+                    System.arraycopy(callbacks, 0, result, 0, i);
+                    System.arraycopy(callbacks, i + 1, result, i, result.length - i);
+                    return result;
+                }
             }
+            return callbacks;
         }
     }
 
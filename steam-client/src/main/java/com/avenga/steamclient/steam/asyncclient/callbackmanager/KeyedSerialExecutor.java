@@ -0,0 +1,199 @@
+package com.avenga.steamclient.steam.asyncclient.callbackmanager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs tasks on the executor keeping the submission order of tasks with the same key. Every key has its own lane
+ * which occupies at most one executor thread at a time and gives the thread back after a batch of tasks, so a busy
+ * key doesn't keep other keys waiting for a free thread.
+ * <p>
+ * Amount of queued tasks of a key is bounded, the {@link OverflowPolicy} defines what happens to a task submitted to a
+ * full key: {@link OverflowPolicy#DROP_NEWEST} drops the task and counts it, {@link OverflowPolicy#THROW} rejects it
+ * with {@link RejectedExecutionException} and {@link OverflowPolicy#BLOCK} makes the submitting thread wait until the
+ * key runs one of its tasks, which holds back the submission of other keys as well. Lanes are removed as soon as they
+ * are empty.
+ */
+public class KeyedSerialExecutor implements Executor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyedSerialExecutor.class);
+
+    private static final int TASKS_PER_TURN = 16;
+
+    private final Executor executor;
+    private final int maxQueuedPerKey;
+    private final OverflowPolicy overflowPolicy;
+    private final Map<Object, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicLong droppedTasks = new AtomicLong();
+
+    /**
+     * @param executor        executor running the lanes.
+     * @param maxQueuedPerKey maximum amount of queued tasks of a single key.
+     * @param overflowPolicy  policy applied to the tasks submitted to a key with the maximum amount of queued tasks.
+     */
+    public KeyedSerialExecutor(Executor executor, int maxQueuedPerKey, OverflowPolicy overflowPolicy) {
+        Objects.requireNonNull(executor, "Executor wasn't provided");
+        Objects.requireNonNull(overflowPolicy, "Overflow policy wasn't provided");
+        if (maxQueuedPerKey <= 0) {
+            throw new IllegalArgumentException("Maximum amount of queued tasks per key should be greater than 0");
+        }
+
+        this.executor = executor;
+        this.maxQueuedPerKey = maxQueuedPerKey;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Runs the task in the common lane.
+     *
+     * @param task task to run.
+     */
+    @Override
+    public void execute(Runnable task) {
+        execute(this, task);
+    }
+
+    /**
+     * Runs the task after all previously submitted tasks of the key. The overflow policy is applied if the key has the
+     * maximum amount of queued tasks.
+     *
+     * @param key  ordering key of the task.
+     * @param task task to run.
+     * @throws RejectedExecutionException if the key is full and the policy is {@link OverflowPolicy#THROW}.
+     */
+    public void execute(Object key, Runnable task) {
+        Objects.requireNonNull(key, "Key wasn't provided");
+        Objects.requireNonNull(task, "Task wasn't provided");
+
+        while (true) {
+            Lane lane = lanes.computeIfAbsent(key, Lane::new);
+            boolean schedule;
+            synchronized (lane) {
+                // the lane could run out of tasks after it was taken from the map
+                if (lane.retired) {
+                    continue;
+                }
+
+                if (lane.tasks.size() >= maxQueuedPerKey) {
+                    if (!awaitSpace(lane)) {
+                        return;
+                    }
+                    // the lane could run out of tasks while the submitting thread was waiting
+                    if (lane.retired) {
+                        continue;
+                    }
+                }
+
+                lane.tasks.add(task);
+                schedule = !lane.scheduled;
+                lane.scheduled = true;
+            }
+
+            if (schedule) {
+                schedule(lane);
+            }
+            return;
+        }
+    }
+
+    /**
+     * @return amount of keys with queued or running tasks.
+     */
+    public int getActiveKeys() {
+        return lanes.size();
+    }
+
+    /**
+     * @return amount of tasks dropped because their keys were full.
+     */
+    public long getDroppedTasks() {
+        return droppedTasks.get();
+    }
+
+    /**
+     * Applies the overflow policy to a task submitted to the full lane. Called with the monitor of the lane held.
+     *
+     * @param lane full lane.
+     * @return <b>true</b> if the lane has space for the task, <b>false</b> if the task was dropped.
+     */
+    private boolean awaitSpace(Lane lane) {
+        switch (overflowPolicy) {
+            case THROW:
+                throw new RejectedExecutionException("Maximum amount of queued tasks of key " + lane.key + " reached");
+            case BLOCK:
+                try {
+                    // the lane is scheduled while it has tasks, so it frees space without the submitting thread
+                    while (lane.tasks.size() >= maxQueuedPerKey) {
+                        lane.wait();
+                    }
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.debug("Interrupted while waiting for space of key {}, task is dropped", lane.key);
+                    droppedTasks.incrementAndGet();
+                    return false;
+                }
+            case DROP_NEWEST:
+            default:
+                LOGGER.debug("Maximum amount of queued tasks of key {} reached, task is dropped", lane.key);
+                droppedTasks.incrementAndGet();
+                return false;
+        }
+    }
+
+    private void schedule(Lane lane) {
+        try {
+            executor.execute(lane);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Executor rejected tasks of key {}, running them on the submitting thread", lane.key);
+            lane.run();
+        }
+    }
+
+    private final class Lane implements Runnable {
+        private final Object key;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean retired;
+
+        private Lane(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < TASKS_PER_TURN; i++) {
+                Runnable task;
+                synchronized (this) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        scheduled = false;
+                        retired = true;
+                        lanes.remove(key, this);
+                        return;
+                    }
+                    if (overflowPolicy == OverflowPolicy.BLOCK) {
+                        notifyAll();
+                    }
+                }
+
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Task of key {} threw an exception: {}", key, e.toString());
+                }
+            }
+
+            schedule(this);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.avenga.steamclient.steam.asyncclient.callbackmanager;
+
+/**
+ * Defines what happens to a callback posted to a full bounded {@link CallbackQueue}, or to a full ordering key of the
+ * {@link KeyedSerialExecutor}.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Producer parks until the consumer frees space in the queue or the key runs a task. Interrupted producer drops
+     * the callback.
+     */
+    BLOCK,
+
+    /**
+     * Posted callback is dropped and counted by {@link CallbackQueue#getDroppedCount()} or
+     * {@link KeyedSerialExecutor#getDroppedTasks()}.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Posting fails with {@link IllegalStateException}, submission to the executor with
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    THROW
+}
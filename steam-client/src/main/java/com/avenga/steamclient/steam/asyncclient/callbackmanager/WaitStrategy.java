@@ -0,0 +1,23 @@
+package com.avenga.steamclient.steam.asyncclient.callbackmanager;
+
+/**
+ * Defines how the consumer of the {@link CallbackQueue} waits for posted callbacks.
+ */
+public enum WaitStrategy {
+
+    /**
+     * Consumer parks until a producer posts a callback and wakes it up.
+     */
+    PARK,
+
+    /**
+     * Consumer spins for a short time before parking, which reduces wake up latency of bursts at the cost of CPU.
+     */
+    SPIN_THEN_PARK,
+
+    /**
+     * Consumer parks for at most one millisecond and checks the queue again. Producers never wake the consumer up,
+     * which keeps posting cheapest at the cost of up to one millisecond latency.
+     */
+    TIMED_PARK
+}
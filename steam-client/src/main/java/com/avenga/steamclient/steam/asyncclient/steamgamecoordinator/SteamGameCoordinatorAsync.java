@@ -5,6 +5,7 @@ import com.avenga.steamclient.base.ClientGCProtobufMessage;
 import com.avenga.steamclient.base.ClientMessageProtobuf;
 import com.avenga.steamclient.base.PacketMessage;
 import com.avenga.steamclient.enums.EMsg;
+import com.avenga.steamclient.exception.MessageBodyDecodeException;
 import com.avenga.steamclient.model.steam.ClientMessageHandler;
 import com.avenga.steamclient.model.steam.gamecoordinator.ClientGCMessageHandler;
 import com.avenga.steamclient.model.steam.gamecoordinator.GCMessage;
@@ -13,6 +14,7 @@ import com.avenga.steamclient.protobufs.dota.GCSdkGCMessages.ESourceEngine;
 import com.avenga.steamclient.protobufs.steamclient.SteammessagesClientserver2.CMsgGCClient;
 import com.avenga.steamclient.steam.asyncclient.steamgamecoordinator.dota.DotaClientAsync;
 import com.avenga.steamclient.steam.asyncclient.steamgamecoordinator.dota.callback.ClientWelcomeCallback;
+import com.avenga.steamclient.steam.route.GCPacketRouter;
 import com.avenga.steamclient.util.MessageUtil;
 import com.avenga.steamclient.util.SteamEnumUtils;
 import com.google.protobuf.ByteString;
@@ -36,6 +38,10 @@ public class SteamGameCoordinatorAsync extends ClientMessageHandler {
 
     private Map<Class<? extends ClientGCMessageHandler>, ClientGCMessageHandler> gcHandlers = new HashMap<>();
 
+    private Map<Class<? extends ClientGCMessageHandler>, Consumer<GCMessage>> gcObservers = new HashMap<>();
+
+    private final GCPacketRouter gcPacketRouter = new GCPacketRouter();
+
     private Map<EMsg, Consumer<PacketMessage>> clientHandlers;
 
     public SteamGameCoordinatorAsync() {
@@ -80,6 +86,11 @@ public class SteamGameCoordinatorAsync extends ClientMessageHandler {
         this.send(clientHelloMessage, applicationId, k_EMsgGCClientHello);
     }
 
+    @Override
+    public Map<EMsg, Consumer<PacketMessage>> getPacketHandlers() {
+        return clientHandlers;
+    }
+
     @Override
     public void handleMessage(PacketMessage packetMessage) {
         Objects.requireNonNull(packetMessage, "Packet message wasn't provided");
@@ -102,6 +113,16 @@ public class SteamGameCoordinatorAsync extends ClientMessageHandler {
 
         handler.setup(this);
         gcHandlers.put(handler.getClass(), handler);
+
+        var messageHandlers = handler.getMessageHandlers();
+        if (Objects.isNull(messageHandlers)) {
+            Consumer<GCMessage> observer = handler::handleMessage;
+            gcObservers.put(handler.getClass(), observer);
+            gcPacketRouter.addObserver(handler.getApplicationId(), observer);
+        } else {
+            messageHandlers.forEach((messageId, messageHandler) ->
+                    gcPacketRouter.addObserver(handler.getApplicationId(), messageId, messageHandler));
+        }
     }
 
     /**
@@ -110,7 +131,18 @@ public class SteamGameCoordinatorAsync extends ClientMessageHandler {
      * @param handler The handler name to remove.
      */
     public void removeHandler(Class<? extends ClientGCMessageHandler> handler) {
-        gcHandlers.remove(handler);
+        var removedHandler = gcHandlers.remove(handler);
+        if (Objects.isNull(removedHandler)) {
+            return;
+        }
+
+        var observer = gcObservers.remove(handler);
+        if (Objects.nonNull(observer)) {
+            gcPacketRouter.removeObserver(removedHandler.getApplicationId(), observer);
+        } else {
+            removedHandler.getMessageHandlers().forEach((messageId, messageHandler) ->
+                    gcPacketRouter.removeObserver(removedHandler.getApplicationId(), messageId, messageHandler));
+        }
     }
 
     /**
@@ -126,17 +158,17 @@ public class SteamGameCoordinatorAsync extends ClientMessageHandler {
     }
 
     private void handleFromGC(PacketMessage packetMessage) {
-        ClientMessageProtobuf<CMsgGCClient.Builder> msg = new ClientMessageProtobuf<>(CMsgGCClient.class, packetMessage);
-
-        var gcMessage = new GCMessage(msg.getBody());
+        GCMessage gcMessage;
+        try {
+            gcMessage = new GCMessage(packetMessage.getBody(CMsgGCClient.class));
+        } catch (MessageBodyDecodeException e) {
+            LOGGER.debug("{}: {}", client.getClientName(), e.getMessage());
+            return;
+        }
 
         LOGGER.debug("{}: <- Recv'd GC EMsg: {} ({}) (Proto: {}) (AppId: {})", client.getClientName(), gcMessage.getMessageType(),
                 gcMessage.geteMsg(), gcMessage.isProto(), gcMessage.getApplicationID());
 
-        gcHandlers.forEach((clazz, handler) -> {
-            if (handler.getApplicationId() == gcMessage.getApplicationID()) {
-                handler.handleMessage(gcMessage);
-            }
-        });
+        gcPacketRouter.route(gcMessage);
     }
 }
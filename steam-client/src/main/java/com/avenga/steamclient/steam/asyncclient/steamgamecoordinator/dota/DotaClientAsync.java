@@ -77,6 +77,11 @@ public class DotaClientAsync extends ClientGCMessageHandler {
         gameCoordinator.send(profileCardMessage, applicationId, k_EMsgClientToGCGetProfileCard);
     }
 
+    @Override
+    public Map<Integer, Consumer<GCMessage>> getMessageHandlers() {
+        return clientHandlers;
+    }
+
     @Override
     public void handleMessage(GCMessage gcMessage) {
         Objects.requireNonNull(gcMessage, "GC packet message wasn't provided");
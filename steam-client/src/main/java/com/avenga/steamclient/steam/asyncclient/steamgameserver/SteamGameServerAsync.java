@@ -167,6 +167,11 @@ public class SteamGameServerAsync extends ClientMessageHandler {
         client.send(gamePlayedMessage);
     }
 
+    @Override
+    public Map<EMsg, Consumer<PacketMessage>> getPacketHandlers() {
+        return dispatchMap;
+    }
+
     @Override
     public void handleMessage(PacketMessage packetMessage) {
         Objects.requireNonNull(packetMessage, "Packet message wasn't provided");
@@ -50,6 +50,11 @@ public class SteamUserAsync extends ClientMessageHandler {
         );
     }
 
+    @Override
+    public Map<EMsg, Consumer<PacketMessage>> getPacketHandlers() {
+        return registeredPacketHandlers;
+    }
+
     @Override
     public void handleMessage(PacketMessage packetMessage) {
         Objects.requireNonNull(packetMessage, "Packet message wasn't provided");
@@ -0,0 +1,77 @@
+package com.avenga.steamclient.steam.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the {@link SteamClient} callback completion. Completing a callback runs the continuations of its future,
+ * e.g. parsing and mapping of the response and the user code. Completions which run on the network thread that
+ * received the message (because the executor rejected them or completes tasks in the calling thread) delay
+ * reading of the following messages and heartbeats.
+ */
+public class CallbackCompletionMetrics {
+
+    private final LongAdder networkThreadCompletions = new LongAdder();
+    private final LongAdder networkThreadTime = new LongAdder();
+    private final LongAdder executorCompletions = new LongAdder();
+    private final LongAdder executorTime = new LongAdder();
+    private final LongAdder queueTime = new LongAdder();
+    private final LongAdder rejectedCompletions = new LongAdder();
+
+    void recordCompletion(boolean networkThread, long queueNanos, long completionNanos) {
+        if (networkThread) {
+            networkThreadCompletions.increment();
+            networkThreadTime.add(completionNanos);
+        } else {
+            executorCompletions.increment();
+            executorTime.add(completionNanos);
+            queueTime.add(queueNanos);
+        }
+    }
+
+    void recordRejection() {
+        rejectedCompletions.increment();
+    }
+
+    /**
+     * @return amount of callbacks completed on the network thread.
+     */
+    public long getNetworkThreadCompletions() {
+        return networkThreadCompletions.sum();
+    }
+
+    /**
+     * @return time in milliseconds which the network thread spent completing callbacks.
+     */
+    public long getNetworkThreadTime() {
+        return TimeUnit.NANOSECONDS.toMillis(networkThreadTime.sum());
+    }
+
+    /**
+     * @return amount of callbacks completed by the completion executor.
+     */
+    public long getExecutorCompletions() {
+        return executorCompletions.sum();
+    }
+
+    /**
+     * @return time in milliseconds which the completion executor spent completing callbacks.
+     */
+    public long getExecutorTime() {
+        return TimeUnit.NANOSECONDS.toMillis(executorTime.sum());
+    }
+
+    /**
+     * @return time in milliseconds which the callbacks completed by the executor spent waiting in its queue.
+     */
+    public long getQueueTime() {
+        return TimeUnit.NANOSECONDS.toMillis(queueTime.sum());
+    }
+
+    /**
+     * @return amount of completions rejected by the executor and run on the network thread.
+     */
+    public long getRejectedCompletions() {
+        return rejectedCompletions.sum();
+    }
+}
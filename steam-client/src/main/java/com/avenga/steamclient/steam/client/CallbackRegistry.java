@@ -0,0 +1,300 @@
+package com.avenga.steamclient.steam.client;
+
+import com.avenga.steamclient.exception.CallbackTimeoutException;
+import com.avenga.steamclient.model.steam.CompletableCallback;
+import com.avenga.steamclient.util.HashedWheelTimer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import static com.avenga.steamclient.constant.Constant.EXPIRED_CALLBACK_MESSAGE_FORMAT;
+
+/**
+ * Registry of the {@link SteamClient} callbacks indexed by application id and message code. Every
+ * (application id, message code) pair has its own bucket which keeps callbacks in registration order and indexes them
+ * by job id, so completing and removing a callback doesn't depend on the amount of other registered callbacks.
+ * Buckets are guarded by their own monitor, callbacks are completed by the caller outside of it.
+ * <p>
+ * Callbacks registered with a timeout are removed at their deadline by the {@link HashedWheelTimer} and failed with
+ * {@link CallbackTimeoutException} through the expiration handler, so the timer thread doesn't run continuations of
+ * the callbacks. Removing a callback cancels its timeout.
+ */
+class CallbackRegistry {
+
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final HashedWheelTimer timer;
+
+    private final BiConsumer<CompletableCallback, Throwable> expirationHandler;
+
+    /**
+     * @param timer             timer expiring the callbacks.
+     * @param expirationHandler completes expired callbacks exceptionally.
+     */
+    CallbackRegistry(HashedWheelTimer timer, BiConsumer<CompletableCallback, Throwable> expirationHandler) {
+        this.timer = timer;
+        this.expirationHandler = expirationHandler;
+    }
+
+    /**
+     * Registers callback at the end of its bucket.
+     *
+     * @param callback callback to register.
+     * @param timeout  time in milliseconds after which the callback expires, the callback never expires if the
+     *                 timeout is not positive.
+     */
+    void add(CompletableCallback callback, long timeout) {
+        buckets.computeIfAbsent(getKey(callback.getApplicationId(), callback.getMessageCode()), key -> new Bucket())
+                .add(callback, timeout);
+    }
+
+    /**
+     * Removes registered callback.
+     *
+     * @param callback callback to remove.
+     * @return <b>true</b> if the callback was registered.
+     */
+    boolean remove(CompletableCallback callback) {
+        var bucket = buckets.get(getKey(callback.getApplicationId(), callback.getMessageCode()));
+        return bucket != null && bucket.remove(callback);
+    }
+
+    /**
+     * @param messageCode   code of the packet message.
+     * @param applicationId id of the Steam client or game.
+     * @return <b>true</b> if there are registered callbacks of the message.
+     */
+    boolean hasCallbacks(int messageCode, int applicationId) {
+        var bucket = buckets.get(getKey(applicationId, messageCode));
+        return bucket != null && !bucket.isEmpty();
+    }
+
+    /**
+     * Removes the earliest registered callback of the message.
+     *
+     * @param messageCode   code of the packet message.
+     * @param applicationId id of the Steam client or game.
+     * @return removed callback or <b>null</b> if there is no callback for the message.
+     */
+    CompletableCallback poll(int messageCode, int applicationId) {
+        var bucket = buckets.get(getKey(applicationId, messageCode));
+        return bucket == null ? null : bucket.poll();
+    }
+
+    /**
+     * Removes the earliest registered callback of the message with the job id.
+     *
+     * @param messageCode   code of the packet message.
+     * @param applicationId id of the Steam client or game.
+     * @param jobId         id of the job set in the header of the packet message.
+     * @return removed callback or <b>null</b> if there is no callback for the message and job.
+     */
+    CompletableCallback poll(int messageCode, int applicationId, long jobId) {
+        var bucket = buckets.get(getKey(applicationId, messageCode));
+        return bucket == null ? null : bucket.poll(jobId);
+    }
+
+    /**
+     * Removes the earliest registered callback of the message which matches the filter. Only callbacks of the message
+     * bucket are tested.
+     *
+     * @param messageCode   code of the packet message.
+     * @param applicationId id of the Steam client or game.
+     * @param filter        additional condition of the callback.
+     * @return removed callback or <b>null</b> if there is no matching callback.
+     */
+    CompletableCallback poll(int messageCode, int applicationId, Predicate<CompletableCallback> filter) {
+        var bucket = buckets.get(getKey(applicationId, messageCode));
+        return bucket == null ? null : bucket.poll(filter);
+    }
+
+    /**
+     * Removes all callbacks which match the filter.
+     *
+     * @param filter condition of the callbacks to remove.
+     * @return removed callbacks.
+     */
+    List<CompletableCallback> removeIf(Predicate<CompletableCallback> filter) {
+        List<CompletableCallback> removed = new ArrayList<>();
+        for (Bucket bucket : buckets.values()) {
+            bucket.removeIf(filter, removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all callbacks.
+     *
+     * @return removed callbacks.
+     */
+    List<CompletableCallback> clear() {
+        return removeIf(callback -> true);
+    }
+
+    boolean isEmpty() {
+        for (Bucket bucket : buckets.values()) {
+            if (!bucket.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long getKey(int applicationId, int messageCode) {
+        return ((long) applicationId << Integer.SIZE) | (messageCode & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Callback linked into the registration order list and into the list of callbacks with the same job id.
+     */
+    private static final class Node {
+        private final CompletableCallback callback;
+        private Node previous;
+        private Node next;
+        private Node previousOfJob;
+        private Node nextOfJob;
+        private HashedWheelTimer.Timeout timeout;
+
+        private Node(CompletableCallback callback) {
+            this.callback = callback;
+        }
+    }
+
+    private static final class Jobs {
+        private Node head;
+        private Node tail;
+    }
+
+    private final class Bucket {
+        private final Map<CompletableCallback, Node> nodes = new IdentityHashMap<>();
+        private final Map<Long, Jobs> jobs = new HashMap<>();
+        private Node head;
+        private Node tail;
+
+        synchronized void add(CompletableCallback callback, long timeout) {
+            if (nodes.containsKey(callback)) {
+                return;
+            }
+
+            var node = new Node(callback);
+            nodes.put(callback, node);
+
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+                node.previous = tail;
+            }
+            tail = node;
+
+            var jobNodes = jobs.computeIfAbsent(callback.getJobId(), jobId -> new Jobs());
+            if (jobNodes.tail == null) {
+                jobNodes.head = node;
+            } else {
+                jobNodes.tail.nextOfJob = node;
+                node.previousOfJob = jobNodes.tail;
+            }
+            jobNodes.tail = node;
+
+            if (timeout > 0) {
+                node.timeout = timer.newTimeout(() -> expire(node, timeout), timeout);
+            }
+        }
+
+        private void expire(Node node, long timeout) {
+            synchronized (this) {
+                if (nodes.get(node.callback) != node) {
+                    return;
+                }
+                unlink(node);
+            }
+
+            var callback = node.callback;
+            expirationHandler.accept(callback, new CallbackTimeoutException(String.format(EXPIRED_CALLBACK_MESSAGE_FORMAT,
+                    callback.getMessageCode(), callback.getApplicationId(), callback.getSequence(), timeout)));
+        }
+
+        synchronized boolean remove(CompletableCallback callback) {
+            var node = nodes.get(callback);
+            if (node == null) {
+                return false;
+            }
+            unlink(node);
+            return true;
+        }
+
+        synchronized CompletableCallback poll() {
+            return head == null ? null : unlink(head);
+        }
+
+        synchronized CompletableCallback poll(long jobId) {
+            var jobNodes = jobs.get(jobId);
+            return jobNodes == null ? null : unlink(jobNodes.head);
+        }
+
+        synchronized CompletableCallback poll(Predicate<CompletableCallback> filter) {
+            for (var node = head; node != null; node = node.next) {
+                if (filter.test(node.callback)) {
+                    return unlink(node);
+                }
+            }
+            return null;
+        }
+
+        synchronized void removeIf(Predicate<CompletableCallback> filter, List<CompletableCallback> removed) {
+            var node = head;
+            while (node != null) {
+                var next = node.next;
+                if (filter.test(node.callback)) {
+                    removed.add(unlink(node));
+                }
+                node = next;
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return head == null;
+        }
+
+        private CompletableCallback unlink(Node node) {
+            nodes.remove(node.callback);
+            if (node.timeout != null) {
+                node.timeout.cancel();
+            }
+
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+
+            var jobNodes = jobs.get(node.callback.getJobId());
+            if (node.previousOfJob == null) {
+                jobNodes.head = node.nextOfJob;
+            } else {
+                node.previousOfJob.nextOfJob = node.nextOfJob;
+            }
+            if (node.nextOfJob == null) {
+                jobNodes.tail = node.previousOfJob;
+            } else {
+                node.nextOfJob.previousOfJob = node.previousOfJob;
+            }
+            if (jobNodes.head == null) {
+                jobs.remove(node.callback.getJobId());
+            }
+
+            return node.callback;
+        }
+    }
+}
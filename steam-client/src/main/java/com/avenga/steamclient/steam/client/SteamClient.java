@@ -3,13 +3,15 @@ package com.avenga.steamclient.steam.client;
 import com.avenga.steamclient.base.*;
 import com.avenga.steamclient.constant.Constant;
 import com.avenga.steamclient.constant.TaskConstant;
+import com.avenga.steamclient.enums.ConnectionState;
 import com.avenga.steamclient.enums.EMsg;
 import com.avenga.steamclient.enums.EResult;
 import com.avenga.steamclient.enums.EServerType;
 import com.avenga.steamclient.enums.SteamGame;
 import com.avenga.steamclient.exception.CallbackCompletionException;
-import com.avenga.steamclient.exception.CallbackQueueException;
 import com.avenga.steamclient.exception.CallbackTimeoutException;
+import com.avenga.steamclient.exception.GameCoordinatorUnavailableException;
+import com.avenga.steamclient.exception.MessageBodyDecodeException;
 import com.avenga.steamclient.generated.MsgClientLoggedOff;
 import com.avenga.steamclient.generated.MsgClientServerUnavailable;
 import com.avenga.steamclient.model.JobID;
@@ -24,15 +26,22 @@ import com.avenga.steamclient.protobufs.steamclient.SteammessagesClientserver2.C
 import com.avenga.steamclient.protobufs.steamclient.SteammessagesClientserverLogin.CMsgClientLoggedOff;
 import com.avenga.steamclient.protobufs.steamclient.SteammessagesPlayerSteamclient;
 import com.avenga.steamclient.provider.UserCredentialsProvider;
+import com.avenga.steamclient.event.EventHandler;
 import com.avenga.steamclient.steam.CMClient;
+import com.avenga.steamclient.steam.ConnectionStateChangedEventArgs;
 import com.avenga.steamclient.steam.client.callback.ConnectedClientCallbackHandler;
+import com.avenga.steamclient.steam.client.steamgamecoordinator.GCCircuitBreaker;
 import com.avenga.steamclient.steam.client.steamgamecoordinator.SteamGameCoordinator;
 import com.avenga.steamclient.steam.client.steamgameserver.SteamGameServer;
 import com.avenga.steamclient.steam.client.steamuser.SteamUser;
 import com.avenga.steamclient.steam.client.steamuser.UserLogOnResponse;
-import com.avenga.steamclient.steam.client.task.Task;
+import com.avenga.steamclient.steam.client.steamuser.callback.UserLogOnCallbackHandler;
+import com.avenga.steamclient.steam.client.task.AsyncTask;
 import com.avenga.steamclient.steam.client.task.TaskHandlerJob;
+import com.avenga.steamclient.util.HashedWheelTimer;
 import com.avenga.steamclient.util.MessageUtil;
+import com.avenga.steamclient.util.SharedExecutors;
+import com.avenga.steamclient.util.retry.ExponentialBackoff;
 import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
@@ -61,7 +70,35 @@ public class SteamClient extends CMClient {
     private static final int CLIENT_APPLICATION_ID = 0;
     private static final long DEFAULT_RECONECT_TIMEOUT = 15000;
 
-    private final BlockingQueue<CompletableCallback> callbacksQueue = new LinkedBlockingQueue<>();
+    private final CallbackRegistry callbackRegistry;
+
+    @Getter
+    /**
+     * Timer which expires registered callbacks and timeouts of the asynchronous requests.
+     */
+    private final HashedWheelTimer callbackTimer;
+
+    /**
+     * Executor completing callbacks of the received messages outside of the network thread.
+     */
+    private final Executor callbackCompletionExecutor;
+
+    @Getter
+    /**
+     * Metrics of the callback completion.
+     */
+    private final CallbackCompletionMetrics callbackCompletionMetrics = new CallbackCompletionMetrics();
+
+    @Getter
+    /**
+     * Availability of the Game Coordinator per application.
+     */
+    private final GCCircuitBreaker gcCircuitBreaker = new GCCircuitBreaker();
+
+    /**
+     * Scheduled reconnect after the Game Coordinator host became unavailable.
+     */
+    private HashedWheelTimer.Timeout gcRecoveryTimeout;
 
     @Getter
     /**
@@ -102,15 +139,10 @@ public class SteamClient extends CMClient {
      */
     private Map<Class<? extends ClientHandler>, ClientHandler> handlers = new ConcurrentHashMap<>();
 
-    /**
-     * Handlers of the packet messages received from Steam Network.
-     */
-    private Map<EMsg, Consumer<PacketMessage>> clientPacketHandlers = new ConcurrentHashMap<>();
-
     @Setter
+    @Deprecated
     /**
-     * Interval in milliseconds between checks of the task queue for executing available task.
-     * Default value: 100ms.
+     * Not used anymore: registered tasks start as soon as the previous task completes.
      */
     private long taskCheckPeriod;
 
@@ -118,7 +150,7 @@ public class SteamClient extends CMClient {
     private AtomicBoolean connectingInProgress = new AtomicBoolean();
     private Instant processStartTime;
     private final AtomicLong jobSequence = new AtomicLong(DEFAULT_SEQUENCE_VALUE);
-    private ScheduledExecutorService callbackQueueCleanJob;
+    private volatile long callbackTimeout;
     private TaskHandlerJob taskHandlerJob;
     private Map<String, Long> customCallbackTimeouts;
     private CompletableFuture<Boolean> disconnectCallback;
@@ -160,16 +192,24 @@ public class SteamClient extends CMClient {
         super(configuration, clientName);
         queueSequence.getAndIncrement();
         processStartTime = Instant.now();
-        customCallbackTimeouts = new HashMap<>();
+        callbackTimer = Objects.isNull(configuration.getCallbackTimer())
+                ? HashedWheelTimer.getShared() : configuration.getCallbackTimer();
+        callbackRegistry = new CallbackRegistry(callbackTimer, this::completeCallbackExceptionally);
+        callbackTimeout = configuration.getCallbackTimeout();
+        callbackCompletionExecutor = Objects.isNull(configuration.getCallbackCompletionExecutor())
+                ? SharedExecutors.getCallbackCompletionExecutor() : configuration.getCallbackCompletionExecutor();
+        customCallbackTimeouts = new ConcurrentHashMap<>();
         addCustomCallbackTimeout(SteamGame.Dota2.getApplicationId(), k_EMsgGCClientHello.getNumber(),
                 DEFAULT_RECONECT_TIMEOUT * SteamGameCoordinator.RETRY_COUNT);
 
-        clientPacketHandlers.put(EMsg.ClientFromGC, this::handleClientFromGC);
-        clientPacketHandlers.put(EMsg.ClientPlayingSessionState, this::handleGamePlayingSession);
-        clientPacketHandlers.put(EMsg.ClientConcurrentSessionsBase, this::handleGamePlayingSession);
-        clientPacketHandlers.put(EMsg.ServiceMethod, this::handleServiceMethod);
-        clientPacketHandlers.put(EMsg.ClientLoggedOff, this::handleClientLogOff);
-        clientPacketHandlers.put(EMsg.ClientServerUnavailable, this::handleClientServerUnavailable);
+        var packetRouter = getPacketRouter();
+        packetRouter.setDefaultHandler(this::handleClientCallback);
+        packetRouter.setHandler(EMsg.ClientFromGC, this::handleClientFromGC);
+        packetRouter.setHandler(EMsg.ClientPlayingSessionState, this::handleGamePlayingSession);
+        packetRouter.setHandler(EMsg.ClientConcurrentSessionsBase, this::handleGamePlayingSession);
+        packetRouter.setHandler(EMsg.ServiceMethod, this::handleServiceMethod);
+        packetRouter.setHandler(EMsg.ClientLoggedOff, this::handleClientLogOff);
+        packetRouter.setHandler(EMsg.ClientServerUnavailable, this::handleClientServerUnavailable);
 
         addHandler(new SteamUser());
         addHandler(new SteamGameServer());
@@ -186,9 +226,7 @@ public class SteamClient extends CMClient {
         var steamCallback = new SteamMessageCallback<>(messageCode, CLIENT_APPLICATION_ID, queueSequence.getAndIncrement(),
                 new CompletableFuture<PacketMessage>());
 
-        if (!callbacksQueue.offer(steamCallback)) {
-            throw new CallbackQueueException("Callback for handling message with code '" + messageCode + "' wasn't added to queue");
-        }
+        callbackRegistry.add(steamCallback, getCustomTimeoutOrDefault(steamCallback, callbackTimeout));
 
         return steamCallback;
     }
@@ -204,9 +242,7 @@ public class SteamClient extends CMClient {
         var steamCallback = new SteamMessageCallback<>(messageCode, CLIENT_APPLICATION_ID, queueSequence.getAndIncrement(),
                 new CompletableFuture<PacketMessage>(), properties);
 
-        if (!callbacksQueue.offer(steamCallback)) {
-            throw new CallbackQueueException("Callback for handling message with code '" + messageCode + "' wasn't added to queue");
-        }
+        callbackRegistry.add(steamCallback, getCustomTimeoutOrDefault(steamCallback, callbackTimeout));
 
         return steamCallback;
     }
@@ -217,15 +253,14 @@ public class SteamClient extends CMClient {
      * @param messageCode   Code of the packet message.
      * @param applicationId Id of the Steam client or games.
      * @return Callback wrapper which hold Game Coordinator packet message callback.
+     * @throws GameCoordinatorUnavailableException if the Game Coordinator of the application is unavailable.
      */
     public SteamMessageCallback<GCPacketMessage> addGCCallbackToQueue(int messageCode, int applicationId) {
+        gcCircuitBreaker.checkAvailable(applicationId);
         var steamCallback = new SteamMessageCallback<>(messageCode, applicationId, queueSequence.getAndIncrement(),
                 new CompletableFuture<GCPacketMessage>());
 
-        if (!callbacksQueue.offer(steamCallback)) {
-            throw new CallbackQueueException(
-                    "Game Coordinator callback for handling message with code '" + messageCode + "' wasn't added to queue");
-        }
+        callbackRegistry.add(steamCallback, getCustomTimeoutOrDefault(steamCallback, callbackTimeout));
 
         return steamCallback;
     }
@@ -237,15 +272,14 @@ public class SteamClient extends CMClient {
      * @param applicationId Id of the Steam client or games.
      * @param jobId Id of the job ID set in the header of the packet message.
      * @return Callback wrapper which hold Game Coordinator packet message callback.
+     * @throws GameCoordinatorUnavailableException if the Game Coordinator of the application is unavailable.
      */
     public SteamMessageCallback<GCPacketMessage> addGCCallbackToQueue(int messageCode, int applicationId, long jobId) {
+        gcCircuitBreaker.checkAvailable(applicationId);
         var steamCallback = new SteamMessageCallback<>(messageCode, applicationId, queueSequence.getAndIncrement(), jobId,
                 new CompletableFuture<GCPacketMessage>());
 
-        if (!callbacksQueue.offer(steamCallback)) {
-            throw new CallbackQueueException(
-                    "Game Coordinator callback for handling message with code '" + messageCode + "' wasn't added to queue");
-        }
+        callbackRegistry.add(steamCallback, getCustomTimeoutOrDefault(steamCallback, callbackTimeout));
 
         return steamCallback;
     }
@@ -256,7 +290,7 @@ public class SteamClient extends CMClient {
      * @param messageCallback Callback registered in queue.
      */
     public void removeCallbackFromQueue(SteamMessageCallback messageCallback) {
-        callbacksQueue.remove(messageCallback);
+        callbackRegistry.remove(messageCallback);
     }
 
     /**
@@ -287,17 +321,36 @@ public class SteamClient extends CMClient {
         }
     }
 
+    /**
+     * Establish connection with Steam Network server and login to Steam Server using credentials
+     * prvided by {@link UserCredentialsProvider} without blocking the calling thread. Failed attempts are retried
+     * after jittered exponential backoff of {@link SteamConfiguration#getReconnectBackoffBase()}, a connection closed
+     * during the attempt is retried immediately after the disconnected event.
+     *
+     * @return Future of the log on response of the logged user to Steam Network.
+     */
     public CompletableFuture<UserLogOnResponse> connectAndLoginAsync() {
         Objects.requireNonNull(credentialsProvider, "User credential provider wasn't initialized");
 
         initTaskHandlerJob();
         var callback = new CompletableFuture<UserLogOnResponse>();
 
-        taskHandlerJob.registerTask(new Task(() -> {
-            checkAndCleanQueue();
-            var userLogOnResponse = loginAndGetResponse();
-            credentialsProvider.startResetBannedCredentialJob();
-            callback.complete(userLogOnResponse);
+        taskHandlerJob.registerTask(new AsyncTask(() -> {
+            try {
+                checkAndCleanQueue();
+                return new ReconnectAttempts().start().whenComplete((userLogOnResponse, throwable) -> {
+                    if (Objects.nonNull(throwable)) {
+                        callback.completeExceptionally(throwable);
+                        return;
+                    }
+                    credentialsProvider.startResetBannedCredentialJob();
+                    callback.complete(userLogOnResponse);
+                });
+            } catch (RuntimeException e) {
+                // the task swallows failures of its logic, the caller would wait for the callback forever
+                callback.completeExceptionally(e);
+                throw e;
+            }
         }, TaskConstant.CONNECT_AND_LOGIN_TASK));
 
         return callback;
@@ -315,49 +368,32 @@ public class SteamClient extends CMClient {
         ConnectedClientCallbackHandler.handle(callback, timeout, this);
     }
 
+    private CompletableFuture<PacketMessage> connectAsync(long timeout) {
+        var callback = addCallbackToQueue(ConnectedClientCallbackHandler.CALLBACK_MESSAGE_CODE);
+        super.connect();
+        return ConnectedClientCallbackHandler.handleAsync(callback, timeout, this);
+    }
+
     /**
      * Close connection with Steam Network server and reset {@link SteamClient} queue sequence number.
      */
     @Override
     public void disconnect() {
         if (Objects.nonNull(taskHandlerJob) && !connectingInProgress.get() && isAutoReconnectInProgress.get()) {
-            taskHandlerJob.registerTask(new Task(() -> {
-                disconnectCallback = new CompletableFuture<Boolean>();
+            taskHandlerJob.registerTask(new AsyncTask(() -> {
+                var callback = new CompletableFuture<Boolean>();
+                disconnectCallback = callback;
                 executeDisconnect();
                 if (Objects.isNull(getConnection())) {
                     onClientDisconnected(true);
                 }
-                waitDisconnectCompletion();
+                return callback;
             }, TaskConstant.DISCONNECT_TASK));
         } else {
             executeDisconnect();
         }
     }
 
-    /**
-     * Handle packet message received from Steam Network or Game Coordinator server.
-     * <p>
-     * Based on packet message type received from server callback from the {@link SteamClient} queue will picked and complete.
-     *
-     * @param packetMessage Message received from Steam server.
-     * @return Was packet message processed by registered handlers.
-     */
-    @Override
-    public boolean onClientMsgReceived(PacketMessage packetMessage) {
-        if (!super.onClientMsgReceived(packetMessage)) {
-            return false;
-        }
-
-        var packetHandler = clientPacketHandlers.get(packetMessage.getMessageType());
-
-        if (Objects.nonNull(packetHandler)) {
-            packetHandler.accept(packetMessage);
-        } else {
-            findAndCompleteCallback(getCallbackPredicate(packetMessage.getMessageType().code(), CLIENT_APPLICATION_ID), packetMessage);
-        }
-        return true;
-    }
-
     /**
      * Adds a new handler to the internal list of message handlers.
      *
@@ -432,28 +468,30 @@ public class SteamClient extends CMClient {
 
     /**
      * Add custom callback expired timeout for specific Steam application packet message,
-     * to prevent {@link #startCallbackCleanJob(long, long)} clean callbacks earlier.
+     * to prevent callbacks from expiring earlier than their retries are finished.
      * Custom callback timeouts could be used for packet message with retry logic.
      *
      * @param applicationId of the Steam Game.
-     * @param packetMessageCode code of the packet message sent to Steam Network.
-     * @param expiredCallbackTime when callback for specific packet message should be cleaned.
+     * @param packetMessageCode code of the packet message the callback is registered for.
+     * @param expiredCallbackTime time in milliseconds after which callback for specific packet message expires.
      */
     public void addCustomCallbackTimeout(int applicationId, int packetMessageCode, long expiredCallbackTime) {
         customCallbackTimeouts.put(getCustomTimeoutKey(applicationId, packetMessageCode), expiredCallbackTime);
     }
 
     /**
-     * Starts clean job of the {@link #callbacksQueue}. Callbacks registered for Steam client API methods which
-     * provide {@link CompletableFuture}, won't be cleaned from callback queue automatically, in case
-     * Game Coordinator won't respond on request. To handle such case user can init clean job and provide
-     * time when callback should be cleaned.
+     * Sets the time after which callbacks registered in {@link #callbackRegistry} expire. Pending callbacks expire at
+     * their own deadline on the timer of {@link SteamConfiguration#getCallbackTimer()} and their
+     * {@link CompletableFuture} is completed exceptionally with {@link CallbackTimeoutException}, so callbacks of
+     * requests Game Coordinator didn't respond to don't stay registered.
      * <p>
-     * Please consider expiredCallbackTime correctly based on your business logic to prevent cleaning valid callbacks,
+     * Please consider expiredCallbackTime correctly based on your business logic to prevent expiring valid callbacks,
      * e.g. {@link #connectAndLogin()} method use {@link #DEFAULT_RECONECT_TIMEOUT} in milliseconds.
+     * The time applies to callbacks registered after this call, already registered callbacks which are older
+     * are expired immediately.
      *
-     * @param expiredCallbackTime in seconds after callback was registered and should be cleaned from queue.
-     * @param cleanPeriod perid in seconds when job will check and clean expired callbacks.
+     * @param expiredCallbackTime in seconds after callback was registered and should be expired.
+     * @param cleanPeriod not used anymore, callbacks are expired by the timer at their deadline. Should be greater than 0.
      */
     public void startCallbackCleanJob(long expiredCallbackTime, long cleanPeriod) {
         if (expiredCallbackTime <= 0) {
@@ -463,28 +501,18 @@ public class SteamClient extends CMClient {
             throw new IllegalArgumentException("Clean period should be greater than 0");
         }
 
-        if (Objects.nonNull(callbackQueueCleanJob) && !callbackQueueCleanJob.isShutdown()) {
-            return;
-        }
+        callbackTimeout = TimeUnit.SECONDS.toMillis(expiredCallbackTime);
 
-        callbackQueueCleanJob = Executors.newSingleThreadScheduledExecutor();
-        callbackQueueCleanJob.scheduleAtFixedRate(() -> {
-            try {
-                var currentTime = Instant.now();
-                var expiredCallbacks = callbacksQueue.stream()
-                        .filter(callback -> Objects.nonNull(callback.getCreatedAt())
-                                && currentTime.isAfter(callback.getCreatedAt().plusSeconds(
-                                        getCustomTimeoutOrDefault(callback, expiredCallbackTime))))
-                        .collect(toList());
-
-                if (!expiredCallbacks.isEmpty()) {
-                    LOGGER.debug("{}: Cleaned {} expired callbacks from queue.", clientName, expiredCallbacks.size());
-                    callbacksQueue.removeAll(expiredCallbacks);
-                }
-            } catch (Exception e) {
-                LOGGER.debug("Exception thrown during cleaning callbacks queue: {}", e.toString());
-            }
-        }, cleanPeriod,  cleanPeriod, TimeUnit.SECONDS);
+        var currentTime = Instant.now();
+        var expiredCallbacks = callbackRegistry.removeIf(callback -> Objects.nonNull(callback.getCreatedAt())
+                && currentTime.isAfter(callback.getCreatedAt().plusMillis(getCustomTimeoutOrDefault(callback, callbackTimeout))));
+
+        if (!expiredCallbacks.isEmpty()) {
+            LOGGER.debug("{}: Expired {} callbacks from queue.", clientName, expiredCallbacks.size());
+            expiredCallbacks.forEach(callback -> completeCallbackExceptionally(callback, new CallbackTimeoutException(
+                    String.format(Constant.EXPIRED_CALLBACK_MESSAGE_FORMAT, callback.getMessageCode(),
+                            callback.getApplicationId(), callback.getSequence(), callbackTimeout))));
+        }
     }
 
     /**
@@ -534,7 +562,7 @@ public class SteamClient extends CMClient {
         Objects.requireNonNull(eMsg, "EMsg type wasn't provided.");
         Objects.requireNonNull(packetMessageHandler, "Packet message handler wasn't provided.");
 
-        clientPacketHandlers.put(eMsg, packetMessageHandler);
+        getPacketRouter().setHandler(eMsg, packetMessageHandler);
     }
 
     /**
@@ -551,7 +579,7 @@ public class SteamClient extends CMClient {
     @Override
     protected void onClientConnected() {
         super.onClientConnected();
-        findAndCompleteCallback(getCallbackPredicate(Constant.CONNECTED_PACKET_CODE, CLIENT_APPLICATION_ID), null);
+        completeCallback(callbackRegistry.poll(Constant.CONNECTED_PACKET_CODE, CLIENT_APPLICATION_ID), null);
     }
 
     /**
@@ -564,41 +592,93 @@ public class SteamClient extends CMClient {
         super.onClientDisconnected(userInitiated);
         LOGGER.debug("{}: Client was disconnected. Disconnect initiated by user: {}. Reconnect initiated by user : {}",
                 clientName, userInitiated, reconnectOnUserInitiated);
-        findAndCompleteCallback(getCallbackPredicate(Constant.DISCONNECTED_PACKET_CODE, CLIENT_APPLICATION_ID), null);
+        completeCallback(callbackRegistry.poll(Constant.DISCONNECTED_PACKET_CODE, CLIENT_APPLICATION_ID), null);
         cleanBeforeDisconnect(userInitiated);
         checkAndReconnect(userInitiated);
         checkAndCompleteDisconnectCallback();
     }
 
-    private <T> void findAndCompleteCallback(Predicate<CompletableCallback> callbackPredicate, T packetMessage) {
-        Optional<CompletableCallback> messageCallback = callbacksQueue.stream()
-                .filter(callbackPredicate)
-                .findFirst();
+    private <T> void completeCallback(CompletableCallback callback, T packetMessage) {
+        if (Objects.isNull(callback)) {
+            return;
+        }
 
-        messageCallback.ifPresent(callback -> {
-            callbacksQueue.remove(callback);
-            callback.complete(packetMessage);
-        });
+        submitCompletion(callback, () -> callback.complete(packetMessage));
+    }
+
+    /**
+     * Completes the callback exceptionally on the callback completion executor, so continuations of the callback don't
+     * run on the network thread or the callback timer thread.
+     *
+     * @param callback  callback to complete.
+     * @param throwable cause of the failure.
+     */
+    public void completeCallbackExceptionally(CompletableCallback callback, Throwable throwable) {
+        submitCompletion(callback, () -> callback.completeExceptionally(throwable));
+    }
+
+    private void submitCompletion(CompletableCallback callback, Runnable completion) {
+        var submittingThread = Thread.currentThread();
+        var submittedAt = System.nanoTime();
+        try {
+            callbackCompletionExecutor.execute(() -> runCompletion(completion, submittingThread, submittedAt));
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("{}: Callback completion executor is saturated, completing callback {} on the calling thread",
+                    clientName, callback.getSequence());
+            callbackCompletionMetrics.recordRejection();
+            runCompletion(completion, submittingThread, submittedAt);
+        }
+    }
+
+    private void runCompletion(Runnable completion, Thread submittingThread, long submittedAt) {
+        var startedAt = System.nanoTime();
+        try {
+            completion.run();
+        } finally {
+            callbackCompletionMetrics.recordCompletion(Thread.currentThread() == submittingThread, startedAt - submittedAt,
+                    System.nanoTime() - startedAt);
+        }
+    }
+
+    private void handleClientCallback(PacketMessage packetMessage) {
+        if (Objects.nonNull(packetMessage.getMessageType())) {
+            completeCallback(callbackRegistry.poll(packetMessage.getMessageType().code(), CLIENT_APPLICATION_ID), packetMessage);
+        }
     }
 
     private void handleClientFromGC(PacketMessage packetMessage) {
-        var gcMessage = getGCPacketMessage(packetMessage);
+        GCMessage gcMessage;
+        try {
+            gcMessage = getGCPacketMessage(packetMessage);
+        } catch (MessageBodyDecodeException e) {
+            LOGGER.debug("{}: {}", clientName, e.getMessage());
+            return;
+        }
         LOGGER.debug("{}: <- Recv'd GC EMsg: {} ({}) (Proto: {})", clientName, gcMessage.getMessageType(),
                 gcMessage.geteMsg(), gcMessage.isProto());
+        if (!callbackRegistry.hasCallbacks(gcMessage.geteMsg(), gcMessage.getApplicationID())) {
+            return;
+        }
 
-        findAndCompleteCallback(getCallbackPredicate(gcMessage.geteMsg(), gcMessage.getApplicationID(),
-            gcMessage.getMessage().getTargetJobID().getValue()), gcMessage.getMessage());
+        var jobId = gcMessage.getMessage().getTargetJobID().getValue();
+        var callback = jobId != DEFAULT_UNSET_JOB_ID
+                ? callbackRegistry.poll(gcMessage.geteMsg(), gcMessage.getApplicationID(), jobId)
+                : callbackRegistry.poll(gcMessage.geteMsg(), gcMessage.getApplicationID());
+        completeCallback(callback, gcMessage.getMessage());
     }
 
     private void handleGamePlayingSession(PacketMessage packetMessage) {
-        ClientMessageProtobuf<CMsgClientPlayingSessionState.Builder> playingSessionBuilder = new ClientMessageProtobuf<>(
-                CMsgClientPlayingSessionState.class, packetMessage);
-        var playingSession = playingSessionBuilder.getBody().build();
-        var predicate = getCallbackPredicate(packetMessage.getMessageType().code(), CLIENT_APPLICATION_ID)
-                .and(getGamePlayedPredicate(playingSession));
-
-        LOGGER.debug("{}: Playing session game {} blocked: {}", clientName, playingSession.getPlayingApp(), playingSession.getPlayingBlocked());
-        findAndCompleteCallback(predicate, packetMessage);
+        try {
+            if (LOGGER.isDebugEnabled()) {
+                var playingSession = packetMessage.getBody(CMsgClientPlayingSessionState.class);
+                LOGGER.debug("{}: Playing session game {} blocked: {}", clientName, playingSession.getPlayingApp(), playingSession.getPlayingBlocked());
+            }
+            // the body is decoded only when there is a callback to test
+            completeCallback(callbackRegistry.poll(packetMessage.getMessageType().code(), CLIENT_APPLICATION_ID,
+                    getGamePlayedPredicate(packetMessage)), packetMessage);
+        } catch (MessageBodyDecodeException e) {
+            LOGGER.debug("{}: {}", clientName, e.getMessage());
+        }
     }
 
     private void handleServiceMethod(PacketMessage packetMessage) {
@@ -611,13 +691,14 @@ public class SteamClient extends CMClient {
                 MessageUtil.getMessage(serverUnavailableMessage.getBody().getEMsgSent()), serverUnavailableMessage.getBody().getEServerTypeUnavailable());
 
         if (serverUnavailableMessage.getBody().getEServerTypeUnavailable().equals(EServerType.GCH)) {
-            try {
-                TimeUnit.MINUTES.sleep(15);
-            } catch (InterruptedException e) {
-                LOGGER.debug("{}: Waiting of the disconnect timeout was interrupted.", clientName);
-            }
-            setReconnectOnUserInitiated(true);
-            this.disconnect();
+            var backoff = getConfiguration().getGcUnavailableBackoff();
+            var applicationIds = gcCircuitBreaker.open(backoff);
+            LOGGER.debug("{}: Game Coordinator is unavailable for applications {}, reconnect in {} ms.", clientName,
+                    applicationIds, backoff);
+            callbackRegistry.removeIf(callback -> applicationIds.contains(callback.getApplicationId()))
+                    .forEach(callback -> completeCallbackExceptionally(callback,
+                            gcCircuitBreaker.newUnavailableException(callback.getApplicationId())));
+            scheduleGCRecovery(backoff);
         }
     }
 
@@ -637,8 +718,7 @@ public class SteamClient extends CMClient {
     }
 
     private GCMessage getGCPacketMessage(PacketMessage packetMessage) {
-        var gcClientMessage = new ClientMessageProtobuf<CMsgGCClient.Builder>(CMsgGCClient.class, packetMessage);
-        return new GCMessage(gcClientMessage.getBody());
+        return new GCMessage(packetMessage.getBody(CMsgGCClient.class));
     }
 
     private void handleServiceMethodBody(PacketMessage packetMessage, ClientMessageProtobuf body) {
@@ -647,17 +727,15 @@ public class SteamClient extends CMClient {
             var gameIds = playedTimesResponse.getGamesList().stream()
                     .map(game -> String.valueOf(game.getAppid()))
                     .collect(toList());
-            var predicate = getCallbackPredicate(packetMessage.getMessageType().code(), CLIENT_APPLICATION_ID)
-                    .and(getServiceMethodBodyPredicate(gameIds));
-
             LOGGER.debug("{}: Processing PlayedGame with matches: {}", clientName, gameIds);
-            findAndCompleteCallback(predicate, packetMessage);
+            completeCallback(callbackRegistry.poll(packetMessage.getMessageType().code(), CLIENT_APPLICATION_ID,
+                    getServiceMethodBodyPredicate(gameIds)), packetMessage);
         }
     }
 
-    private Predicate<CompletableCallback> getGamePlayedPredicate(CMsgClientPlayingSessionState playingSession) {
+    private Predicate<CompletableCallback> getGamePlayedPredicate(PacketMessage packetMessage) {
         return completableCallback -> Objects.nonNull(completableCallback.getProperties())
-                && String.valueOf(playingSession.getPlayingApp()).equals(
+                && String.valueOf(packetMessage.getBody(CMsgClientPlayingSessionState.class).getPlayingApp()).equals(
                 completableCallback.getProperties().get(PLAYER_LAST_PLAYED_TIMES).toString());
     }
 
@@ -666,48 +744,6 @@ public class SteamClient extends CMClient {
                 && gameIds.contains(completableCallback.getProperties().get(PLAYER_LAST_PLAYED_TIMES).toString());
     }
 
-    private synchronized UserLogOnResponse loginAndGetResponse() {
-        isAutoReconnectInProgress.compareAndSet(false, true);
-        var steamUser = getHandler(SteamUser.class);
-        Optional<UserLogOnResponse> logOnResponse = Optional.empty();
-
-        do {
-            currentLoggedUser.set(credentialsProvider.getNext());
-            openConnection();
-            try {
-                logOnResponse = steamUser.logOn(currentLoggedUser.get().getLogOnDetails(), DEFAULT_RECONECT_TIMEOUT);
-            } catch (CallbackTimeoutException e) {
-                logOnResponse = Optional.empty();
-                currentLoggedUser.get().blockFor(LogOnDetailsRecord.RECONNECT_TIMEOUT);
-            }
-
-            if (logOnResponse.isPresent() && logOnResponse.get().getResult() != EResult.OK) {
-                checkAndBlockCredentials(logOnResponse.get().getResult());
-            }
-            credentialsProvider.returnKey(currentLoggedUser.get());
-        } while (!logOnResponse.isPresent() || logOnResponse.get().getResult() != EResult.OK);
-
-        checkAndRunAutoReconnectCallback();
-        isAutoReconnectInProgress.compareAndSet(true, false);
-        LOGGER.debug("{}: Connection was successfully established with user: {}", clientName,
-                currentLoggedUser.get().getLogOnDetails().getUsername());
-
-        return logOnResponse.get();
-    }
-
-    private void openConnection() {
-        connectingInProgress.compareAndSet(false, true);
-        while (connectingInProgress.get()) {
-            try {
-                this.connect(DEFAULT_RECONECT_TIMEOUT);
-            } catch (CallbackTimeoutException e) {
-                waitBeforeNextTry();
-                continue;
-            }
-            connectingInProgress.compareAndSet(true, false);
-        }
-    }
-
     private void checkAndReconnect(boolean userInitiated) {
         if (Objects.nonNull(credentialsProvider) && !connectingInProgress.get()) {
             if (reconnectOnUserInitiated.get() || !userInitiated) {
@@ -717,12 +753,8 @@ public class SteamClient extends CMClient {
                 checkAndCompleteDisconnectCallback();
                 credentialsProvider.stopResetBannedCredentialJob();
                 checkAndStopTaskHandlerJob();
-                checkAndShutdownCleanJob();
             }
         }
-        if (Objects.isNull(credentialsProvider)) {
-            checkAndShutdownCleanJob();
-        }
     }
 
     private void checkAndBlockCredentials(EResult logOnResult) {
@@ -757,14 +789,6 @@ public class SteamClient extends CMClient {
         }
     }
 
-    private void waitBeforeNextTry() {
-        try {
-            TimeUnit.MILLISECONDS.sleep(DEFAULT_RECONECT_TIMEOUT);
-        } catch (InterruptedException ex) {
-            LOGGER.debug("{}: Exception occuers during waiting connection retry: {}", clientName, ex.toString());
-        }
-    }
-
     private void checkAndRunAutoReconnectCallback() {
         if (Objects.nonNull(onAutoReconnect)) {
             onAutoReconnect.accept(this);
@@ -773,40 +797,32 @@ public class SteamClient extends CMClient {
 
     private void initTaskHandlerJob() {
         if (Objects.isNull(taskHandlerJob)) {
-            taskHandlerJob = new TaskHandlerJob(clientName, taskCheckPeriod);
+            taskHandlerJob = new TaskHandlerJob(clientName, getTaskExecutor());
         }
     }
 
-    private void checkAndCleanQueue() {
-        if (!callbacksQueue.isEmpty()) {
-            callbacksQueue.forEach(CompletableCallback::cancel);
-            callbacksQueue.clear();
-        }
-    }
-
-    private void cleanBeforeDisconnect(boolean userInitiated) {
-        if (userInitiated && !connectingInProgress.get() && !reconnectOnUserInitiated.get()) {
-            checkAndCleanQueue();
+    private synchronized void scheduleGCRecovery(long backoff) {
+        if (Objects.nonNull(gcRecoveryTimeout) && !gcRecoveryTimeout.isExpired() && !gcRecoveryTimeout.isCancelled()) {
+            return;
         }
-    }
 
-    private Predicate<CompletableCallback> getCallbackPredicate(int messageCode, int applicationId) {
-        return completableCallback -> completableCallback.getMessageCode() == messageCode
-                && completableCallback.getApplicationId() == applicationId;
+        gcRecoveryTimeout = callbackTimer.newTimeout(() -> getTaskExecutor().execute(() -> {
+            LOGGER.debug("{}: Reconnecting after Game Coordinator unavailability.", clientName);
+            gcCircuitBreaker.closeAll();
+            setReconnectOnUserInitiated(true);
+            disconnect();
+        }), backoff);
     }
 
-    private Predicate<CompletableCallback> getCallbackPredicate(int messageCode, int applicationId, long jobId) {
-        if (jobId != DEFAULT_UNSET_JOB_ID) {
-            return getCallbackPredicate(messageCode, applicationId)
-                    .and(completableCallback -> completableCallback.getJobId() == jobId);
+    private void checkAndCleanQueue() {
+        if (!callbackRegistry.isEmpty()) {
+            callbackRegistry.clear().forEach(CompletableCallback::cancel);
         }
-
-        return getCallbackPredicate(messageCode, applicationId);
     }
 
-    private void checkAndShutdownCleanJob() {
-        if (Objects.nonNull(callbackQueueCleanJob) && !callbackQueueCleanJob.isShutdown()) {
-            callbackQueueCleanJob.shutdown();
+    private void cleanBeforeDisconnect(boolean userInitiated) {
+        if (userInitiated && !connectingInProgress.get() && !reconnectOnUserInitiated.get()) {
+            checkAndCleanQueue();
         }
     }
 
@@ -845,17 +861,174 @@ public class SteamClient extends CMClient {
         queueSequence.getAndIncrement();
     }
 
-    private void waitDisconnectCompletion() {
-        try {
-            disconnectCallback.get();
-        } catch (Exception e) {
-            LOGGER.debug("{}: Disconnect callback completion was interrupted.", clientName);
-        }
-    }
-
     private void checkAndCompleteDisconnectCallback() {
         if (Objects.nonNull(disconnectCallback) && !disconnectCallback.isDone()) {
             disconnectCallback.complete(true);
         }
     }
+
+    private void cancelConnectionCallbacks() {
+        callbackRegistry.removeIf(callback -> callback.getApplicationId() == CLIENT_APPLICATION_ID
+                && (callback.getMessageCode() == ConnectedClientCallbackHandler.CALLBACK_MESSAGE_CODE
+                || callback.getMessageCode() == UserLogOnCallbackHandler.CALLBACK_MESSAGE_CODE))
+                .forEach(CompletableCallback::cancel);
+    }
+
+    /**
+     * Connection and log on attempts of the {@link #connectAndLoginAsync()}. Every attempt opens connection and logs on
+     * the user provided by {@link UserCredentialsProvider}, no thread waits for the credentials or the responses.
+     * Failed attempt is retried on the {@link #getCallbackTimer() callback timer} after jittered exponential backoff.
+     * Attempt whose connection was closed fails on the disconnected event instead of waiting for the timeout.
+     */
+    private final class ReconnectAttempts {
+        private final CompletableFuture<UserLogOnResponse> result = new CompletableFuture<>();
+        private final ExponentialBackoff backoff = new ExponentialBackoff(getConfiguration().getReconnectBackoffBase(),
+                getConfiguration().getReconnectBackoffMax());
+        private final EventHandler<ConnectionStateChangedEventArgs> connectionStateChanged =
+                (sender, eventArgs) -> onConnectionStateChanged(eventArgs.getState());
+        private LogOnDetailsRecord user;
+        private boolean loggingOn;
+        private volatile boolean connectionStarted;
+        private volatile CompletableFuture<UserLogOnResponse> connectionLost;
+        private volatile HashedWheelTimer.Timeout retryTimeout;
+        private volatile CompletableFuture<LogOnDetailsRecord> pendingUser;
+
+        private CompletableFuture<UserLogOnResponse> start() {
+            isAutoReconnectInProgress.compareAndSet(false, true);
+            connectingInProgress.set(true);
+            getConnectionStateChanged().addEventHandler(connectionStateChanged);
+            result.whenComplete((userLogOnResponse, throwable) -> finish());
+            attempt();
+            return result;
+        }
+
+        private synchronized void attempt() {
+            if (result.isDone()) {
+                return;
+            }
+
+            if (Objects.isNull(user)) {
+                var nextUser = credentialsProvider.getNextAsync();
+                pendingUser = nextUser;
+                nextUser.thenAcceptAsync(this::onUserProvided, getTaskExecutor());
+                return;
+            }
+
+            try {
+                var logOnDetails = user.getLogOnDetails();
+                var lost = new CompletableFuture<UserLogOnResponse>();
+                connectionLost = lost;
+                connectionStarted = false;
+                loggingOn = false;
+
+                connectAsync(DEFAULT_RECONECT_TIMEOUT)
+                        .thenCompose(packetMessage -> {
+                            markLoggingOn();
+                            return getHandler(SteamUser.class).logOnAsync(logOnDetails, DEFAULT_RECONECT_TIMEOUT);
+                        })
+                        .applyToEither(lost, userLogOnResponse -> userLogOnResponse)
+                        .whenCompleteAsync(this::onLogOnResponse, getTaskExecutor());
+            } catch (RuntimeException e) {
+                onLogOnResponse(null, e);
+            }
+        }
+
+        private synchronized void onUserProvided(LogOnDetailsRecord providedUser) {
+            pendingUser = null;
+            if (result.isDone()) {
+                credentialsProvider.returnKey(providedUser);
+                return;
+            }
+
+            user = providedUser;
+            currentLoggedUser.set(providedUser);
+            attempt();
+        }
+
+        private synchronized void markLoggingOn() {
+            loggingOn = true;
+        }
+
+        private synchronized void onLogOnResponse(UserLogOnResponse userLogOnResponse, Throwable throwable) {
+            connectionLost = null;
+            if (result.isDone()) {
+                return;
+            }
+
+            if (Objects.isNull(throwable) && userLogOnResponse.getResult() == EResult.OK) {
+                credentialsProvider.returnKey(user);
+                LOGGER.debug("{}: Connection was successfully established with user: {}", clientName,
+                        user.getLogOnDetails().getUsername());
+                connectingInProgress.set(false);
+                checkAndRunAutoReconnectCallback();
+                result.complete(userLogOnResponse);
+                return;
+            }
+
+            cancelConnectionCallbacks();
+            var cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (Objects.isNull(cause)) {
+                checkAndBlockCredentials(userLogOnResponse.getResult());
+                releaseUser();
+            } else if (loggingOn && cause instanceof CallbackTimeoutException) {
+                user.blockFor(LogOnDetailsRecord.RECONNECT_TIMEOUT);
+                releaseUser();
+            } else {
+                LOGGER.debug("{}: Connection attempt failed: {}", clientName, cause.toString());
+            }
+            scheduleRetry();
+        }
+
+        private void scheduleRetry() {
+            var delay = backoff.nextDelay();
+            LOGGER.debug("{}: Next connection attempt in {} ms.", clientName, delay);
+            retryTimeout = callbackTimer.newTimeout(() -> {
+                try {
+                    getTaskExecutor().execute(this::attempt);
+                } catch (RejectedExecutionException e) {
+                    attempt();
+                }
+            }, delay);
+        }
+
+        private void onConnectionStateChanged(ConnectionState state) {
+            if (state == ConnectionState.CONNECTING) {
+                connectionStarted = true;
+            } else if (state == ConnectionState.DISCONNECTED && connectionStarted) {
+                var lost = connectionLost;
+                if (Objects.nonNull(lost)) {
+                    lost.completeExceptionally(new CallbackCompletionException("Connection was closed during the attempt"));
+                }
+            }
+        }
+
+        private synchronized void releaseUser() {
+            if (Objects.nonNull(user)) {
+                credentialsProvider.returnKey(user);
+                user = null;
+            }
+        }
+
+        private void finish() {
+            getConnectionStateChanged().removeEventHandler(connectionStateChanged);
+            var timeout = retryTimeout;
+            if (Objects.nonNull(timeout)) {
+                timeout.cancel();
+            }
+            var nextUser = pendingUser;
+            if (Objects.nonNull(nextUser)) {
+                nextUser.cancel(false);
+            }
+            if (result.isCancelled()) {
+                cancelConnectionCallbacks();
+                releaseUser();
+            } else {
+                synchronized (this) {
+                    user = null;
+                }
+            }
+            connectingInProgress.set(false);
+            isAutoReconnectInProgress.compareAndSet(true, false);
+        }
+    }
 }
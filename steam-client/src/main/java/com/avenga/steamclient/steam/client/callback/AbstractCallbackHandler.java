@@ -16,11 +16,67 @@ public abstract class AbstractCallbackHandler<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractCallbackHandler.class);
 
+    /**
+     * Schedules timeout of the callback without blocking the calling thread. If the packet message isn't received
+     * within the timeout, callback will be removed from queue and completed exceptionally with
+     * {@link CallbackTimeoutException} on the callback completion executor. Timeout is scheduled on the
+     * {@link SteamClient#getCallbackTimer() callback timer} and cancelled as soon as the callback completes.
+     *
+     * @param callback    Registered callback in {@link SteamClient} callback queue.
+     * @param timeout     Time during which callback should be completed, in milliseconds.
+     * @param handlerName Name of the handler which handle current callback.
+     * @param client      Stean synchronous client.
+     * @param <T>         Packet message type.
+     * @return Future of the packet message received from the Steam Network servers.
+     */
+    protected static <T> CompletableFuture<T> completeOrRemoveAfterTimeout(SteamMessageCallback<T> callback, long timeout,
+                                                                          String handlerName, SteamClient client) {
+        var future = callback.getCallback();
+        var scheduledTimeout = client.getCallbackTimer().newTimeout(() -> {
+            client.removeCallbackFromQueue(callback);
+            client.completeCallbackExceptionally(callback, new CallbackTimeoutException(String.format(
+                    TIMEOUT_EXCEPTION_MESSAGE_FORMAT, handlerName, callback.getSequence())));
+        }, timeout);
+        future.whenComplete((packetMessage, throwable) -> scheduledTimeout.cancel());
+        return future;
+    }
+
+    /**
+     * Waits for completion of the future which completes exceptionally on its own timeout, e.g. a future returned by
+     * {@link #completeOrRemoveAfterTimeout(SteamMessageCallback, long, String, SteamClient)}.
+     * <p>
+     * During reconnecting all pending callbacks will be canceled and Optional.empty() will be returned otherwise
+     * Optional will contain correspond packet message.
+     *
+     * @param future      Future of the packet message.
+     * @param handlerName Name of the handler which handle current callback.
+     * @param client      Stean synchronous client.
+     * @param <T>         Packet message type.
+     * @return Packet message received from the the Steam Network servers.
+     * @throws CallbackTimeoutException if the future timed out.
+     */
+    protected static <T> Optional<T> waitAndGetMessage(CompletableFuture<T> future, String handlerName,
+                                                       SteamClient client) throws CallbackTimeoutException {
+        try {
+            return Optional.ofNullable(future.get());
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof CallbackTimeoutException) {
+                throw (CallbackTimeoutException) e.getCause();
+            }
+            LOGGER.debug(CALLBACK_EXCEPTION_MESSAGE_FORMAT, client.getClientName(), handlerName, e.toString());
+            return Optional.empty();
+        } catch (final InterruptedException | CancellationException e) {
+            LOGGER.debug(CALLBACK_EXCEPTION_MESSAGE_FORMAT, client.getClientName(), handlerName, e.toString());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Waits for callback completion and return packet message received from the Steam Network servers.
      * Packet message will be returned if callback will be finished in time, otherwise callback after specified timeout
      * will be removed from queue. We don't need to cancel {@link CompletableFuture} callback as we don't
-     * execute any logic in it.
+     * execute any logic in it. Callback which expired in {@link SteamClient} callback queue throws
+     * {@link CallbackTimeoutException} as well.
      * <p>
      * During reconnecting all pending callbacks will be canceled and Optional.empty() will be returned otherwise
      * Optional will contain correspond packet message.
@@ -35,15 +91,7 @@ public abstract class AbstractCallbackHandler<T> {
      */
     protected static <T> Optional<T> waitAndGetMessageOrRemoveAfterTimeout(SteamMessageCallback<T> callback, long timeout,
                                                                            String handlerName, SteamClient client) throws CallbackTimeoutException {
-        try {
-            return Optional.ofNullable(callback.getCallback().get(timeout, TimeUnit.MILLISECONDS));
-        } catch (final TimeoutException e) {
-            client.removeCallbackFromQueue(callback);
-            throw new CallbackTimeoutException(String.format(TIMEOUT_EXCEPTION_MESSAGE_FORMAT, handlerName, callback.getSequence()), e);
-        } catch (final InterruptedException | ExecutionException | CancellationException e) {
-            LOGGER.debug(CALLBACK_EXCEPTION_MESSAGE_FORMAT, client.getClientName(), handlerName, e.toString());
-            return Optional.empty();
-        }
+        return waitAndGetMessage(completeOrRemoveAfterTimeout(callback, timeout, handlerName, client), handlerName, client);
     }
 
     /**
@@ -66,7 +114,13 @@ public abstract class AbstractCallbackHandler<T> {
             return Optional.ofNullable(callback.getCallback().get(timeout, TimeUnit.MILLISECONDS));
         } catch (final TimeoutException e) {
             throw new CallbackTimeoutException(String.format(TIMEOUT_EXCEPTION_MESSAGE_FORMAT, handlerName, callback.getSequence()), e);
-        } catch (final InterruptedException | ExecutionException | CancellationException e) {
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof CallbackTimeoutException) {
+                throw (CallbackTimeoutException) e.getCause();
+            }
+            LOGGER.debug(CALLBACK_EXCEPTION_MESSAGE_FORMAT, client.getClientName(), handlerName, e.toString());
+            return Optional.empty();
+        } catch (final InterruptedException | CancellationException e) {
             LOGGER.debug(CALLBACK_EXCEPTION_MESSAGE_FORMAT, client.getClientName(), handlerName, e.toString());
             return Optional.empty();
         }
@@ -6,11 +6,19 @@ import com.avenga.steamclient.exception.CallbackTimeoutException;
 import com.avenga.steamclient.model.steam.SteamMessageCallback;
 import com.avenga.steamclient.steam.client.SteamClient;
 
+import java.util.concurrent.CompletableFuture;
+
 public class ConnectedClientCallbackHandler extends AbstractCallbackHandler<PacketMessage> {
 
     public static final int CALLBACK_MESSAGE_CODE = Constant.CONNECTED_PACKET_CODE;
 
+    private static final String HANDLER_NAME = "ConnectedClient";
+
+    public static CompletableFuture<PacketMessage> handleAsync(SteamMessageCallback<PacketMessage> callback, long timeout, SteamClient client) {
+        return completeOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client);
+    }
+
     public static void handle(SteamMessageCallback<PacketMessage> callback, long timeout, SteamClient client) throws CallbackTimeoutException {
-        waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, "ConnectedClient", client);
+        waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client);
     }
 }
@@ -5,9 +5,17 @@ import com.avenga.steamclient.exception.CallbackTimeoutException;
 import com.avenga.steamclient.model.steam.SteamMessageCallback;
 import com.avenga.steamclient.steam.client.SteamClient;
 
+import java.util.concurrent.CompletableFuture;
+
 public class GamePlayedClientCallbackHandler extends AbstractCallbackHandler<PacketMessage> {
 
+    private static final String HANDLER_NAME = "GamePlayed";
+
+    public static CompletableFuture<PacketMessage> handleAsync(SteamMessageCallback<PacketMessage> callback, long timeout, SteamClient client) {
+        return completeOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client);
+    }
+
     public static void handle(SteamMessageCallback<PacketMessage> callback, long timeout, SteamClient client) throws CallbackTimeoutException {
-        waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, "GamePlayed", client);
+        waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client);
     }
 }
@@ -0,0 +1,95 @@
+package com.avenga.steamclient.steam.client.steamgamecoordinator;
+
+import com.avenga.steamclient.exception.GameCoordinatorUnavailableException;
+import com.avenga.steamclient.steam.client.SteamClient;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks availability of the Game Coordinator per application. When Steam reports that the Game Coordinator host is
+ * unavailable, the breaker opens for every application the client talks to, and requests to these applications fail
+ * fast with {@link GameCoordinatorUnavailableException} until the breaker is closed or the backoff elapses.
+ * Steam doesn't tell which application was affected, so all of them are opened.
+ */
+public class GCCircuitBreaker {
+
+    private static final String UNAVAILABLE_MESSAGE_FORMAT = "Game Coordinator of the application %d is unavailable until %s";
+
+    private final Set<Integer> applicationIds = ConcurrentHashMap.newKeySet();
+
+    private final Map<Integer, Long> unavailableUntil = new ConcurrentHashMap<>();
+
+    /**
+     * Remembers the application which the client sent a Game Coordinator message to.
+     *
+     * @param applicationId ID of the application of the Steam Network.
+     */
+    public void recordRequest(int applicationId) {
+        applicationIds.add(applicationId);
+    }
+
+    /**
+     * @param applicationId ID of the application of the Steam Network.
+     * @return <b>true</b> if the Game Coordinator of the application accepts requests.
+     */
+    public boolean isAvailable(int applicationId) {
+        var until = unavailableUntil.get(applicationId);
+        if (until == null) {
+            return true;
+        }
+        if (System.currentTimeMillis() >= until) {
+            unavailableUntil.remove(applicationId, until);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Fails fast if the Game Coordinator of the application is unavailable.
+     *
+     * @param applicationId ID of the application of the Steam Network.
+     * @throws GameCoordinatorUnavailableException if the breaker of the application is open.
+     */
+    public void checkAvailable(int applicationId) {
+        if (!isAvailable(applicationId)) {
+            throw newUnavailableException(applicationId);
+        }
+    }
+
+    /**
+     * Opens the breaker of every application the client sent Game Coordinator messages to.
+     *
+     * @param backoff time in milliseconds during which requests fail fast.
+     * @return IDs of the applications whose breakers were opened.
+     */
+    public Set<Integer> open(long backoff) {
+        var until = System.currentTimeMillis() + backoff;
+        Set<Integer> opened = new HashSet<>();
+        for (Integer applicationId : applicationIds) {
+            unavailableUntil.merge(applicationId, until, Math::max);
+            opened.add(applicationId);
+        }
+        return opened;
+    }
+
+    /**
+     * Closes breakers of all applications, e.g. after the {@link SteamClient} reconnected.
+     */
+    public void closeAll() {
+        unavailableUntil.clear();
+    }
+
+    /**
+     * @param applicationId ID of the application of the Steam Network.
+     * @return exception describing unavailability of the application Game Coordinator.
+     */
+    public GameCoordinatorUnavailableException newUnavailableException(int applicationId) {
+        var until = unavailableUntil.getOrDefault(applicationId, System.currentTimeMillis());
+        return new GameCoordinatorUnavailableException(String.format(UNAVAILABLE_MESSAGE_FORMAT, applicationId,
+                Instant.ofEpochMilli(until)));
+    }
+}
@@ -3,6 +3,7 @@ package com.avenga.steamclient.steam.client.steamgamecoordinator;
 import com.avenga.steamclient.base.ClientGCMessage;
 import com.avenga.steamclient.base.ClientGCProtobufMessage;
 import com.avenga.steamclient.base.ClientMessageProtobuf;
+import com.avenga.steamclient.base.GCPacketMessage;
 import com.avenga.steamclient.enums.EMsg;
 import com.avenga.steamclient.exception.CallbackTimeoutException;
 import com.avenga.steamclient.model.steam.ClientHandler;
@@ -24,6 +25,7 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import static com.avenga.steamclient.protobufs.dota.DotaGCMessagesCommon.EDOTAGCSessionNeed.k_EDOTAGCSessionNeed_UserInUINeverConnected_VALUE;
 import static com.avenga.steamclient.protobufs.tf.GCSystemMessages.EGCBaseClientMsg.k_EMsgGCClientHello;
@@ -63,6 +65,7 @@ public class SteamGameCoordinator extends ClientHandler {
         clientMsg.getBody().setAppid(applicationId);
         clientMsg.getBody().setPayload(ByteString.copyFrom(message.serialize()));
         client.send(clientMsg);
+        client.getGcCircuitBreaker().recordRequest(applicationId);
     }
 
     /**
@@ -76,16 +79,36 @@ public class SteamGameCoordinator extends ClientHandler {
      *                                  period and several retries.
      */
     public void sendClientHello(GCSdkGCMessages.ESourceEngine sourceEngine, int applicationId, long timeout) throws CallbackTimeoutException {
+        GCHelloCallbackHandler.handle(sendClientHelloRequest(sourceEngine, applicationId, timeout), getClient());
+    }
+
+    /**
+     * Send Hello message to the Game Coordinator server to initiate session without blocking the calling thread.
+     * Message is sent again every time the response isn't received within the timeout.
+     * Callback could be canceled during execution of the auto reconnect logic.
+     *
+     * @param sourceEngine  Type of the source engine.
+     * @param applicationId ID of the application of the Steam Network.
+     * @param timeout       Time during which response should be received after each sent message.
+     * @return CompletableFuture Callback with {@link GCSdkGCMessages.CMsgClientWelcome} message, completed exceptionally
+     * with {@link CallbackTimeoutException} if the response wasn't received after several retries.
+     */
+    public CompletableFuture<GCSdkGCMessages.CMsgClientWelcome> sendClientHelloAsync(GCSdkGCMessages.ESourceEngine sourceEngine,
+                                                                                    int applicationId, long timeout) {
+        return sendClientHelloRequest(sourceEngine, applicationId, timeout)
+                .thenApply(GCHelloCallbackHandler::getMessage);
+    }
+
+    private CompletableFuture<GCPacketMessage> sendClientHelloRequest(GCSdkGCMessages.ESourceEngine sourceEngine,
+                                                                      int applicationId, long timeout) {
         var gcSessionCallback = getClient().addGCCallbackToQueue(k_EMsgGCClientWelcome.getNumber(), applicationId);
         var clientHelloMessage = new ClientGCProtobufMessage<CMsgClientHello.Builder>(CMsgClientHello.class, k_EMsgGCClientHello.getNumber());
         clientHelloMessage.getBody().setEngine(sourceEngine);
         clientHelloMessage.getBody().setClientSessionNeed(k_EDOTAGCSessionNeed_UserInUINeverConnected_VALUE);
         clientHelloMessage.getBody().setOsType(Utils.getOSType().code());
 
-        RetryHandlerUtil.getOrRetry(() -> {
-            send(clientHelloMessage, applicationId, k_EMsgGCClientHello);
-            return GCHelloCallbackHandler.handle(gcSessionCallback, timeout, client);
-        }, gcSessionCallback, RETRY_COUNT, getClient());
+        return RetryHandlerUtil.getOrRetryAsync(() -> send(clientHelloMessage, applicationId, k_EMsgGCClientHello),
+                gcSessionCallback, RETRY_COUNT, timeout, GCHelloCallbackHandler.HANDLER_NAME, getClient());
     }
 
     /**
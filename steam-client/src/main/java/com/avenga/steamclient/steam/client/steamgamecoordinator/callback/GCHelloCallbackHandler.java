@@ -10,12 +10,21 @@ import com.avenga.steamclient.steam.client.callback.AbstractCallbackHandler;
 import com.avenga.steamclient.util.CallbackHandlerUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class GCHelloCallbackHandler extends AbstractCallbackHandler<GCPacketMessage> {
 
+    public static final String HANDLER_NAME = "GCHello";
+
     public static Optional<CMsgClientWelcome> handle(SteamMessageCallback<GCPacketMessage> callback, long timeout,
                                                      SteamClient client) throws CallbackTimeoutException {
-        var gcPacketMessage = waitAndGetPacketMessage(callback, timeout, "GCHello", client);
+        var gcPacketMessage = waitAndGetPacketMessage(callback, timeout, HANDLER_NAME, client);
+
+        return CallbackHandlerUtils.getValueOrDefault(gcPacketMessage, GCHelloCallbackHandler::getMessage);
+    }
+
+    public static Optional<CMsgClientWelcome> handle(CompletableFuture<GCPacketMessage> response, SteamClient client) throws CallbackTimeoutException {
+        var gcPacketMessage = waitAndGetMessage(response, HANDLER_NAME, client);
 
         return CallbackHandlerUtils.getValueOrDefault(gcPacketMessage, GCHelloCallbackHandler::getMessage);
     }
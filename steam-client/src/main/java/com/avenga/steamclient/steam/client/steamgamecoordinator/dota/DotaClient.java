@@ -8,6 +8,7 @@ import com.avenga.steamclient.model.steam.gamecoordinator.dota.account.DotaProfi
 import com.avenga.steamclient.model.steam.gamecoordinator.dota.match.DotaMatchDetails;
 import com.avenga.steamclient.protobufs.dota.DotaGCMessagesClient.CMsgClientToGCGetProfileCard;
 import com.avenga.steamclient.protobufs.dota.DotaGCMessagesClient.CMsgGCMatchDetailsRequest;
+import com.avenga.steamclient.protobufs.dota.GCSdkGCMessages.CMsgClientWelcome;
 import com.avenga.steamclient.protobufs.dota.GCSdkGCMessages.ESourceEngine;
 import com.avenga.steamclient.steam.client.SteamClient;
 import com.avenga.steamclient.steam.client.steamgamecoordinator.dota.callback.MatchDetailsCallbackHandler;
@@ -44,6 +45,18 @@ public class DotaClient extends ClientGCHandler {
         gameCoordinator.sendClientHello(ESourceEngine.k_ESE_Source2, applicationId, timeout);
     }
 
+    /**
+     * Send Hello message to the Game Coordinator server to initiate session without blocking the calling thread.
+     * Callback could be canceled during execution of the auto reconnect logic.
+     *
+     * @param timeout The time during which response should be received after each sent message, in milliseconds.
+     * @return CompletableFuture Callback with {@link CMsgClientWelcome} message, completed exceptionally with
+     * {@link CallbackTimeoutException} if the response wasn't received after several retries.
+     */
+    public CompletableFuture<CMsgClientWelcome> sendClientHelloAsync(long timeout) {
+        return gameCoordinator.sendClientHelloAsync(ESourceEngine.k_ESE_Source2, applicationId, timeout);
+    }
+
     /**
      * Gets DOTA 2 match details.
      * Callback could be canceled during execution of the auto reconnect logic.
@@ -82,6 +95,25 @@ public class DotaClient extends ClientGCHandler {
         return MatchDetailsCallbackHandler.handle(matchDetailsCallback, timeout, getClient());
     }
 
+    /**
+     * Gets DOTA 2 match details without blocking the calling thread.
+     * Callback after specified timeout will be removed from queue and the future completed exceptionally with
+     * {@link CallbackTimeoutException}. Callback could be canceled during execution of the auto reconnect logic.
+     * <p>
+     * The {@link SteamClient} should already have been connected at this point.
+     *
+     * @param matchId Id of the DOTA 2 match.
+     * @param timeout The time during which response should be received, in milliseconds.
+     * @return CompletableFuture Callback with {@link DotaMatchDetails} details of the DOTA 2 match.
+     */
+    public CompletableFuture<DotaMatchDetails> getMatchDetailsAsync(long matchId, long timeout) {
+        var jobId = getClient().getNextJobID().getValue();
+        var matchDetailsCallback = getClient().addGCCallbackToQueue(k_EMsgGCMatchDetailsResponse.getNumber(),
+                applicationId, jobId);
+        sendMatchDetailsRequest(matchId, jobId);
+        return MatchDetailsCallbackHandler.handleAsync(matchDetailsCallback, timeout, getClient());
+    }
+
     /**
      * Gets DOTA 2 user account profile card.
      * Callback could be canceled during execution of the auto reconnect logic.
@@ -120,6 +152,25 @@ public class DotaClient extends ClientGCHandler {
         return ProfileCardCallbackHandler.handle(profileCardCallback, timeout, getClient());
     }
 
+    /**
+     * Gets DOTA 2 user account profile card without blocking the calling thread.
+     * Callback after specified timeout will be removed from queue and the future completed exceptionally with
+     * {@link CallbackTimeoutException}. Callback could be canceled during execution of the auto reconnect logic.
+     * <p>
+     * The {@link SteamClient} should already have been connected at this point.
+     *
+     * @param accountId Id of the DOTA 2 user account.
+     * @param timeout   The time during which response should be received, in milliseconds.
+     * @return CompletableFuture Callback with {@link DotaProfileCard} user account profile card.
+     */
+    public CompletableFuture<DotaProfileCard> getAccountProfileCardAsync(int accountId, long timeout) {
+        var jobId = getClient().getNextJobID().getValue();
+        var profileCardCallback = getClient().addGCCallbackToQueue(k_EMsgClientToGCGetProfileCardResponse.getNumber(),
+                applicationId, jobId);
+        sendProfileCardRequest(accountId, jobId);
+        return ProfileCardCallbackHandler.handleAsync(profileCardCallback, timeout, getClient());
+    }
+
     private void sendMatchDetailsRequest(long matchId, long jobId) {
         var matchRequestMessage = new ClientGCProtobufMessage<CMsgGCMatchDetailsRequest.Builder>(CMsgGCMatchDetailsRequest.class,
                 k_EMsgGCMatchDetailsRequest.getNumber());
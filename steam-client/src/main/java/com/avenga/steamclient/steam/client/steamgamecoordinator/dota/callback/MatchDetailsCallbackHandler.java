@@ -12,11 +12,19 @@ import com.avenga.steamclient.steam.client.callback.AbstractCallbackHandler;
 import com.avenga.steamclient.util.CallbackHandlerUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class MatchDetailsCallbackHandler extends AbstractCallbackHandler<GCPacketMessage> {
 
+    private static final String HANDLER_NAME = "MatchDetails";
+
+    public static CompletableFuture<DotaMatchDetails> handleAsync(SteamMessageCallback<GCPacketMessage> callback, long timeout, SteamClient client) {
+        return completeOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client)
+                .thenApply(MatchDetailsCallbackHandler::getMessage);
+    }
+
     public static Optional<DotaMatchDetails> handle(SteamMessageCallback<GCPacketMessage> callback, long timeout, SteamClient client) throws CallbackTimeoutException {
-        var gcPacketMessage = waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, "MatchDetails", client);
+        var gcPacketMessage = waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client);
 
         return CallbackHandlerUtils.getValueOrDefault(gcPacketMessage, MatchDetailsCallbackHandler::getMessage);
     }
@@ -12,11 +12,19 @@ import com.avenga.steamclient.steam.client.callback.AbstractCallbackHandler;
 import com.avenga.steamclient.util.CallbackHandlerUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class ProfileCardCallbackHandler extends AbstractCallbackHandler<GCPacketMessage> {
 
+    private static final String HANDLER_NAME = "ProfileCard";
+
+    public static CompletableFuture<DotaProfileCard> handleAsync(SteamMessageCallback<GCPacketMessage> callback, long timeout, SteamClient client) {
+        return completeOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client)
+                .thenApply(ProfileCardCallbackHandler::getMessage);
+    }
+
     public static Optional<DotaProfileCard> handle(SteamMessageCallback<GCPacketMessage> callback, long timeout, SteamClient client) throws CallbackTimeoutException {
-        var gcPacketMessage = waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, "ProfileCard", client);
+        var gcPacketMessage = waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client);
 
         return CallbackHandlerUtils.getValueOrDefault(gcPacketMessage, ProfileCardCallbackHandler::getMessage);
     }
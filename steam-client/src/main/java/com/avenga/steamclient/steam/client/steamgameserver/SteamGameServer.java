@@ -50,6 +50,23 @@ public class SteamGameServer extends ClientHandler {
         GamePlayedClientCallbackHandler.handle(gamePlayedCallback, timeout, getClient());
     }
 
+    /**
+     * Informs Steam about games in which user currently playing without blocking the calling thread.
+     * Callback after specified timeout will be removed from queue and the future completed exceptionally with
+     * {@link CallbackTimeoutException}.
+     *
+     * @param applicationIds IDs of the applications user in game.
+     * @param timeout The time during which response should be received, in milliseconds.
+     * @return CompletableFuture Callback with {@link PacketMessage} contains information of the last played game.
+     */
+    public CompletableFuture<PacketMessage> setClientPlayedGameAsync(List<Integer> applicationIds, long timeout) {
+        validatePlayedGameParameters(applicationIds);
+
+        var gamePlayedCallback = getClient().addCallbackToQueue(ServiceMethod.code(), getPLayedGameProperties(applicationIds));
+        sendPlayedGameMessage(applicationIds);
+        return GamePlayedClientCallbackHandler.handleAsync(gamePlayedCallback, timeout, getClient());
+    }
+
     private void validatePlayedGameParameters(List<Integer> applicationIds) {
         Objects.requireNonNull(applicationIds, "List of the application ids wasn't provided");
         if (applicationIds.size() > Constant.MAX_PLAYED_GAMES) {
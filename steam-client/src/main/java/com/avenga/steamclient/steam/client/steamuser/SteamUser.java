@@ -58,6 +58,23 @@ public class SteamUser extends ClientHandler {
         return UserLogOnCallbackHandler.handle(userLogOnCallback, timeout, client);
     }
 
+    /**
+     * Logs the client into the Steam3 network without blocking the calling thread.
+     * Callback after specified timeout will be removed from queue and the future completed exceptionally with
+     * {@link CallbackTimeoutException}. Callback could be canceled during execution of the auto reconnect logic.
+     * <p>
+     * The {@link SteamClient} should already have been connected at this point.
+     *
+     * @param logOnDetails The logOnDetails to use for logging on.
+     * @param timeout The time during which response should be received, in milliseconds.
+     * @return CompletableFuture Callback with {@link UserLogOnResponse} on the user logOn request
+     */
+    public CompletableFuture<UserLogOnResponse> logOnAsync(LogOnDetails logOnDetails, long timeout) {
+        var userLogOnCallback = this.client.addCallbackToQueue(UserLogOnCallbackHandler.CALLBACK_MESSAGE_CODE);
+        sendLogonRequest(logOnDetails);
+        return UserLogOnCallbackHandler.handleAsync(userLogOnCallback, timeout, client);
+    }
+
     /**
      * Informs the Steam servers that this client wishes to log off from the network.
      */
@@ -14,13 +14,21 @@ import com.avenga.steamclient.steam.client.steamuser.UserLogOnResponse;
 import com.avenga.steamclient.util.CallbackHandlerUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class UserLogOnCallbackHandler extends AbstractCallbackHandler<PacketMessage> {
 
     public static final int CALLBACK_MESSAGE_CODE = EMsg.ClientLogOnResponse.code();
 
+    private static final String HANDLER_NAME = "UserLogOn";
+
+    public static CompletableFuture<UserLogOnResponse> handleAsync(SteamMessageCallback<PacketMessage> callback, long timeout, SteamClient client) {
+        return completeOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client)
+                .thenApply(UserLogOnCallbackHandler::getMessage);
+    }
+
     public static Optional<UserLogOnResponse> handle(SteamMessageCallback<PacketMessage> callback, long timeout, SteamClient client) throws CallbackTimeoutException {
-        var packetMessage = waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, "UserLogOn", client);
+        var packetMessage = waitAndGetMessageOrRemoveAfterTimeout(callback, timeout, HANDLER_NAME, client);
 
         return CallbackHandlerUtils.getValueOrDefault(packetMessage, UserLogOnCallbackHandler::getMessage);
     }
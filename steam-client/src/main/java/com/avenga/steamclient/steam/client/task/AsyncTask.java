@@ -0,0 +1,112 @@
+package com.avenga.steamclient.steam.client.task;
+
+import lombok.EqualsAndHashCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Task whose logic starts asynchronous work and returns its future. The task is complete when the future completes,
+ * cancellation of the task cancels the future.
+ */
+@EqualsAndHashCode
+public class AsyncTask implements CompletableTask {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncTask.class);
+    private static final AtomicLong INTIAL_SEQUENCE = new AtomicLong();
+
+    private final Supplier<? extends CompletableFuture<?>> task;
+    private final String name;
+    private final long sequence;
+    @EqualsAndHashCode.Exclude
+    private AtomicBoolean isComplete = new AtomicBoolean();
+    @EqualsAndHashCode.Exclude
+    private AtomicBoolean isCanceled = new AtomicBoolean();
+    @EqualsAndHashCode.Exclude
+    private volatile CompletableFuture<?> currentFuture;
+
+    public AsyncTask(Supplier<? extends CompletableFuture<?>> task, String name) {
+        this.task = task;
+        this.name = name;
+        this.sequence = INTIAL_SEQUENCE.incrementAndGet();
+    }
+
+    @Override
+    public CompletionStage<Void> executeAsync() {
+        this.isComplete.set(false);
+        if (isCanceled.get()) {
+            this.isComplete.set(true);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<?> future;
+        try {
+            future = task.get();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unexpected " + name + " task execution failure.", e);
+            this.isComplete.set(true);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        currentFuture = future;
+        if (isCanceled.get()) {
+            future.cancel(true);
+        }
+
+        return future.handle((result, throwable) -> {
+            if (Objects.nonNull(throwable) && !isCanceled.get()) {
+                LOGGER.debug("Unexpected " + name + " task execution was interupted.", throwable);
+            }
+            this.isComplete.set(true);
+            return null;
+        });
+    }
+
+    /**
+     * Starts logic of the task and waits for its completion.
+     *
+     * @param executor not used, logic of the task doesn't block.
+     */
+    @Override
+    public void execute(ExecutorService executor) {
+        execute();
+    }
+
+    /**
+     * Starts logic of the task on the calling thread and waits for its completion.
+     */
+    @Override
+    public void execute() {
+        executeAsync().toCompletableFuture().join();
+    }
+
+    @Override
+    public void cancel() {
+        this.isCanceled.compareAndSet(false, true);
+        var future = currentFuture;
+        if (Objects.nonNull(future)) {
+            future.cancel(true);
+        }
+    }
+
+    @Override
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isComplete() {
+        return isComplete.get();
+    }
+}
@@ -1,5 +1,9 @@
 package com.avenga.steamclient.steam.client.task;
 
+import com.avenga.steamclient.util.SharedExecutors;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 
 public interface CompletableTask {
@@ -26,6 +30,26 @@ public interface CompletableTask {
      */
     void execute(ExecutorService executor);
 
+    /**
+     * Executes logic of the task and waits for its completion. By default logic is performed on the
+     * {@link SharedExecutors#getTaskExecutor() shared task executor}.
+     */
+    default void execute() {
+        execute(SharedExecutors.getTaskExecutor());
+    }
+
+    /**
+     * Starts logic of the task. {@link TaskHandlerJob} starts the next task when the returned stage completes, so
+     * a task waiting for network responses doesn't occupy a thread. By default the task is executed with
+     * {@link #execute()} and completed stage is returned.
+     *
+     * @return stage which completes when the task is complete.
+     */
+    default CompletionStage<Void> executeAsync() {
+        execute();
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Cancels current execution of the task
      */
@@ -9,6 +9,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -27,7 +28,7 @@ public class Task implements CompletableTask {
     @EqualsAndHashCode.Exclude
     private AtomicBoolean isCanceled = new AtomicBoolean();
     @EqualsAndHashCode.Exclude
-    private Future<?> currentFuture;
+    private volatile Future<?> currentFuture;
 
     public Task(Runnable task, String name) {
         this.task = task;
@@ -59,10 +60,38 @@ public class Task implements CompletableTask {
         this.isComplete.compareAndSet(false,true);
     }
 
+    /**
+     * Executes logic of the task on the calling thread. Cancellation of the task interrupts the calling thread.
+     */
+    @Override
+    public void execute() {
+        this.isComplete.set(false);
+        var futureTask = new FutureTask<>(task, null);
+        currentFuture = futureTask;
+        if (!isCanceled.get()) {
+            futureTask.run();
+        }
+        // clear interrupt of the cancellation, so it doesn't leak to the next work of the thread
+        Thread.interrupted();
+        try {
+            futureTask.get();
+        } catch (InterruptedException | CancellationException | ExecutionException e) {
+            if (!isCanceled.get()) {
+                LOGGER.debug("Unexpected " + name +" task execution was interupted.", e);
+            }
+            if (Objects.nonNull(resetTaskActions)) {
+                resetTaskActions.reset();
+            }
+        }
+        this.isComplete.compareAndSet(false,true);
+    }
+
     @Override
     public void cancel() {
         this.isCanceled.compareAndSet(false,true);
-        currentFuture.cancel(true);
+        if (Objects.nonNull(currentFuture)) {
+            currentFuture.cancel(true);
+        }
     }
 
     @Override
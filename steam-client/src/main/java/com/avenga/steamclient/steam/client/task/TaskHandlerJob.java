@@ -1,48 +1,77 @@
 package com.avenga.steamclient.steam.client.task;
 
+import com.avenga.steamclient.util.SharedExecutors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
-import java.util.concurrent.*;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
+/**
+ * Serial executor of the client tasks. Registered tasks run one by one in the registration order, the next task starts
+ * as soon as the task is registered or the previous task completes. Tasks run on the provided executor, which can be
+ * shared by many clients: a job occupies an executor thread only while it has tasks to run. A task whose
+ * {@link CompletableTask#executeAsync()} stage is pending doesn't occupy a thread at all.
+ */
 public class TaskHandlerJob {
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskHandlerJob.class);
-    private static final long DEFAULT_TASK_CHECK_PERIOD = 100L;
 
-    private final ScheduledExecutorService scheduledExecutor;
-    private final ExecutorService executor;
-    private final BlockingQueue<CompletableTask> taskQueue;
+    private final Executor executor;
+    private final Queue<CompletableTask> taskQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
     private AtomicReference<CompletableTask> currentTask = new AtomicReference<>();
+    private volatile boolean stopped;
     private String clientName;
 
+    /**
+     * Creates the job running tasks on the {@link SharedExecutors#getTaskExecutor() shared task executor}.
+     *
+     * @param clientName prefix for logger messages.
+     */
+    public TaskHandlerJob(String clientName) {
+        this(clientName, SharedExecutors.getTaskExecutor());
+    }
+
+    /**
+     * Creates the job running tasks on the {@link SharedExecutors#getTaskExecutor() shared task executor}.
+     *
+     * @param clientName      prefix for logger messages.
+     * @param taskCheckPeriod ignored, tasks start as soon as they are registered.
+     * @deprecated use {@link #TaskHandlerJob(String)}.
+     */
+    @Deprecated
     public TaskHandlerJob(String clientName, long taskCheckPeriod) {
-        this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
-        this.executor = Executors.newSingleThreadExecutor();
-        this.taskQueue = new LinkedBlockingQueue<>();
+        this(clientName);
+    }
+
+    /**
+     * @param clientName prefix for logger messages.
+     * @param executor   executor running the tasks.
+     */
+    public TaskHandlerJob(String clientName, Executor executor) {
+        Objects.requireNonNull(executor, "Task executor wasn't provided");
+
+        this.executor = executor;
         this.clientName = clientName;
-        var checkPeriodInterval = taskCheckPeriod > 0 ? taskCheckPeriod : DEFAULT_TASK_CHECK_PERIOD;
-
-        scheduledExecutor.scheduleAtFixedRate(() -> {
-            try {
-                var oldTask = currentTask.get();
-                currentTask.compareAndSet(oldTask, taskQueue.poll());
-                if (Objects.nonNull(currentTask.get())) {
-                    LOGGER.debug("{}: Start executing task: {}", clientName, currentTask.get().getName());
-                    currentTask.get().execute(executor);
-                    LOGGER.debug("{}: Stop executing task: {}", clientName, currentTask.get().getName());
-                }
-            } catch (Exception e) {
-                LOGGER.debug("{}: Exception during executing task {}: {}", clientName, currentTask.get().getName(), e.toString());
-            }
-        }, checkPeriodInterval, checkPeriodInterval, TimeUnit.MILLISECONDS);
     }
 
     public void registerTask(CompletableTask task) {
+        if (stopped) {
+            LOGGER.debug("{}: Task {} wasn't registered, task handler job was stopped.", clientName, task.getName());
+            return;
+        }
+
         LOGGER.debug("{}: Register task: {}", clientName, task.getName());
         taskQueue.offer(task);
+        scheduleRun();
     }
 
     public void removeTask(CompletableTask task) {
@@ -50,25 +79,89 @@ public class TaskHandlerJob {
     }
 
     public synchronized void cancelCurrentTask() {
-        if (Objects.nonNull(currentTask.get()) && !currentTask.get().isComplete()) {
-            currentTask.get().cancel();
+        var task = currentTask.get();
+        if (Objects.nonNull(task) && !task.isComplete()) {
+            task.cancel();
         }
     }
 
     public synchronized void cancelCurrentTask(Predicate<CompletableTask> cancelCondition) {
-        if (Objects.nonNull(currentTask.get()) && !currentTask.get().isComplete() && cancelCondition.test(currentTask.get())) {
-            currentTask.get().cancel();
+        var task = currentTask.get();
+        if (Objects.nonNull(task) && !task.isComplete() && cancelCondition.test(task)) {
+            task.cancel();
         }
     }
 
     public void stop() {
         LOGGER.debug("{}: Stop task handler job.", clientName);
+        stopped = true;
         taskQueue.clear();
-        if (!executor.isShutdown()) {
-            executor.shutdownNow();
+        cancelCurrentTask();
+    }
+
+    private void scheduleRun() {
+        if (stopped || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::runTasks);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            LOGGER.debug("{}: Task executor rejected execution of the tasks: {}", clientName, e.toString());
+        }
+    }
+
+    private void runTasks() {
+        var suspended = false;
+        try {
+            CompletableTask task;
+            while (!stopped && (task = taskQueue.poll()) != null) {
+                currentTask.set(task);
+                LOGGER.debug("{}: Start executing task: {}", clientName, task.getName());
+                var completion = executeTask(task);
+                if (!completion.toCompletableFuture().isDone()) {
+                    // the job stays running, the next task starts when this one completes
+                    suspended = true;
+                    var pendingTask = task;
+                    completion.whenComplete((result, throwable) -> resumeAfter(pendingTask));
+                    return;
+                }
+                completeTask(task);
+            }
+        } finally {
+            if (!suspended) {
+                running.set(false);
+            }
+        }
+
+        // task could be registered after the queue was found empty, but before the running flag was cleared
+        if (!taskQueue.isEmpty()) {
+            scheduleRun();
         }
-        if (!scheduledExecutor.isShutdown()) {
-            scheduledExecutor.shutdownNow();
+    }
+
+    private CompletionStage<Void> executeTask(CompletableTask task) {
+        try {
+            return task.executeAsync();
+        } catch (Exception e) {
+            LOGGER.debug("{}: Exception during executing task {}: {}", clientName, task.getName(), e.toString());
+            return CompletableFuture.completedFuture(null);
         }
     }
+
+    private void resumeAfter(CompletableTask task) {
+        completeTask(task);
+        try {
+            executor.execute(this::runTasks);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            LOGGER.debug("{}: Task executor rejected execution of the tasks: {}", clientName, e.toString());
+        }
+    }
+
+    private void completeTask(CompletableTask task) {
+        LOGGER.debug("{}: Stop executing task: {}", clientName, task.getName());
+        currentTask.compareAndSet(task, null);
+    }
 }
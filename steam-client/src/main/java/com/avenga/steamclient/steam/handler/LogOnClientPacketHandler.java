@@ -2,6 +2,7 @@ package com.avenga.steamclient.steam.handler;
 
 import com.avenga.steamclient.base.ClientMessageProtobuf;
 import com.avenga.steamclient.base.PacketMessage;
+import com.avenga.steamclient.enums.ConnectionState;
 import com.avenga.steamclient.enums.EResult;
 import com.avenga.steamclient.enums.ServerQuality;
 import com.avenga.steamclient.model.SteamID;
@@ -36,6 +37,8 @@ public class LogOnClientPacketHandler implements ClientPacketHandler {
             cmClient.getHeartBeatFunction().stop();
             cmClient.getHeartBeatFunction().setDelay(logonResp.getBody().getOutOfGameHeartbeatSeconds() * 1000L);
             cmClient.getHeartBeatFunction().start();
+
+            cmClient.setConnectionState(ConnectionState.READY);
         } else if (logonResult == EResult.TryAnotherCM.code() || logonResult == EResult.ServiceUnavailable.code()){
             cmClient.getServers().tryMark(cmClient.getConnection().getCurrentEndPoint(),
                     cmClient.getConnection().getProtocolTypes(), ServerQuality.BAD);
@@ -3,6 +3,7 @@ package com.avenga.steamclient.steam.handler;
 import com.avenga.steamclient.base.ClientMessageProtobuf;
 import com.avenga.steamclient.base.ExtendedMessage;
 import com.avenga.steamclient.base.PacketMessage;
+import com.avenga.steamclient.enums.ConnectionState;
 import com.avenga.steamclient.enums.EResult;
 import com.avenga.steamclient.enums.ServerQuality;
 import com.avenga.steamclient.generated.MsgClientLoggedOff;
@@ -25,6 +26,10 @@ public class LoggedOffClientPacketHandler implements ClientPacketHandler {
 
         cmClient.getHeartBeatFunction().stop();
 
+        if (cmClient.getConnectionState() == ConnectionState.READY) {
+            cmClient.setConnectionState(ConnectionState.LOGGING_ON);
+        }
+
         if (packetMessage.isProto()) {
             ClientMessageProtobuf<CMsgClientLoggedOff.Builder> loggedOffMessage = new ClientMessageProtobuf<>(CMsgClientLoggedOff.class, packetMessage);
             EResult logoffResult = EResult.from(loggedOffMessage.getBody().getEresult());
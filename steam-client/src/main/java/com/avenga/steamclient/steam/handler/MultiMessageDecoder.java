@@ -0,0 +1,188 @@
+package com.avenga.steamclient.steam.handler;
+
+import com.avenga.steamclient.base.PacketMessage;
+import com.avenga.steamclient.protobufs.steamclient.SteammessagesBase.CMsgMulti;
+import com.avenga.steamclient.util.InflaterPool;
+import com.avenga.steamclient.util.MessageUtil;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import static com.avenga.steamclient.steam.CMClient.getPacketMessage;
+
+/**
+ * Decoder of the messages packed into {@link CMsgMulti}. Compressed payload is inflated by a pooled {@link Inflater}
+ * in chunks straight into an array of the unzipped size, and every message is passed to the consumer as soon as it
+ * is inflated instead of waiting for the whole payload. Messages are slices of the payload or of the inflated array,
+ * so they are never copied.
+ */
+class MultiMessageDecoder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiMessageDecoder.class);
+
+    private static final int INFLATE_CHUNK_SIZE = 16 * 1024;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int GZIP_DEFLATE_METHOD = 8;
+    private static final int GZIP_HEADER_SIZE = 10;
+    private static final int GZIP_TRAILER_SIZE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int STOPPED = -1;
+
+    private final String clientName;
+    private final Predicate<PacketMessage> consumer;
+
+    /**
+     * @param clientName name of the client for logging.
+     * @param consumer   consumer of the messages, returns <b>false</b> to stop decoding.
+     */
+    MultiMessageDecoder(String clientName, Predicate<PacketMessage> consumer) {
+        this.clientName = clientName;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Passes messages of the multi message to the consumer.
+     *
+     * @param multiMessage received multi message.
+     * @throws ZipException        if the payload isn't a valid gzip stream.
+     * @throws DataFormatException if the compressed data is corrupted.
+     * @throws EOFException        if the compressed data is truncated.
+     */
+    void decode(CMsgMulti multiMessage) throws ZipException, DataFormatException, EOFException {
+        var payload = multiMessage.getMessageBody();
+        if (multiMessage.getSizeUnzipped() > 0) {
+            inflate(payload, multiMessage.getSizeUnzipped());
+        } else {
+            var position = dispatch(payload, 0, payload.size());
+            checkTruncated(payload, position, payload.size());
+        }
+    }
+
+    private void inflate(ByteString payload, int sizeUnzipped) throws ZipException, DataFormatException, EOFException {
+        var output = new byte[sizeUnzipped];
+        var outputSlice = UnsafeByteOperations.unsafeWrap(output);
+        var crc = new CRC32();
+        var produced = 0;
+        var position = 0;
+
+        var inflater = InflaterPool.acquire();
+        try {
+            inflater.setInput(payload.substring(readGzipHeader(payload)).asReadOnlyByteBuffer());
+            while (!inflater.finished()) {
+                var inflated = inflater.inflate(output, produced, Math.min(INFLATE_CHUNK_SIZE, output.length - produced));
+                if (inflated == 0) {
+                    if (inflater.finished()) {
+                        break;
+                    }
+                    if (inflater.needsInput() || inflater.needsDictionary()) {
+                        throw new EOFException("Unexpected end of compressed multi message");
+                    }
+                    // unzipped size of the message was too small, messages inflated so far keep the old array
+                    output = Arrays.copyOf(output, Math.max(output.length * 2, INFLATE_CHUNK_SIZE));
+                    outputSlice = UnsafeByteOperations.unsafeWrap(output);
+                    continue;
+                }
+
+                crc.update(output, produced, inflated);
+                produced += inflated;
+                position = dispatch(outputSlice, position, produced);
+                if (position == STOPPED) {
+                    return;
+                }
+            }
+            checkTruncated(outputSlice, position, produced);
+            checkGzipTrailer(payload, payload.size() - inflater.getRemaining(), crc.getValue(), produced);
+        } finally {
+            InflaterPool.release(inflater);
+        }
+    }
+
+    /**
+     * Passes every complete message of the data to the consumer.
+     *
+     * @return position of the first incomplete message or {@link #STOPPED} if the consumer stopped decoding.
+     */
+    private int dispatch(ByteString data, int position, int available) {
+        while (position + Integer.BYTES <= available) {
+            var subSize = MessageUtil.readInt(data, position);
+            // compared without adding the size to the position, which overflows for sizes close to the int range
+            if (subSize < 0 || subSize > available - position - Integer.BYTES) {
+                break;
+            }
+            var end = position + Integer.BYTES + subSize;
+
+            if (!consumer.test(getPacketMessage(data.substring(position + Integer.BYTES, end)))) {
+                return STOPPED;
+            }
+            position = end;
+        }
+        return position;
+    }
+
+    private void checkTruncated(ByteString data, int position, int available) {
+        if (position != STOPPED && position + Integer.BYTES <= available) {
+            LOGGER.debug("{}: HandleMulti got truncated sub message of {} bytes", clientName,
+                    MessageUtil.readInt(data, position));
+        }
+    }
+
+    private static int readGzipHeader(ByteString payload) throws ZipException {
+        if (payload.size() < GZIP_HEADER_SIZE || readUnsignedShort(payload, 0) != GZIP_MAGIC
+                || payload.byteAt(2) != GZIP_DEFLATE_METHOD) {
+            throw new ZipException("Not in GZIP format");
+        }
+
+        var flags = payload.byteAt(3);
+        var position = GZIP_HEADER_SIZE;
+        if ((flags & FEXTRA) != 0) {
+            position += Short.BYTES + (position + Short.BYTES <= payload.size() ? readUnsignedShort(payload, position) : 0);
+        }
+        if ((flags & FNAME) != 0) {
+            position = skipZeroTerminated(payload, position);
+        }
+        if ((flags & FCOMMENT) != 0) {
+            position = skipZeroTerminated(payload, position);
+        }
+        if ((flags & FHCRC) != 0) {
+            position += Short.BYTES;
+        }
+
+        if (position > payload.size()) {
+            throw new ZipException("Truncated GZIP header");
+        }
+        return position;
+    }
+
+    private static void checkGzipTrailer(ByteString payload, int trailerPosition, long crc, int size) throws ZipException {
+        if (trailerPosition + GZIP_TRAILER_SIZE > payload.size()) {
+            throw new ZipException("Truncated GZIP trailer");
+        }
+        if ((MessageUtil.readInt(payload, trailerPosition) & 0xFFFFFFFFL) != crc
+                || MessageUtil.readInt(payload, trailerPosition + Integer.BYTES) != size) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+    }
+
+    private static int readUnsignedShort(ByteString data, int position) {
+        return (data.byteAt(position) & 0xFF) | (data.byteAt(position + 1) & 0xFF) << 8;
+    }
+
+    private static int skipZeroTerminated(ByteString data, int position) {
+        while (position < data.size() && data.byteAt(position) != 0) {
+            position++;
+        }
+        return position + 1;
+    }
+}
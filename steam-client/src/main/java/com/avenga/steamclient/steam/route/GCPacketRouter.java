@@ -0,0 +1,195 @@
+package com.avenga.steamclient.steam.route;
+
+import com.avenga.steamclient.model.steam.gamecoordinator.GCMessage;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Routing table of the Game Coordinator messages indexed by (application id, GC message id) pair. The table is an
+ * open addressing hash table of primitive keys which is copied on registration, so routing neither allocates nor takes
+ * a lock.
+ * <p>
+ * Observers of an application receive every message of the application before the observers of the message id.
+ */
+public class GCPacketRouter {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+
+    /**
+     * Routes the Game Coordinator message to its observers.
+     *
+     * @param gcMessage received Game Coordinator message.
+     */
+    public void route(GCMessage gcMessage) {
+        var currentTable = table;
+        notify(currentTable.get(getApplicationKey(gcMessage.getApplicationID())), gcMessage);
+        notify(currentTable.get(getKey(gcMessage.getApplicationID(), gcMessage.geteMsg())), gcMessage);
+    }
+
+    /**
+     * Adds observer of the Game Coordinator message.
+     *
+     * @param applicationId id of the Steam game.
+     * @param messageId     id of the GC message.
+     * @param observer      consumer of the messages.
+     */
+    public synchronized void addObserver(int applicationId, int messageId, Consumer<GCMessage> observer) {
+        add(getKey(applicationId, messageId), observer);
+    }
+
+    /**
+     * Removes observer of the Game Coordinator message.
+     *
+     * @param applicationId id of the Steam game.
+     * @param messageId     id of the GC message.
+     * @param observer      registered consumer of the messages.
+     */
+    public synchronized void removeObserver(int applicationId, int messageId, Consumer<GCMessage> observer) {
+        remove(getKey(applicationId, messageId), observer);
+    }
+
+    /**
+     * Adds observer of all Game Coordinator messages of the application.
+     *
+     * @param applicationId id of the Steam game.
+     * @param observer      consumer of the messages.
+     */
+    public synchronized void addObserver(int applicationId, Consumer<GCMessage> observer) {
+        add(getApplicationKey(applicationId), observer);
+    }
+
+    /**
+     * Removes observer of all Game Coordinator messages of the application.
+     *
+     * @param applicationId id of the Steam game.
+     * @param observer      registered consumer of the messages.
+     */
+    public synchronized void removeObserver(int applicationId, Consumer<GCMessage> observer) {
+        remove(getApplicationKey(applicationId), observer);
+    }
+
+    private void add(long key, Consumer<GCMessage> observer) {
+        Objects.requireNonNull(observer, "GC message observer wasn't provided.");
+
+        var observers = table.get(key);
+        var updated = Objects.isNull(observers) ? newConsumers(1) : Arrays.copyOf(observers, observers.length + 1);
+        updated[updated.length - 1] = observer;
+        table = table.with(key, updated);
+    }
+
+    private void remove(long key, Consumer<GCMessage> observer) {
+        var observers = table.get(key);
+        if (Objects.isNull(observers)) {
+            return;
+        }
+
+        for (int i = 0; i < observers.length; i++) {
+            if (observers[i] == observer) {
+                var updated = newConsumers(observers.length - 1);
+                System.arraycopy(observers, 0, updated, 0, i);
+                System.arraycopy(observers, i + 1, updated, i, observers.length - i - 1);
+                table = table.with(key, updated.length == 0 ? null : updated);
+                return;
+            }
+        }
+    }
+
+    private static void notify(Consumer<GCMessage>[] observers, GCMessage gcMessage) {
+        if (Objects.nonNull(observers)) {
+            for (Consumer<GCMessage> observer : observers) {
+                observer.accept(gcMessage);
+            }
+        }
+    }
+
+    private static long getKey(int applicationId, int messageId) {
+        return ((long) applicationId << Integer.SIZE) | (messageId & 0xFFFFFFFFL);
+    }
+
+    private static long getApplicationKey(int applicationId) {
+        // GC message ids are positive, so -1 never collides with a message key
+        return getKey(applicationId, -1);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Consumer<GCMessage>[] newConsumers(int length) {
+        return new Consumer[length];
+    }
+
+    /**
+     * Immutable open addressing table with linear probing.
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final Consumer<GCMessage>[][] values;
+        private final int size;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Consumer[capacity][];
+            this.size = 0;
+        }
+
+        private Table(long[] keys, Consumer<GCMessage>[][] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        private Consumer<GCMessage>[] get(long key) {
+            var mask = keys.length - 1;
+            for (int slot = slot(key, mask); values[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return copy of the table with the key mapped to the value, or without the key if the value is <b>null</b>.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Table with(long key, Consumer<GCMessage>[] value) {
+            var entries = size + (Objects.isNull(get(key)) ? 1 : 0);
+            var capacity = keys.length;
+            while (entries * 2 > capacity) {
+                capacity <<= 1;
+            }
+
+            var newKeys = new long[capacity];
+            Consumer<GCMessage>[][] newValues = new Consumer[capacity][];
+            var newSize = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null && keys[i] != key) {
+                    put(newKeys, newValues, keys[i], values[i]);
+                    newSize++;
+                }
+            }
+            if (Objects.nonNull(value)) {
+                put(newKeys, newValues, key, value);
+                newSize++;
+            }
+            return new Table(newKeys, newValues, newSize);
+        }
+
+        private static void put(long[] keys, Consumer<GCMessage>[][] values, long key, Consumer<GCMessage>[] value) {
+            var mask = keys.length - 1;
+            var slot = slot(key, mask);
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        private static int slot(long key, int mask) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+}
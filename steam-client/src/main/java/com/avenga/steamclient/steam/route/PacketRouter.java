@@ -0,0 +1,166 @@
+package com.avenga.steamclient.steam.route;
+
+import com.avenga.steamclient.base.PacketMessage;
+import com.avenga.steamclient.enums.EMsg;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Routing table of the packet messages received from Steam Network, indexed by {@link EMsg} ordinal. Every message
+ * type has its own route of observers and at most one handler, so a packet is passed straight to its consumers
+ * without searching the registered handlers.
+ * <p>
+ * Observers receive every packet of the message type in registration order, e.g. internal handlers of the client and
+ * message handlers of the APIs, followed by observers of all message types. Handler receives the packet after the
+ * observers and can be replaced; packets of the message types without a handler go to the default handler. Routes are
+ * copied on registration, so routing doesn't take a lock.
+ */
+public class PacketRouter {
+
+    private static final Route EMPTY_ROUTE = new Route(newConsumers(0), null);
+
+    private volatile Route[] routes;
+    private volatile Consumer<PacketMessage>[] globalObservers = newConsumers(0);
+    private volatile Consumer<PacketMessage> defaultHandler;
+
+    public PacketRouter() {
+        var emptyRoutes = new Route[EMsg.values().length];
+        Arrays.fill(emptyRoutes, EMPTY_ROUTE);
+        this.routes = emptyRoutes;
+    }
+
+    /**
+     * Routes the packet message to its observers and handler.
+     *
+     * @param packetMessage received packet message.
+     */
+    public void route(PacketMessage packetMessage) {
+        var messageType = packetMessage.getMessageType();
+        var route = Objects.isNull(messageType) ? EMPTY_ROUTE : routes[messageType.ordinal()];
+        for (Consumer<PacketMessage> observer : route.observers) {
+            observer.accept(packetMessage);
+        }
+
+        for (Consumer<PacketMessage> observer : globalObservers) {
+            observer.accept(packetMessage);
+        }
+
+        var handler = Objects.isNull(route.handler) ? defaultHandler : route.handler;
+        if (Objects.nonNull(handler)) {
+            handler.accept(packetMessage);
+        }
+    }
+
+    /**
+     * Adds observer of the message type.
+     *
+     * @param eMsg     type of the packet message.
+     * @param observer consumer of the packet messages.
+     */
+    public synchronized void addObserver(EMsg eMsg, Consumer<PacketMessage> observer) {
+        Objects.requireNonNull(eMsg, "EMsg type wasn't provided.");
+        Objects.requireNonNull(observer, "Packet message observer wasn't provided.");
+
+        var route = routes[eMsg.ordinal()];
+        var observers = Arrays.copyOf(route.observers, route.observers.length + 1);
+        observers[route.observers.length] = observer;
+        updateRoute(eMsg, new Route(observers, route.handler));
+    }
+
+    /**
+     * Removes observer of the message type.
+     *
+     * @param eMsg     type of the packet message.
+     * @param observer registered consumer of the packet messages.
+     */
+    public synchronized void removeObserver(EMsg eMsg, Consumer<PacketMessage> observer) {
+        var route = routes[eMsg.ordinal()];
+        updateRoute(eMsg, new Route(remove(route.observers, observer), route.handler));
+    }
+
+    /**
+     * Adds observer of all packet messages.
+     *
+     * @param observer consumer of the packet messages.
+     */
+    public synchronized void addObserver(Consumer<PacketMessage> observer) {
+        Objects.requireNonNull(observer, "Packet message observer wasn't provided.");
+
+        var observers = Arrays.copyOf(globalObservers, globalObservers.length + 1);
+        observers[globalObservers.length] = observer;
+        globalObservers = observers;
+    }
+
+    /**
+     * Removes observer of all packet messages.
+     *
+     * @param observer registered consumer of the packet messages.
+     */
+    public synchronized void removeObserver(Consumer<PacketMessage> observer) {
+        globalObservers = remove(globalObservers, observer);
+    }
+
+    /**
+     * Sets handler of the message type, replacing the previous one.
+     *
+     * @param eMsg    type of the packet message.
+     * @param handler consumer of the packet messages or <b>null</b> to pass them to the default handler.
+     */
+    public synchronized void setHandler(EMsg eMsg, Consumer<PacketMessage> handler) {
+        Objects.requireNonNull(eMsg, "EMsg type wasn't provided.");
+
+        updateRoute(eMsg, new Route(routes[eMsg.ordinal()].observers, handler));
+    }
+
+    /**
+     * Sets handler of the message types which don't have their own handler.
+     *
+     * @param defaultHandler consumer of the packet messages or <b>null</b>.
+     */
+    public void setDefaultHandler(Consumer<PacketMessage> defaultHandler) {
+        this.defaultHandler = defaultHandler;
+    }
+
+    /**
+     * @param eMsg type of the packet message.
+     * @return <b>true</b> if the message type has its own handler.
+     */
+    public boolean hasHandler(EMsg eMsg) {
+        return Objects.nonNull(routes[eMsg.ordinal()].handler);
+    }
+
+    private void updateRoute(EMsg eMsg, Route route) {
+        var updatedRoutes = routes.clone();
+        updatedRoutes[eMsg.ordinal()] = route;
+        routes = updatedRoutes;
+    }
+
+    private static Consumer<PacketMessage>[] remove(Consumer<PacketMessage>[] consumers, Consumer<PacketMessage> consumer) {
+        for (int i = 0; i < consumers.length; i++) {
+            if (consumers[i] == consumer) {
+                var updated = newConsumers(consumers.length - 1);
+                System.arraycopy(consumers, 0, updated, 0, i);
+                System.arraycopy(consumers, i + 1, updated, i, consumers.length - i - 1);
+                return updated;
+            }
+        }
+        return consumers;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Consumer<PacketMessage>[] newConsumers(int length) {
+        return new Consumer[length];
+    }
+
+    private static final class Route {
+        private final Consumer<PacketMessage>[] observers;
+        private final Consumer<PacketMessage> handler;
+
+        private Route(Consumer<PacketMessage>[] observers, Consumer<PacketMessage> handler) {
+            this.observers = observers;
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.avenga.steamclient.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of the outgoing message buffers shared by all clients. Buffers are grouped by power of two size classes from
+ * {@value #MIN_POOLED_SIZE} to {@value #MAX_POOLED_SIZE} bytes, larger buffers are allocated for every lease and left
+ * to the garbage collector.
+ */
+public final class BufferPool {
+
+    private static final int MIN_SIZE_SHIFT = 8;
+    private static final int MAX_SIZE_SHIFT = 16;
+    private static final int MIN_POOLED_SIZE = 1 << MIN_SIZE_SHIFT;
+    private static final int MAX_POOLED_SIZE = 1 << MAX_SIZE_SHIFT;
+    private static final int MAX_POOLED_BUFFERS = 16;
+
+    private static final SizeClass[] SIZE_CLASSES = new SizeClass[MAX_SIZE_SHIFT - MIN_SIZE_SHIFT + 1];
+
+    static {
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            SIZE_CLASSES[i] = new SizeClass(MIN_POOLED_SIZE << i);
+        }
+    }
+
+    private BufferPool() {
+    }
+
+    /**
+     * @param length length of the data which will be written to the buffer.
+     * @return buffer of at least the given length which should be given back with {@link LeasedBuffer#release()}.
+     */
+    public static LeasedBuffer acquire(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Buffer length can't be negative: " + length);
+        }
+        if (length > MAX_POOLED_SIZE) {
+            return LeasedBuffer.wrap(new byte[length]);
+        }
+
+        var sizeClass = SIZE_CLASSES[getSizeClassIndex(length)];
+        var array = sizeClass.buffers.poll();
+        if (array == null) {
+            array = new byte[sizeClass.size];
+        } else {
+            sizeClass.pooledCount.decrementAndGet();
+        }
+        return new LeasedBuffer(array, length, true);
+    }
+
+    /**
+     * Returns the array to the pool of its size class, the array is dropped if the pool is full.
+     *
+     * @param array array of a buffer taken with {@link #acquire(int)}.
+     */
+    static void release(byte[] array) {
+        var sizeClass = SIZE_CLASSES[getSizeClassIndex(array.length)];
+        if (sizeClass.pooledCount.incrementAndGet() > MAX_POOLED_BUFFERS) {
+            sizeClass.pooledCount.decrementAndGet();
+            return;
+        }
+        sizeClass.buffers.offer(array);
+    }
+
+    private static int getSizeClassIndex(int length) {
+        if (length <= MIN_POOLED_SIZE) {
+            return 0;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(length - 1) - MIN_SIZE_SHIFT;
+    }
+
+    private static final class SizeClass {
+        private final int size;
+        private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pooledCount = new AtomicInteger();
+
+        private SizeClass(int size) {
+            this.size = size;
+        }
+    }
+}
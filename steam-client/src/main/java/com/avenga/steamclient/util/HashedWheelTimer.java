@@ -0,0 +1,280 @@
+package com.avenga.steamclient.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timer which keeps timeouts in a wheel of buckets, one bucket per tick. Scheduling and cancelling a timeout are
+ * constant time operations, the single worker thread only touches the bucket of the current tick.
+ * Cancelled timeouts are unlinked by the worker on the next tick, so the timer doesn't hold them until their deadline.
+ * <p>
+ * Timeouts expire with the precision of one tick. Tasks run on the worker thread and should be short,
+ * long running work has to be handed over to another executor.
+ */
+public class HashedWheelTimer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private static final long DEFAULT_TICK_DURATION = 10;
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+    private static final String WORKER_THREAD_NAME = "HashedWheelTimer-%d";
+    private static final AtomicInteger TIMER_COUNT = new AtomicInteger();
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    /**
+     * Creates timer with 10 ms ticks and 512 buckets.
+     */
+    public HashedWheelTimer() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * @param tickDuration  duration of a tick in milliseconds.
+     * @param ticksPerWheel amount of buckets, rounded up to a power of two.
+     */
+    public HashedWheelTimer(long tickDuration, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration should be greater than 0");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("Ticks per wheel should be in range (0, 2^30]");
+        }
+
+        this.tickDuration = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+        int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new Bucket[Math.max(1, wheelSize)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.startTime = System.nanoTime();
+
+        this.worker = new Thread(this::run, String.format(WORKER_THREAD_NAME, TIMER_COUNT.getAndIncrement()));
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * @return timer shared by all clients which don't configure their own timer.
+     */
+    public static HashedWheelTimer getShared() {
+        return SharedTimer.INSTANCE;
+    }
+
+    /**
+     * Schedules the task to run once after the delay.
+     *
+     * @param task  task to run on the timer thread.
+     * @param delay delay in milliseconds.
+     * @return handle of the scheduled task.
+     */
+    public Timeout newTimeout(Runnable task, long delay) {
+        if (!running) {
+            throw new IllegalStateException("Timer was stopped");
+        }
+
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delay)) - startTime;
+        var timeout = new Timeout(this, task, deadline);
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return amount of scheduled timeouts which neither expired nor were cancelled.
+     */
+    public long getPendingTimeouts() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Stops the worker thread. Scheduled timeouts won't expire.
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            var deadline = waitForNextTick(tick);
+            if (deadline < 0) {
+                continue;
+            }
+
+            processCancelledTimeouts();
+            transferPendingTimeouts(tick);
+            wheel[(int) (tick & mask)].expireTimeouts(deadline);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick(long tick) {
+        var deadline = tickDuration * (tick + 1);
+        var sleepTime = deadline - (System.nanoTime() - startTime);
+        if (sleepTime > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepTime);
+            } catch (InterruptedException e) {
+                return -1;
+            }
+        }
+        return deadline;
+    }
+
+    private void transferPendingTimeouts(long tick) {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() != Timeout.STATE_INIT) {
+                continue;
+            }
+
+            var expirationTick = timeout.deadline / tickDuration;
+            timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+            wheel[(int) (Math.max(expirationTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Handle of the scheduled task.
+     */
+    public static final class Timeout {
+        private static final int STATE_INIT = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task if it didn't run yet.
+         *
+         * @return <b>true</b> if the task was cancelled by this call.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+            timer.pendingCount.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_INIT, STATE_EXPIRED)) {
+                return;
+            }
+            timer.pendingCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                LOGGER.warn("Timer task threw an exception: {}", t.toString());
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of timeouts, accessed only by the worker thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+            }
+            tail = timeout;
+        }
+
+        private void expireTimeouts(long deadline) {
+            var timeout = head;
+            while (timeout != null) {
+                var next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private static class SharedTimer {
+        private static final HashedWheelTimer INSTANCE = new HashedWheelTimer();
+    }
+}
@@ -0,0 +1,50 @@
+package com.avenga.steamclient.util;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Inflater;
+
+/**
+ * Pool of raw deflate {@link Inflater} instances shared by all clients. Creating an inflater allocates native zlib
+ * state, so inflaters are reset and reused instead of being created for every compressed message.
+ */
+public final class InflaterPool {
+
+    private static final int MAX_POOLED_INFLATERS = 16;
+
+    private static final Queue<Inflater> INFLATERS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED_COUNT = new AtomicInteger();
+
+    private InflaterPool() {
+    }
+
+    /**
+     * @return inflater of raw deflate data (without zlib or gzip wrapper) which should be given back with
+     * {@link #release(Inflater)}.
+     */
+    public static Inflater acquire() {
+        var inflater = INFLATERS.poll();
+        if (Objects.isNull(inflater)) {
+            return new Inflater(true);
+        }
+        POOLED_COUNT.decrementAndGet();
+        return inflater;
+    }
+
+    /**
+     * Resets the inflater and returns it to the pool, the inflater is closed if the pool is full.
+     *
+     * @param inflater inflater taken with {@link #acquire()}.
+     */
+    public static void release(Inflater inflater) {
+        if (POOLED_COUNT.incrementAndGet() > MAX_POOLED_INFLATERS) {
+            POOLED_COUNT.decrementAndGet();
+            inflater.end();
+            return;
+        }
+        inflater.reset();
+        INFLATERS.offer(inflater);
+    }
+}
@@ -0,0 +1,72 @@
+package com.avenga.steamclient.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Data of an outgoing message written to the beginning of a {@link BufferPool pooled} array. The receiver of the buffer
+ * owns it and must {@link #release() release} it once the data isn't needed anymore, the array must not be used after
+ * that.
+ */
+public final class LeasedBuffer {
+
+    private final byte[] array;
+    private final int length;
+    private final boolean pooled;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    LeasedBuffer(byte[] array, int length, boolean pooled) {
+        this.array = array;
+        this.length = length;
+        this.pooled = pooled;
+    }
+
+    /**
+     * @param data data of the buffer.
+     * @return buffer over the whole array which isn't returned to the pool on release.
+     */
+    public static LeasedBuffer wrap(byte[] data) {
+        Objects.requireNonNull(data, "data wasn't provided");
+
+        return new LeasedBuffer(data, data.length, false);
+    }
+
+    /**
+     * @return backing array, the data starts at the index 0.
+     */
+    public byte[] getArray() {
+        return array;
+    }
+
+    /**
+     * @return length of the data.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return byte buffer over the data, sharing the backing array.
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(array, 0, length);
+    }
+
+    /**
+     * @return copy of the data, or the backing array itself if the buffer isn't pooled.
+     */
+    public byte[] toByteArray() {
+        return pooled ? Arrays.copyOf(array, length) : array;
+    }
+
+    /**
+     * Returns the backing array to the pool. Only the first call has any effect.
+     */
+    public void release() {
+        if (pooled && released.compareAndSet(false, true)) {
+            BufferPool.release(array);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.avenga.steamclient.generated.ExtendedClientMsgHdr;
 import com.avenga.steamclient.generated.MsgHdr;
 import com.avenga.steamclient.generated.MsgHdrProtoBuf;
 import com.avenga.steamclient.util.stream.BinaryReader;
+import com.google.protobuf.ByteString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -89,7 +90,8 @@ public class MessageUtil {
     }
 
     /**
-     * Reads packet message header received from Steam Network.
+     * Reads packet message header received from Steam Network. Protobuf header is copied from the header view of the
+     * packet message.
      *
      * @param packetMessage Stean Network packet message.
      * @return deserialized header of the packet message.
@@ -97,8 +99,11 @@ public class MessageUtil {
     public static SteamSerializableHeader readHeader(PacketMessage packetMessage) {
         SteamSerializableHeader header;
 
-        if (packetMessage.isProto()) {
-            header = new MsgHdrProtoBuf();
+        var packetHeader = packetMessage.getPacketHeader();
+        if (packetHeader.isProto()) {
+            var protobufHeader = new MsgHdrProtoBuf();
+            packetHeader.copyTo(protobufHeader);
+            return protobufHeader;
         } else if (MESSAGE_HEADER_CODES.contains(packetMessage.getMessageType().code())) {
             header = new MsgHdr();
         } else {
@@ -120,14 +125,12 @@ public class MessageUtil {
      * @return ClientMessageProtobuf of the body message.
      */
     public static Optional<ClientMessageProtobuf> readServiceMethodBody(PacketMessage packetMessage) {
-        var header = readHeader(packetMessage);
+        var packetHeader = packetMessage.getPacketHeader();
         Optional<ClientMessageProtobuf> messageProtobuf = Optional.empty();
 
-        if (packetMessage.isProto()) {
-            var headerBody = ((MsgHdrProtoBuf) header).getProto().build();
-
+        if (packetHeader.isProto()) {
             if (ServiceMethod.code() == packetMessage.getMessageType().code()) {
-                var protoClass = ServiceMethodUtils.getServiceMethodClass(headerBody.getTargetJobName());
+                var protoClass = ServiceMethodUtils.getServiceMethodClass(packetHeader.getTargetJobName());
                 if (Objects.nonNull(protoClass) && packetMessage.isProto()) {
                     messageProtobuf = Optional.of(new ClientMessageProtobuf(protoClass, packetMessage));
                 }
@@ -152,14 +155,40 @@ public class MessageUtil {
         }
     }
 
+    /**
+     * Gets raw EMsg ID from Steam network data slice.
+     *
+     * @param data Steam network data slice
+     * @return raw EMsg ID.
+     */
+    public static int getRawEMsg(ByteString data) {
+        return readInt(data, 0);
+    }
+
+    /**
+     * Reads little-endian int from Steam network data slice.
+     *
+     * @param data   Steam network data slice
+     * @param offset offset of the int in the slice
+     * @return read value.
+     */
+    public static int readInt(ByteString data, int offset) {
+        return (data.byteAt(offset) & 0xFF) | (data.byteAt(offset + 1) & 0xFF) << 8
+                | (data.byteAt(offset + 2) & 0xFF) << 16 | (data.byteAt(offset + 3) & 0xFF) << 24;
+    }
+
+    /**
+     * Reads little-endian long from Steam network data slice.
+     *
+     * @param data   Steam network data slice
+     * @param offset offset of the long in the slice
+     * @return read value.
+     */
+    public static long readLong(ByteString data, int offset) {
+        return (readInt(data, offset) & MAX_UINT_MASK) | (long) readInt(data, offset + 4) << 32;
+    }
+
     public static long getTargetJobId(PacketMessage packetMessage) {
-        var header = readHeader(packetMessage);
-        if (header instanceof MsgHdrProtoBuf) {
-            return ((MsgHdrProtoBuf) header).getProto().getJobidTarget();
-        } else if (header instanceof MsgHdr) {
-            return ((MsgHdr) header).getTargetJobID();
-        } else {
-            return ((ExtendedClientMsgHdr) header).getTargetJobID();
-        }
+        return packetMessage.getPacketHeader().getTargetJobID();
     }
 }
@@ -10,26 +10,42 @@ public class ScheduledFunction {
     private static final int INITIAL_DELAY = 0;
 
     private ScheduledExecutorService scheduledExecutorService;
+    private final ScheduledExecutorService sharedExecutorService;
     private long delay;
     private Runnable function;
     private Future<?> future;
 
     public ScheduledFunction(Runnable function, long delay) {
+        this(function, delay, null);
+    }
+
+    /**
+     * @param function              function to run.
+     * @param delay                 delay between runs in milliseconds.
+     * @param sharedExecutorService executor shared with other functions, it is not shut down on {@link #stop()}.
+     *                              When <b>null</b> a dedicated executor is created on every {@link #start()}.
+     */
+    public ScheduledFunction(Runnable function, long delay, ScheduledExecutorService sharedExecutorService) {
         this.delay = delay;
         this.function = function;
+        this.sharedExecutorService = sharedExecutorService;
     }
 
     public void start() {
         if (future == null) {
-            scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+            scheduledExecutorService = sharedExecutorService == null ? Executors.newSingleThreadScheduledExecutor()
+                    : sharedExecutorService;
             this.future = scheduledExecutorService.scheduleWithFixedDelay(function, INITIAL_DELAY, delay, TimeUnit.MILLISECONDS);
         }
     }
 
     public void stop() {
         if (future != null) {
-            this.future.cancel(true);
-            this.scheduledExecutorService.shutdown();
+            // never interrupt a shared thread, it may be running functions of other clients
+            this.future.cancel(sharedExecutorService == null);
+            if (sharedExecutorService == null) {
+                this.scheduledExecutorService.shutdown();
+            }
             this.future = null;
         }
     }
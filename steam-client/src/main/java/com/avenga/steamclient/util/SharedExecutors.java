@@ -0,0 +1,71 @@
+package com.avenga.steamclient.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors shared by all clients which don't configure their own ones. Threads are daemon threads created on demand
+ * and released after a minute without work.
+ */
+public final class SharedExecutors {
+
+    private static final int CALLBACK_COMPLETION_QUEUE_CAPACITY = 4096;
+    private static final long KEEP_ALIVE_TIME = 60;
+    private static final String CALLBACK_COMPLETION_THREAD_NAME = "SteamCallbackCompletion-%d";
+    private static final String TASK_THREAD_NAME = "SteamClientTask-%d";
+
+    private SharedExecutors() {
+    }
+
+    /**
+     * Gets the bounded pool completing callbacks of the received messages. The pool has a thread per available
+     * processor and rejects tasks when its queue is full.
+     *
+     * @return shared callback completion executor.
+     */
+    public static ExecutorService getCallbackCompletionExecutor() {
+        return CallbackCompletionExecutor.INSTANCE;
+    }
+
+    /**
+     * Gets the pool running the client tasks, e.g. connection and reconnection. Tasks of a client run one after
+     * another, but may block for a long time, so the pool creates a thread whenever all threads are busy.
+     *
+     * @return shared task executor.
+     */
+    public static ExecutorService getTaskExecutor() {
+        return TaskExecutor.INSTANCE;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String nameFormat) {
+        var threadCount = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, String.format(nameFormat, threadCount.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class CallbackCompletionExecutor {
+        private static final ExecutorService INSTANCE = createCallbackCompletionExecutor();
+
+        private static ExecutorService createCallbackCompletionExecutor() {
+            var threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            var executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(CALLBACK_COMPLETION_QUEUE_CAPACITY),
+                    daemonThreadFactory(CALLBACK_COMPLETION_THREAD_NAME));
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static class TaskExecutor {
+        private static final ExecutorService INSTANCE = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_TIME,
+                TimeUnit.SECONDS, new SynchronousQueue<>(), daemonThreadFactory(TASK_THREAD_NAME));
+    }
+}
@@ -0,0 +1,48 @@
+package com.avenga.steamclient.util.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with full jitter: the delay of the n-th retry is random in range
+ * [0, min(maxDelay, baseDelay * 2^n)], so clients dropped by the same CM don't reconnect at the same time.
+ */
+public class ExponentialBackoff {
+
+    private static final int MAX_SHIFT = 30;
+
+    private final long baseDelay;
+    private final long maxDelay;
+    private int attempt;
+
+    /**
+     * @param baseDelay delay bound of the first retry in milliseconds.
+     * @param maxDelay  maximal delay bound in milliseconds.
+     */
+    public ExponentialBackoff(long baseDelay, long maxDelay) {
+        if (baseDelay <= 0) {
+            throw new IllegalArgumentException("Base delay should be greater than 0");
+        }
+        if (maxDelay < baseDelay) {
+            throw new IllegalArgumentException("Max delay should be greater or equal to base delay");
+        }
+
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * @return delay of the next retry in milliseconds.
+     */
+    public synchronized long nextDelay() {
+        var shift = Math.min(attempt++, MAX_SHIFT);
+        var bound = baseDelay > maxDelay >> shift ? maxDelay : baseDelay << shift;
+        return ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    /**
+     * Starts the delays over from the base delay.
+     */
+    public synchronized void reset() {
+        attempt = 0;
+    }
+}
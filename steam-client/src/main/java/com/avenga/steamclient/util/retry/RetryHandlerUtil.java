@@ -3,10 +3,15 @@ package com.avenga.steamclient.util.retry;
 import com.avenga.steamclient.exception.CallbackTimeoutException;
 import com.avenga.steamclient.model.steam.SteamMessageCallback;
 import com.avenga.steamclient.steam.client.SteamClient;
+import com.avenga.steamclient.util.HashedWheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 import static com.avenga.steamclient.constant.Constant.RETRY_EXCEPTION_MESSAGE_FORMAT;
+import static com.avenga.steamclient.constant.Constant.TIMEOUT_EXCEPTION_MESSAGE_FORMAT;
 
 public class RetryHandlerUtil {
 
@@ -29,4 +34,116 @@ public class RetryHandlerUtil {
         client.removeCallbackFromQueue(messageCallback);
         throw new CallbackTimeoutException(String.format(RETRY_EXCEPTION_MESSAGE_FORMAT, retryCount, errorMessage));
     }
+
+    /**
+     * Sends the request and repeats it every time the callback isn't completed within the timeout. Timeouts are
+     * scheduled on the {@link SteamClient#getCallbackTimer() callback timer}, so no thread waits for the callback.
+     * After the last retry callback is removed from queue and completed exceptionally with {@link CallbackTimeoutException}.
+     *
+     * @param request         Sends the request message, runs on the {@link SteamClient#getTaskExecutor() task executor}
+     *                        for retries.
+     * @param messageCallback Registered callback in {@link SteamClient} callback queue.
+     * @param retryCount      Maximum amount of sent requests.
+     * @param timeout         Time during which callback should be completed after each request, in milliseconds.
+     * @param handlerName     Name of the handler which handle current callback.
+     * @param client          Stean synchronous client.
+     * @param <T>             Packet message type.
+     * @return Future of the packet message received from the Steam Network servers.
+     */
+    public static <T> CompletableFuture<T> getOrRetryAsync(Runnable request, SteamMessageCallback<T> messageCallback,
+                                                           int retryCount, long timeout, String handlerName, SteamClient client) {
+        new RetryAttempts<>(request, messageCallback, retryCount, timeout, handlerName, client).start();
+        return messageCallback.getCallback();
+    }
+
+    private static final class RetryAttempts<T> {
+        private final Runnable request;
+        private final SteamMessageCallback<T> messageCallback;
+        private final int retryCount;
+        private final long timeout;
+        private final String handlerName;
+        private final SteamClient client;
+        private volatile int count;
+        private volatile HashedWheelTimer.Timeout scheduledTimeout;
+
+        private RetryAttempts(Runnable request, SteamMessageCallback<T> messageCallback, int retryCount, long timeout,
+                              String handlerName, SteamClient client) {
+            this.request = request;
+            this.messageCallback = messageCallback;
+            this.retryCount = retryCount;
+            this.timeout = timeout;
+            this.handlerName = handlerName;
+            this.client = client;
+        }
+
+        private void start() {
+            messageCallback.getCallback().whenComplete((packetMessage, throwable) -> cancelTimeout());
+            if (retryCount <= 0) {
+                fail("");
+                return;
+            }
+            attempt();
+        }
+
+        private void attempt() {
+            count++;
+            request.run();
+            scheduledTimeout = client.getCallbackTimer().newTimeout(this::onTimeout, timeout);
+            if (messageCallback.getCallback().isDone()) {
+                cancelTimeout();
+            }
+        }
+
+        private void onTimeout() {
+            if (messageCallback.getCallback().isDone()) {
+                return;
+            }
+
+            var errorMessage = new CallbackTimeoutException(String.format(TIMEOUT_EXCEPTION_MESSAGE_FORMAT, handlerName,
+                    messageCallback.getSequence())).toString();
+            LOGGER.debug("{}: Consumer messageCallback handler retry count {} with error: {}",
+                    client.getClientName(), count, errorMessage);
+            if (count >= retryCount) {
+                fail(errorMessage);
+                return;
+            }
+
+            // sending may block on the connection, so the timer thread only hands the retry over
+            try {
+                client.getTaskExecutor().execute(this::retry);
+            } catch (RejectedExecutionException e) {
+                fail(e);
+            }
+        }
+
+        private void retry() {
+            if (messageCallback.getCallback().isDone()) {
+                return;
+            }
+
+            try {
+                attempt();
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void fail(RuntimeException exception) {
+            client.removeCallbackFromQueue(messageCallback);
+            client.completeCallbackExceptionally(messageCallback, exception);
+        }
+
+        private void fail(String errorMessage) {
+            client.removeCallbackFromQueue(messageCallback);
+            client.completeCallbackExceptionally(messageCallback, new CallbackTimeoutException(String.format(
+                    RETRY_EXCEPTION_MESSAGE_FORMAT, retryCount, errorMessage)));
+        }
+
+        private void cancelTimeout() {
+            var timeoutToCancel = scheduledTimeout;
+            if (timeoutToCancel != null) {
+                timeoutToCancel.cancel();
+            }
+        }
+    }
 }
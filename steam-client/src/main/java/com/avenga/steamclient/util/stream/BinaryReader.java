@@ -15,15 +15,12 @@ public class BinaryReader extends FilterInputStream {
     }
 
     public int readInt() throws IOException {
-        int ch1 = in.read();
-        int ch2 = in.read();
-        int ch3 = in.read();
-        int ch4 = in.read();
+        fill(readBuffer, 0, 4);
         position += 4;
-        if ((ch1 | ch2 | ch3 | ch4) < 0) {
-            throw new EOFException();
-        }
-        return ((ch4 << 24) + (ch3 << 16) + (ch2 << 8) + ch1);
+        return ((readBuffer[3] & 255) << 24) +
+                ((readBuffer[2] & 255) << 16) +
+                ((readBuffer[1] & 255) << 8) +
+                (readBuffer[0] & 255);
     }
 
     public byte[] readBytes(int len) throws IOException {
@@ -32,14 +29,38 @@ public class BinaryReader extends FilterInputStream {
         }
 
         byte[] bytes = new byte[len];
-
-        for (int i = 0; i < bytes.length; i++) {
-            bytes[i] = readByte();
-        }
+        fill(bytes, 0, len);
+        position += len;
 
         return bytes;
     }
 
+    /**
+     * Reads exactly <b>len</b> bytes with bulk reads of the underlying stream.
+     *
+     * @param bytes  destination array.
+     * @param offset offset in the destination array.
+     * @param len    amount of bytes to read.
+     * @throws IOException  if an I/O error occurs.
+     * @throws EOFException if the stream ends before all bytes were read.
+     */
+    public void readFully(byte[] bytes, int offset, int len) throws IOException {
+        fill(bytes, offset, len);
+        position += len;
+    }
+
+    private void fill(byte[] bytes, int offset, int len) throws IOException {
+        int total = 0;
+        while (total < len) {
+            int count = in.read(bytes, offset + total, len - total);
+            // a stream which reads nothing although bytes were requested is at its end as well
+            if (count <= 0) {
+                throw new EOFException();
+            }
+            total += count;
+        }
+    }
+
     public byte readByte() throws IOException {
         int ch = in.read();
         if (ch < 0) {
@@ -60,7 +81,7 @@ public class BinaryReader extends FilterInputStream {
     }
 
     public long readLong() throws IOException {
-        in.read(readBuffer, 0, 8);
+        fill(readBuffer, 0, 8);
         position += 8;
         return (((long) readBuffer[7] << 56) +
                 ((long) (readBuffer[6] & 255) << 48) +
@@ -13,9 +13,12 @@ import java.util.Arrays;
 public class MemoryStream extends InputStream implements Closeable {
 
     private static final int DEFAULT_CAPACITY = 0;
+    private static final byte[] EMPTY_BUFFER = new byte[0];
 
     private byte[] buffer;
     private int capacity;
+    // capacity allocated on the first write of an expandable stream
+    private int reservedCapacity;
     private int length;
     private final int origin;
     private int position;
@@ -34,14 +37,16 @@ public class MemoryStream extends InputStream implements Closeable {
 
     /**
      * Initializes a new instance of the MemoryStream class with an expandable capacity
-     * initialized as specified.
+     * initialized as specified. The internal array is allocated on the first write, so
+     * streams which are never written don't allocate it.
      *
      * @param capacity The initial size of the internal array in bytes.
      */
     public MemoryStream(int capacity) {
-        this.buffer = new byte[capacity];
+        this.buffer = EMPTY_BUFFER;
 
-        this.capacity = capacity;
+        this.capacity = 0;
+        this.reservedCapacity = capacity;
         this.length = 0;
         this.origin = 0;
         this.position = 0;
@@ -164,9 +169,12 @@ public class MemoryStream extends InputStream implements Closeable {
 
     @Override
     public synchronized int read(byte[] b, int off, int len) {
-        if (position >= length || len == 0)
+        if (len == 0)
             return 0;
 
+        if (position >= length)
+            return -1;
+
         if (position > length - len)
             len = length - position;
 
@@ -356,7 +364,7 @@ public class MemoryStream extends InputStream implements Closeable {
 
     private boolean expand(int newLength) {
         if (newLength > capacity) {
-            int newCapacity = Math.max(256, newLength);
+            int newCapacity = newLength <= reservedCapacity ? reservedCapacity : Math.max(256, newLength);
             newCapacity = Math.max(capacity * 2, newCapacity);
 
             setCapacity(newCapacity);
@@ -371,6 +379,19 @@ public class MemoryStream extends InputStream implements Closeable {
         return ret;
     }
 
+    /**
+     * Copies the content of this stream to the array.
+     *
+     * @param destination       The array to copy the content to.
+     * @param destinationOffset The offset in the array at which to begin copying.
+     * @return The number of copied bytes.
+     */
+    public int copyTo(byte[] destination, int destinationOffset) {
+        int count = length - origin;
+        System.arraycopy(buffer, origin, destination, destinationOffset, count);
+        return count;
+    }
+
     /**
      * Get an OutputStream that will write to this MemoryStream, at the current position.
      *
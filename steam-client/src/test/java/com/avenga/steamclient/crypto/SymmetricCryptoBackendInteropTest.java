@@ -0,0 +1,110 @@
+package com.avenga.steamclient.crypto;
+
+import com.avenga.steamclient.exception.CryptoException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Messages encrypted by one symmetric crypto backend are decrypted by the other one and by {@link CryptoHelper}, so
+ * both sides of the channel can use any backend.
+ */
+class SymmetricCryptoBackendInteropTest {
+
+    private static final int[] PLAINTEXT_LENGTHS = {0, 1, 15, 16, 17, 31, 32, 33, 1000, 65536};
+    private static final Random RANDOM = new Random(42);
+
+    private static final byte[] SESSION_KEY = randomBytes(32);
+    private static final byte[] HMAC_SECRET = randomBytes(16);
+
+    static Stream<Arguments> backendPairs() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (SymmetricCryptoBackend encryptor : backends()) {
+            for (SymmetricCryptoBackend decryptor : backends()) {
+                arguments.add(Arguments.of(encryptor, decryptor));
+            }
+        }
+        return arguments.stream();
+    }
+
+    static Stream<Arguments> backendPairsWithHmacSecret() {
+        return backendPairs().flatMap(pair -> Stream.of(null, HMAC_SECRET)
+                .map(hmacSecret -> Arguments.of(pair.get()[0], pair.get()[1], hmacSecret)));
+    }
+
+    @Test
+    void backendsUseTheirProviders() throws GeneralSecurityException {
+        var jdkBackend = new JdkCryptoBackend();
+        assertEquals("SunJCE", jdkBackend.createBlockCipher().getProvider().getName());
+        assertEquals("SunJCE", jdkBackend.createPaddedCipher().getProvider().getName());
+        assertEquals("SunJCE", jdkBackend.createMac("HmacSHA1").getProvider().getName());
+
+        var bouncyCastleBackend = new BouncyCastleCryptoBackend();
+        assertEquals(CryptoHelper.SEC_PROV, bouncyCastleBackend.createBlockCipher().getProvider().getName());
+        assertEquals(CryptoHelper.SEC_PROV, bouncyCastleBackend.createPaddedCipher().getProvider().getName());
+        assertEquals(CryptoHelper.SEC_PROV, bouncyCastleBackend.createMac("HmacSHA1").getProvider().getName());
+    }
+
+    @ParameterizedTest
+    @MethodSource("backendPairsWithHmacSecret")
+    void decryptsMessagesOfOtherBackend(SymmetricCryptoBackend encryptor, SymmetricCryptoBackend decryptor,
+                                        byte[] hmacSecret) {
+        var encryptingCipher = new SessionCipher(SESSION_KEY, hmacSecret, encryptor);
+        var decryptingCipher = new SessionCipher(SESSION_KEY, hmacSecret, decryptor);
+
+        for (int length : PLAINTEXT_LENGTHS) {
+            var plaintext = randomBytes(length);
+            var encrypted = encryptingCipher.encrypt(plaintext);
+
+            assertEquals(SessionCipher.getEncryptedSize(length), encrypted.length);
+            assertArrayEquals(plaintext, decryptingCipher.decrypt(encrypted));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void interoperatesWithCryptoHelper(SymmetricCryptoBackend backend) {
+        var cipher = new SessionCipher(SESSION_KEY, null, backend);
+        var hmacCipher = new SessionCipher(SESSION_KEY, HMAC_SECRET, backend);
+
+        for (int length : PLAINTEXT_LENGTHS) {
+            var plaintext = randomBytes(length);
+
+            assertArrayEquals(plaintext, CryptoHelper.symmetricDecrypt(cipher.encrypt(plaintext), SESSION_KEY));
+            assertArrayEquals(plaintext, cipher.decrypt(CryptoHelper.symmetricEncrypt(plaintext, SESSION_KEY)));
+            assertArrayEquals(plaintext, CryptoHelper.symmetricDecryptHMACIV(hmacCipher.encrypt(plaintext), SESSION_KEY,
+                    HMAC_SECRET));
+            assertArrayEquals(plaintext, hmacCipher.decrypt(CryptoHelper.symmetricEncryptWithHMACIV(plaintext,
+                    SESSION_KEY, HMAC_SECRET)));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("backendPairs")
+    void rejectsMessagesWithWrongHmac(SymmetricCryptoBackend encryptor, SymmetricCryptoBackend decryptor) {
+        var encrypted = new SessionCipher(SESSION_KEY, randomBytes(16), encryptor).encrypt(randomBytes(100));
+
+        assertThrows(CryptoException.class, () -> new SessionCipher(SESSION_KEY, HMAC_SECRET, decryptor).decrypt(encrypted));
+    }
+
+    static List<SymmetricCryptoBackend> backends() {
+        return List.of(new JdkCryptoBackend(), new BouncyCastleCryptoBackend());
+    }
+
+    private static byte[] randomBytes(int length) {
+        var bytes = new byte[length];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+}
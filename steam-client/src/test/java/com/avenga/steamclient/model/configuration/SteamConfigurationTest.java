@@ -0,0 +1,33 @@
+package com.avenga.steamclient.model.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Backoff delays of a state built without the defaults are replaced, so the client never retries in a tight loop.
+ */
+class SteamConfigurationTest {
+
+    @Test
+    void defaultsUnsetBackoffs() {
+        var configuration = new SteamConfiguration(SteamConfigurationState.builder().build());
+
+        assertEquals(SteamConfigurationState.DEFAULT_GC_UNAVAILABLE_BACKOFF, configuration.getGcUnavailableBackoff());
+        assertEquals(SteamConfigurationState.DEFAULT_RECONNECT_BACKOFF_BASE, configuration.getReconnectBackoffBase());
+        assertEquals(SteamConfigurationState.DEFAULT_RECONNECT_BACKOFF_MAX, configuration.getReconnectBackoffMax());
+    }
+
+    @Test
+    void keepsValidBackoffs() {
+        var configuration = new SteamConfiguration(SteamConfigurationState.builder()
+                .gcUnavailableBackoff(5000L)
+                .reconnectBackoffBase(200L)
+                .reconnectBackoffMax(100L)
+                .build());
+
+        assertEquals(5000L, configuration.getGcUnavailableBackoff());
+        assertEquals(200L, configuration.getReconnectBackoffBase());
+        assertEquals(200L, configuration.getReconnectBackoffMax());
+    }
+}
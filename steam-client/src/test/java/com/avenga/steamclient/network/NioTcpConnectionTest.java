@@ -0,0 +1,84 @@
+package com.avenga.steamclient.network;
+
+import com.avenga.steamclient.util.BufferPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static com.avenga.steamclient.network.TcpFrameReader.HEADER_SIZE;
+import static com.avenga.steamclient.network.TcpFrameReader.MAGIC;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Leased buffers sent by {@link NioTcpConnection} are framed without copying and returned to the {@link BufferPool}
+ * once written.
+ */
+class NioTcpConnectionTest {
+
+    private ServerSocket serverSocket;
+    private NioTcpConnection connection;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        connection = new NioTcpConnection("test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connection.disconnect();
+        serverSocket.close();
+    }
+
+    @Test
+    void releasesLeasedBufferAfterWrite() throws IOException {
+        connection.connect(new InetSocketAddress(serverSocket.getInetAddress(), serverSocket.getLocalPort()));
+
+        try (Socket socket = serverSocket.accept()) {
+            var input = new DataInputStream(socket.getInputStream());
+            for (int length : new int[]{1, 300, 5000}) {
+                var data = BufferPool.acquire(length);
+                Arrays.fill(data.getArray(), 0, length, (byte) length);
+
+                // the sender writes the frame of the blocking channel before returning
+                connection.send(data);
+
+                var frame = new byte[HEADER_SIZE + length];
+                input.readFully(frame);
+                var header = ByteBuffer.wrap(frame, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                assertEquals(length, header.getInt());
+                assertEquals(MAGIC, header.getInt());
+                var expected = new byte[length];
+                Arrays.fill(expected, (byte) length);
+                assertArrayEquals(expected, Arrays.copyOfRange(frame, HEADER_SIZE, frame.length));
+
+                var reused = BufferPool.acquire(length);
+                assertSame(data.getArray(), reused.getArray());
+                reused.release();
+            }
+        }
+    }
+
+    @Test
+    void releasesLeasedBufferWhenNotConnected() {
+        var data = BufferPool.acquire(100);
+
+        connection.send(data);
+
+        var reused = BufferPool.acquire(100);
+        assertSame(data.getArray(), reused.getArray());
+        reused.release();
+    }
+}
@@ -0,0 +1,134 @@
+package com.avenga.steamclient.steam.asyncclient.callbackmanager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput of several producer connections posting to a single consumer, compared with the synchronized list the
+ * queue replaced. Runs only on demand: {@code mvn test -Dtest=CallbackQueueBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CallbackQueueBenchmark {
+
+    private static final int OFFERS_PER_PRODUCER = 200_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @Test
+    void measureThroughput() throws InterruptedException {
+        for (int producers : new int[]{1, 2, 4, 8}) {
+            report("synchronized list", producers, new SynchronizedQueue());
+            report("unbounded", producers, new LockFreeQueue(new CallbackQueue()));
+            report("bounded 1024 park", producers,
+                    new LockFreeQueue(new CallbackQueue(1024, WaitStrategy.PARK, OverflowPolicy.BLOCK)));
+            report("bounded 1024 spin", producers,
+                    new LockFreeQueue(new CallbackQueue(1024, WaitStrategy.SPIN_THEN_PARK, OverflowPolicy.BLOCK)));
+        }
+    }
+
+    private static void report(String name, int producers, BenchmarkQueue queue) throws InterruptedException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(producers, queue);
+        }
+
+        long nanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            nanos += run(producers, queue);
+        }
+        var callbacksPerSecond = (double) producers * OFFERS_PER_PRODUCER * MEASURED_ROUNDS / nanos * 1e9;
+        System.out.printf("%-20s producers: %d, %,.0f callbacks/s%n", name, producers, callbacksPerSecond);
+    }
+
+    private static long run(int producers, BenchmarkQueue queue) throws InterruptedException {
+        var threads = new ArrayList<Thread>();
+        var start = System.nanoTime();
+        for (int i = 0; i < producers; i++) {
+            var index = i;
+            var thread = new Thread(() -> {
+                for (int sequence = 0; sequence < OFFERS_PER_PRODUCER; sequence++) {
+                    queue.offer(new TestCallback(index, sequence));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        var consumed = new int[1];
+        while (consumed[0] < producers * OFFERS_PER_PRODUCER) {
+            queue.drain(callback -> consumed[0]++);
+        }
+        var elapsed = System.nanoTime() - start;
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(producers * OFFERS_PER_PRODUCER, consumed[0]);
+        return elapsed;
+    }
+
+    private interface BenchmarkQueue {
+        void offer(CallbackMessage callbackMessage);
+
+        void drain(Consumer<CallbackMessage> consumer);
+    }
+
+    private static final class LockFreeQueue implements BenchmarkQueue {
+        private final CallbackQueue queue;
+
+        private LockFreeQueue(CallbackQueue queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void offer(CallbackMessage callbackMessage) {
+            queue.offer(callbackMessage);
+        }
+
+        @Override
+        public void drain(Consumer<CallbackMessage> consumer) {
+            if (queue.await(0)) {
+                queue.drainTo(consumer);
+            }
+        }
+    }
+
+    /**
+     * Queue of the callbacks before the {@link CallbackQueue}: a list guarded by a monitor with notify on post.
+     */
+    private static final class SynchronizedQueue implements BenchmarkQueue {
+        private final Queue<CallbackMessage> callbacks = new LinkedList<>();
+
+        @Override
+        public void offer(CallbackMessage callbackMessage) {
+            synchronized (callbacks) {
+                callbacks.offer(callbackMessage);
+                callbacks.notify();
+            }
+        }
+
+        @Override
+        public void drain(Consumer<CallbackMessage> consumer) {
+            var drained = new ArrayList<CallbackMessage>();
+            synchronized (callbacks) {
+                while (callbacks.isEmpty()) {
+                    try {
+                        callbacks.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                drained.addAll(callbacks);
+                callbacks.clear();
+            }
+            drained.forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.avenga.steamclient.steam.asyncclient.callbackmanager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Callbacks of several producers are consumed exactly once in the posting order of every producer, a full bounded
+ * queue applies its {@link OverflowPolicy}.
+ */
+class CallbackQueueTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int OFFERS_PER_PRODUCER = 50_000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    static Stream<Arguments> queues() {
+        var arguments = new ArrayList<Arguments>();
+        for (int capacity : new int[]{0, 64}) {
+            for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+                for (boolean drain : new boolean[]{true, false}) {
+                    arguments.add(Arguments.of(capacity, waitStrategy, drain));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("queues")
+    void consumesCallbacksOfAllProducers(int capacity, WaitStrategy waitStrategy, boolean drain) {
+        var queue = new CallbackQueue(capacity, waitStrategy, OverflowPolicy.BLOCK);
+        var nextSequences = new int[PRODUCERS];
+        var consumed = new int[1];
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            var producers = startProducers(queue);
+            while (consumed[0] < PRODUCERS * OFFERS_PER_PRODUCER) {
+                assertTrue(queue.await(0));
+                if (drain) {
+                    queue.drainTo(callback -> consume(callback, nextSequences, consumed));
+                } else {
+                    consume(queue.poll(), nextSequences, consumed);
+                }
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+        });
+
+        assertNull(queue.poll());
+        assertEquals(0, queue.getDroppedCount());
+        for (int nextSequence : nextSequences) {
+            assertEquals(OFFERS_PER_PRODUCER, nextSequence);
+        }
+    }
+
+    @Test
+    void dropsNewestCallbackOfFullQueue() {
+        var queue = new CallbackQueue(4, WaitStrategy.PARK, OverflowPolicy.DROP_NEWEST);
+        fill(queue, 4);
+
+        assertFalse(queue.offer(new TestCallback(0, 4)));
+        assertEquals(1, queue.getDroppedCount());
+
+        assertEquals(0, ((TestCallback) queue.poll()).sequence);
+        assertTrue(queue.offer(new TestCallback(0, 5)));
+        assertEquals(List.of(1, 2, 3, 5), drainSequences(queue));
+    }
+
+    @Test
+    void throwsOnFullQueue() {
+        var queue = new CallbackQueue(4, WaitStrategy.PARK, OverflowPolicy.THROW);
+        fill(queue, 4);
+
+        assertThrows(IllegalStateException.class, () -> queue.offer(new TestCallback(0, 4)));
+        assertEquals(List.of(0, 1, 2, 3), drainSequences(queue));
+    }
+
+    @Test
+    void blocksProducerOfFullQueue() throws InterruptedException {
+        var queue = new CallbackQueue(4, WaitStrategy.PARK, OverflowPolicy.BLOCK);
+        fill(queue, 4);
+        var offered = new CountDownLatch(1);
+
+        var producer = new Thread(() -> {
+            queue.offer(new TestCallback(0, 4));
+            offered.countDown();
+        });
+        producer.start();
+
+        assertFalse(offered.await(100, TimeUnit.MILLISECONDS));
+        assertEquals(0, ((TestCallback) queue.poll()).sequence);
+        assertTrue(offered.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3, 4), drainSequences(queue));
+    }
+
+    @Test
+    void dropsCallbackOfInterruptedBlockedProducer() throws InterruptedException {
+        var queue = new CallbackQueue(4, WaitStrategy.PARK, OverflowPolicy.BLOCK);
+        fill(queue, 4);
+        var result = new AtomicBoolean(true);
+
+        var producer = new Thread(() -> result.set(queue.offer(new TestCallback(0, 4))));
+        producer.start();
+        producer.interrupt();
+        producer.join(5000);
+
+        assertFalse(result.get());
+        assertEquals(1, queue.getDroppedCount());
+        assertEquals(List.of(0, 1, 2, 3), drainSequences(queue));
+    }
+
+    @Test
+    void awaitsPostedCallback() throws InterruptedException {
+        var queue = new CallbackQueue();
+        var callback = new TestCallback(0, 0);
+
+        assertFalse(queue.await(10));
+
+        var producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.offer(callback);
+        });
+        producer.start();
+
+        assertTimeoutPreemptively(TIMEOUT, () -> assertTrue(queue.await(0)));
+        assertSame(callback, queue.poll());
+        producer.join();
+    }
+
+    private static List<Thread> startProducers(CallbackQueue queue) {
+        var producers = new ArrayList<Thread>();
+        for (int i = 0; i < PRODUCERS; i++) {
+            var index = i;
+            var producer = new Thread(() -> {
+                for (int sequence = 0; sequence < OFFERS_PER_PRODUCER; sequence++) {
+                    assertTrue(queue.offer(new TestCallback(index, sequence)));
+                }
+            }, "producer-" + i);
+            producer.start();
+            producers.add(producer);
+        }
+        return producers;
+    }
+
+    private static void consume(CallbackMessage callbackMessage, int[] nextSequences, int[] consumed) {
+        var callback = (TestCallback) callbackMessage;
+        // every producer posts its callbacks in sequence, so a lost, duplicated or reordered one breaks the sequence
+        assertEquals(nextSequences[callback.producer], callback.sequence, "Sequence of producer " + callback.producer);
+        nextSequences[callback.producer]++;
+        consumed[0]++;
+    }
+
+    private static void fill(CallbackQueue queue, int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(queue.offer(new TestCallback(0, i)));
+        }
+    }
+
+    private static List<Integer> drainSequences(CallbackQueue queue) {
+        var sequences = new ArrayList<Integer>();
+        queue.drainTo(callback -> sequences.add(((TestCallback) callback).sequence));
+        return sequences;
+    }
+}
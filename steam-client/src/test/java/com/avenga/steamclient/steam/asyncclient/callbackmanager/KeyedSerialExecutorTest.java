@@ -0,0 +1,140 @@
+package com.avenga.steamclient.steam.asyncclient.callbackmanager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tasks of the {@link KeyedSerialExecutor} keep the submission order of their key, a full key applies the overflow
+ * policy without holding back the other keys.
+ */
+class KeyedSerialExecutorTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final int MAX_QUEUED_PER_KEY = 4;
+
+    private ExecutorService executor;
+    private CountDownLatch hotKeyRelease;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        hotKeyRelease = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotKeyRelease.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void keepsOrderOfKey() throws InterruptedException {
+        var keyedExecutor = new KeyedSerialExecutor(executor, 1000, OverflowPolicy.THROW);
+        var executed = new ArrayList<List<Integer>>();
+        for (int key = 0; key < 4; key++) {
+            executed.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+        var done = new CountDownLatch(4 * 500);
+
+        for (int i = 0; i < 500; i++) {
+            for (int key = 0; key < 4; key++) {
+                var index = i;
+                var keyExecuted = executed.get(key);
+                keyedExecutor.execute(key, () -> {
+                    keyExecuted.add(index);
+                    done.countDown();
+                });
+            }
+        }
+
+        assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        for (List<Integer> keyExecuted : executed) {
+            for (int i = 0; i < 500; i++) {
+                assertEquals(i, keyExecuted.get(i));
+            }
+        }
+    }
+
+    @Test
+    void dropsTasksOfFullKey() throws InterruptedException {
+        var keyedExecutor = new KeyedSerialExecutor(executor, MAX_QUEUED_PER_KEY, OverflowPolicy.DROP_NEWEST);
+        blockHotKey(keyedExecutor);
+
+        for (int i = 0; i < MAX_QUEUED_PER_KEY + 10; i++) {
+            keyedExecutor.execute("hot", () -> {
+            });
+        }
+        assertEquals(10, keyedExecutor.getDroppedTasks());
+
+        var otherKey = new CountDownLatch(1);
+        keyedExecutor.execute("other", otherKey::countDown);
+        assertTrue(otherKey.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectsTasksOfFullKey() throws InterruptedException {
+        var keyedExecutor = new KeyedSerialExecutor(executor, MAX_QUEUED_PER_KEY, OverflowPolicy.THROW);
+        blockHotKey(keyedExecutor);
+
+        for (int i = 0; i < MAX_QUEUED_PER_KEY; i++) {
+            keyedExecutor.execute("hot", () -> {
+            });
+        }
+
+        assertThrows(RejectedExecutionException.class, () -> keyedExecutor.execute("hot", () -> {
+        }));
+    }
+
+    @Test
+    void blocksSubmissionToFullKey() throws InterruptedException {
+        var keyedExecutor = new KeyedSerialExecutor(executor, MAX_QUEUED_PER_KEY, OverflowPolicy.BLOCK);
+        blockHotKey(keyedExecutor);
+        for (int i = 0; i < MAX_QUEUED_PER_KEY; i++) {
+            keyedExecutor.execute("hot", () -> {
+            });
+        }
+
+        var submitted = new CountDownLatch(1);
+        var executed = new CountDownLatch(1);
+        var submitter = new Thread(() -> {
+            keyedExecutor.execute("hot", executed::countDown);
+            submitted.countDown();
+        });
+        submitter.start();
+
+        assertFalse(submitted.await(100, TimeUnit.MILLISECONDS));
+        hotKeyRelease.countDown();
+        assertTrue(submitted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(executed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(0, keyedExecutor.getDroppedTasks());
+    }
+
+    private void blockHotKey(KeyedSerialExecutor keyedExecutor) throws InterruptedException {
+        var started = new CountDownLatch(1);
+        keyedExecutor.execute("hot", () -> {
+            started.countDown();
+            try {
+                hotKeyRelease.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        // the running task is taken from the queue, so only the tasks submitted later count towards the limit
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+}
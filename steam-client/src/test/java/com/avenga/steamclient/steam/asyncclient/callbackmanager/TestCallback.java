@@ -0,0 +1,28 @@
+package com.avenga.steamclient.steam.asyncclient.callbackmanager;
+
+import com.avenga.steamclient.model.JobID;
+
+/**
+ * Callback posted by the producer with the given index.
+ */
+class TestCallback implements CallbackMessage {
+
+    final int producer;
+    final int sequence;
+    private JobID jobID = JobID.INVALID;
+
+    TestCallback(int producer, int sequence) {
+        this.producer = producer;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public JobID getJobID() {
+        return jobID;
+    }
+
+    @Override
+    public void setJobID(JobID jobID) {
+        this.jobID = jobID;
+    }
+}
@@ -0,0 +1,154 @@
+package com.avenga.steamclient.steam.client.task;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tasks of the {@link TaskHandlerJob} run one by one in the registration order, a pending {@link AsyncTask} holds the
+ * next task until its future completes.
+ */
+class TaskHandlerJobTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private ExecutorService executor;
+    private TaskHandlerJob job;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        job = new TaskHandlerJob("test", executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runsTasksInRegistrationOrder() throws InterruptedException {
+        var executed = new CopyOnWriteArrayList<Integer>();
+        var done = new CountDownLatch(1);
+
+        for (int i = 0; i < 100; i++) {
+            var index = i;
+            if (i % 2 == 0) {
+                job.registerTask(new Task(() -> executed.add(index), "task-" + i));
+            } else {
+                job.registerTask(new AsyncTask(() -> CompletableFuture.runAsync(() -> executed.add(index), executor),
+                        "async-task-" + i));
+            }
+        }
+        job.registerTask(new Task(done::countDown, "done"));
+
+        assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(100, executed.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, executed.get(i));
+        }
+    }
+
+    @Test
+    void pendingAsyncTaskHoldsNextTask() throws InterruptedException {
+        var pending = new CompletableFuture<Void>();
+        var started = new CountDownLatch(1);
+        var next = new CountDownLatch(1);
+
+        job.registerTask(new AsyncTask(() -> {
+            started.countDown();
+            return pending;
+        }, "pending"));
+        job.registerTask(new Task(next::countDown, "next"));
+
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(next.await(100, TimeUnit.MILLISECONDS));
+
+        pending.complete(null);
+        assertTrue(next.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancelsPendingAsyncTask() throws InterruptedException {
+        var pending = new CompletableFuture<Void>();
+        var started = new CountDownLatch(1);
+        var next = new CountDownLatch(1);
+
+        job.registerTask(new AsyncTask(() -> {
+            started.countDown();
+            return pending;
+        }, "pending"));
+        job.registerTask(new Task(next::countDown, "next"));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        job.cancelCurrentTask(task -> "other".equals(task.getName()));
+        assertFalse(pending.isDone());
+
+        // the future may be published after the supplier returns, then the worker cancels it instead of this thread
+        job.cancelCurrentTask(task -> "pending".equals(task.getName()));
+        assertTrue(next.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void failingAsyncTaskDoesNotStallQueue() throws InterruptedException {
+        var next = new CountDownLatch(2);
+
+        job.registerTask(new AsyncTask(() -> {
+            throw new IllegalStateException("failed to start");
+        }, "failing-start"));
+        job.registerTask(new AsyncTask(() -> CompletableFuture.failedFuture(new IllegalStateException("failed")),
+                "failing"));
+        job.registerTask(new Task(next::countDown, "next"));
+        job.registerTask(new AsyncTask(() -> CompletableFuture.runAsync(next::countDown, executor), "async-next"));
+
+        assertTrue(next.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void startsRegisteredTaskWithoutPolling() throws InterruptedException {
+        var latencies = new long[21];
+
+        for (int i = 0; i < latencies.length; i++) {
+            var started = new CountDownLatch(1);
+            var startedAt = new AtomicLong();
+            var registeredAt = System.nanoTime();
+            job.registerTask(new Task(() -> {
+                startedAt.set(System.nanoTime());
+                started.countDown();
+            }, "task-" + i));
+
+            assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            latencies[i] = startedAt.get() - registeredAt;
+        }
+
+        Arrays.sort(latencies);
+        var medianLatency = TimeUnit.NANOSECONDS.toMillis(latencies[latencies.length / 2]);
+        // tasks were checked every 100 ms before, now they start as soon as they are registered
+        assertTrue(medianLatency < 50, "Median task start latency was " + medianLatency + " ms");
+    }
+
+    @Test
+    void ignoresTasksAfterStop() throws InterruptedException {
+        var executed = new CountDownLatch(1);
+
+        job.stop();
+        job.registerTask(new Task(executed::countDown, "after-stop"));
+
+        assertFalse(executed.await(100, TimeUnit.MILLISECONDS));
+    }
+}
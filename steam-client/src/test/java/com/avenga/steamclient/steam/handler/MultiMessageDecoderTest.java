@@ -0,0 +1,231 @@
+package com.avenga.steamclient.steam.handler;
+
+import com.avenga.steamclient.base.PacketMessage;
+import com.avenga.steamclient.enums.EMsg;
+import com.avenga.steamclient.protobufs.steamclient.SteammessagesBase.CMsgMulti;
+import com.avenga.steamclient.util.MessageUtil;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Messages packed into {@link CMsgMulti} are passed to the consumer in order, for plain and gzip compressed payloads.
+ */
+class MultiMessageDecoderTest {
+
+    private static final int MESSAGE_COUNT = 50;
+
+    private final List<PacketMessage> decoded = new ArrayList<>();
+    private final MultiMessageDecoder decoder = new MultiMessageDecoder("test", decoded::add);
+
+    @Test
+    void decodesUncompressedMessages() throws Exception {
+        var messages = createMessages();
+
+        decoder.decode(createMulti(pack(messages), 0));
+
+        assertDecoded(messages);
+    }
+
+    @Test
+    void decodesGzipMessages() throws Exception {
+        var messages = createMessages();
+        var packed = pack(messages);
+
+        decoder.decode(createMulti(gzip(packed), packed.length));
+
+        assertDecoded(messages);
+    }
+
+    @Test
+    void decodesGzipMessagesWithOptionalHeaderFields() throws Exception {
+        var messages = createMessages();
+        var packed = pack(messages);
+        var compressed = gzipWithOptionalHeaderFields(packed);
+        // the crafted stream is valid for the JDK as well
+        assertArrayEquals(packed, new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes());
+
+        decoder.decode(createMulti(compressed, packed.length));
+
+        assertDecoded(messages);
+    }
+
+    @Test
+    void growsUndersizedUnzippedSize() throws Exception {
+        var messages = createMessages();
+
+        decoder.decode(createMulti(gzip(pack(messages)), 1));
+
+        assertDecoded(messages);
+    }
+
+    @Test
+    void failsOnTruncatedGzipStream() throws IOException {
+        var packed = pack(createMessages());
+        var compressed = gzip(packed);
+
+        var truncatedData = Arrays.copyOf(compressed, compressed.length / 2);
+        assertThrows(EOFException.class, () -> decoder.decode(createMulti(truncatedData, packed.length)));
+
+        var truncatedTrailer = Arrays.copyOf(compressed, compressed.length - 4);
+        assertThrows(ZipException.class, () -> decoder.decode(createMulti(truncatedTrailer, packed.length)));
+
+        var truncatedHeader = Arrays.copyOf(compressed, 5);
+        assertThrows(ZipException.class, () -> decoder.decode(createMulti(truncatedHeader, packed.length)));
+    }
+
+    @Test
+    void failsOnCorruptGzipStream() throws IOException {
+        var packed = pack(createMessages());
+
+        var corruptCrc = gzip(packed);
+        corruptCrc[corruptCrc.length - 8] ^= 0xFF;
+        assertThrows(ZipException.class, () -> decoder.decode(createMulti(corruptCrc, packed.length)));
+
+        var corruptData = gzip(packed);
+        corruptData[10] = (byte) 0xFF;
+        assertThrows(DataFormatException.class, () -> decoder.decode(createMulti(corruptData, packed.length)));
+
+        assertThrows(ZipException.class, () -> decoder.decode(createMulti(packed, packed.length)));
+    }
+
+    @Test
+    void stopsWhenConsumerReturnsFalse() throws Exception {
+        var messages = createMessages();
+        var packed = pack(messages);
+        var consumed = new ArrayList<PacketMessage>();
+        var stoppingDecoder = new MultiMessageDecoder("test", message -> {
+            consumed.add(message);
+            return consumed.size() < 3;
+        });
+
+        stoppingDecoder.decode(createMulti(packed, 0));
+        assertEquals(3, consumed.size());
+
+        consumed.clear();
+        stoppingDecoder.decode(createMulti(gzip(packed), packed.length));
+        assertEquals(3, consumed.size());
+    }
+
+    @Test
+    void ignoresTruncatedMessage() throws Exception {
+        var messages = createMessages();
+        var packed = pack(messages);
+
+        decoder.decode(createMulti(Arrays.copyOf(packed, packed.length - 1), 0));
+
+        assertDecoded(messages.subList(0, MESSAGE_COUNT - 1));
+    }
+
+    @Test
+    void ignoresMessageSizeOverflowingPosition() throws Exception {
+        var messages = createMessages().subList(0, 1);
+        var packed = ByteBuffer.allocate(pack(messages).length + 2 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .put(pack(messages))
+                .putInt(Integer.MAX_VALUE - 1)
+                .putInt(0)
+                .array();
+
+        decoder.decode(createMulti(packed, 0));
+
+        assertDecoded(messages);
+    }
+
+    private void assertDecoded(List<byte[]> messages) {
+        assertEquals(messages.size(), decoded.size());
+        for (int i = 0; i < messages.size(); i++) {
+            assertEquals(EMsg.ClientHeartBeat, decoded.get(i).getMessageType());
+            assertArrayEquals(messages.get(i), decoded.get(i).getData());
+        }
+    }
+
+    private static List<byte[]> createMessages() {
+        var messages = new ArrayList<byte[]>();
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            var body = new byte[i * 37];
+            Arrays.fill(body, (byte) i);
+            messages.add(ByteBuffer.allocate(2 * Integer.BYTES + body.length).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MessageUtil.makeMessage(EMsg.ClientHeartBeat.code(), true))
+                    .putInt(0)
+                    .put(body)
+                    .array());
+        }
+        return messages;
+    }
+
+    private static byte[] pack(List<byte[]> messages) {
+        var packed = ByteBuffer.allocate(messages.stream().mapToInt(message -> Integer.BYTES + message.length).sum())
+                .order(ByteOrder.LITTLE_ENDIAN);
+        messages.forEach(message -> packed.putInt(message.length).put(message));
+        return packed.array();
+    }
+
+    private static CMsgMulti createMulti(byte[] payload, int sizeUnzipped) {
+        return CMsgMulti.newBuilder()
+                .setMessageBody(ByteString.copyFrom(payload))
+                .setSizeUnzipped(sizeUnzipped)
+                .build();
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        var output = new ByteArrayOutputStream();
+        try (var gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(data);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] gzipWithOptionalHeaderFields(byte[] data) {
+        var header = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN)
+                .putShort((short) 0x8b1f)
+                .put((byte) 8)
+                // FHCRC, FEXTRA, FNAME and FCOMMENT
+                .put((byte) (2 | 4 | 8 | 16))
+                .putInt(0)
+                .put((byte) 0)
+                .put((byte) 255)
+                .putShort((short) 3)
+                .put(new byte[]{1, 2, 3})
+                .put("messages\0".getBytes(StandardCharsets.ISO_8859_1))
+                .put("comment\0".getBytes(StandardCharsets.ISO_8859_1));
+        var headerCrc = new CRC32();
+        headerCrc.update(header.array(), 0, header.position());
+        header.putShort((short) headerCrc.getValue());
+
+        var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(data);
+        deflater.finish();
+        var deflated = new byte[data.length + 64];
+        var deflatedLength = deflater.deflate(deflated);
+        deflater.end();
+
+        var crc = new CRC32();
+        crc.update(data);
+        return ByteBuffer.allocate(header.position() + deflatedLength + 8).order(ByteOrder.LITTLE_ENDIAN)
+                .put(header.array(), 0, header.position())
+                .put(deflated, 0, deflatedLength)
+                .putInt((int) crc.getValue())
+                .putInt(data.length)
+                .array();
+    }
+}
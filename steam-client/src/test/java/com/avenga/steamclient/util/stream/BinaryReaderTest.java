@@ -0,0 +1,68 @@
+package com.avenga.steamclient.util.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Reads of the {@link BinaryReader} advance its position and fail with {@link EOFException} on truncated input of
+ * both {@link MemoryStream} and other streams.
+ */
+class BinaryReaderTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    static Stream<Function<byte[], InputStream>> streams() {
+        return Stream.of(MemoryStream::new, ByteArrayInputStream::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("streams")
+    void readsValuesAndAdvancesPosition(Function<byte[], InputStream> stream) throws IOException {
+        var data = new byte[]{1, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 3, 4, 5, 6, 7};
+        var reader = new BinaryReader(stream.apply(data));
+
+        assertEquals(1, reader.readInt());
+        assertEquals(2L, reader.readLong());
+        assertArrayEquals(new byte[]{3, 4}, reader.readBytes(2));
+        var bytes = new byte[4];
+        reader.readFully(bytes, 1, 3);
+        assertArrayEquals(new byte[]{0, 5, 6, 7}, bytes);
+        assertEquals(data.length, reader.getPosition());
+    }
+
+    @ParameterizedTest
+    @MethodSource("streams")
+    void failsOnTruncatedInput(Function<byte[], InputStream> stream) {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            assertThrows(EOFException.class, () -> new BinaryReader(stream.apply(new byte[2])).readInt());
+            assertThrows(EOFException.class, () -> new BinaryReader(stream.apply(new byte[7])).readLong());
+            assertThrows(EOFException.class, () -> new BinaryReader(stream.apply(new byte[3])).readBytes(4));
+            assertThrows(EOFException.class, () -> new BinaryReader(stream.apply(new byte[0]))
+                    .readFully(new byte[1], 0, 1));
+        });
+    }
+
+    @Test
+    void memoryStreamReturnsEndOfStream() {
+        var stream = new MemoryStream(new byte[]{1, 2});
+        var bytes = new byte[4];
+
+        assertEquals(2, stream.read(bytes, 0, 4));
+        assertEquals(-1, stream.read(bytes, 0, 4));
+        assertEquals(0, stream.read(bytes, 0, 0));
+    }
+}
@@ -144,6 +144,8 @@ public class JavaGen implements Closeable, Flushable {
         } else if (node instanceof EnumNode) {
             if ("flags".equals(((EnumNode) node).getFlag())) {
                 writer.writeln("import java.util.EnumSet;");
+                writer.writeln("import java.util.Map;");
+                writer.writeln("import java.util.concurrent.ConcurrentHashMap;");
             }
         }
     }
@@ -660,33 +662,129 @@ public class JavaGen implements Closeable, Flushable {
         writer.writeln("    return this.code;");
         writer.writeln("}");
         writer.writeln();
+        writer.writeln("private static final " + this.node.getName() + "[] VALUES = values();");
+        writer.writeln();
         if (flags) {
-            writer.writeln("public static EnumSet<" + this.node.getName() + "> from(" + type + " code) {");
-            writer.writeln("    EnumSet<" + this.node.getName() + "> set = EnumSet.noneOf(" + this.node.getName() + ".class);");
-            writer.writeln("    for (" + this.node.getName() + " e : " + this.node.getName() + ".values()) {");
-            writer.writeln("        if ((e.code & code) == e.code) {");
-            writer.writeln("            set.add(e);");
-            writer.writeln("        }");
-            writer.writeln("    }");
-            writer.writeln("    return set;");
-            writer.writeln("}");
-            writer.writeln();
-            writer.writeln("public static " + type + " code(EnumSet<" + this.node.getName() + "> flags) {");
-            writer.writeln("    " + type + " code = 0;");
-            writer.writeln("    for (" + this.node.getName() + " flag : flags) {");
-            writer.writeln("        code |= flag.code;");
-            writer.writeln("    }");
-            writer.writeln("    return code;");
-            writer.writeln("}");
+            writeFlagsDecode(type);
         } else {
-            writer.writeln("public static " + this.node.getName() + " from(" + type + " code) {");
-            writer.writeln("    for (" + this.node.getName() + " e : " + this.node.getName() + ".values()) {");
-            writer.writeln("        if (e.code == code) {");
-            writer.writeln("            return e;");
-            writer.writeln("        }");
-            writer.writeln("    }");
-            writer.writeln("    return null;");
-            writer.writeln("}");
+            writeCodeLookup(type);
+        }
+    }
+
+    /**
+     * Writes {@code from(code)} of a flags enum, decoded sets are cached per code and copies of them are returned.
+     */
+    private void writeFlagsDecode(String type) throws IOException {
+        var name = this.node.getName();
+        writer.writeln("private static final int MAX_DECODED_FLAGS = 256;");
+        writer.writeln();
+        writer.writeln("private static final Map<" + getBoxedType(type) + ", EnumSet<" + name + ">> DECODED_FLAGS = new ConcurrentHashMap<>();");
+        writer.writeln();
+        writer.writeln("public static EnumSet<" + name + "> from(" + type + " code) {");
+        writer.writeln("    EnumSet<" + name + "> set = DECODED_FLAGS.get(code);");
+        writer.writeln("    if (set == null) {");
+        writer.writeln("        set = EnumSet.noneOf(" + name + ".class);");
+        writer.writeln("        for (" + name + " e : VALUES) {");
+        writer.writeln("            if ((e.code & code) == e.code) {");
+        writer.writeln("                set.add(e);");
+        writer.writeln("            }");
+        writer.writeln("        }");
+        writer.writeln("        if (DECODED_FLAGS.size() < MAX_DECODED_FLAGS) {");
+        writer.writeln("            DECODED_FLAGS.putIfAbsent(code, set);");
+        writer.writeln("        }");
+        writer.writeln("    }");
+        writer.writeln("    return set.clone();");
+        writer.writeln("}");
+        writer.writeln();
+        writer.writeln("public static " + type + " code(EnumSet<" + name + "> flags) {");
+        writer.writeln("    " + type + " code = 0;");
+        writer.writeln("    for (" + name + " flag : flags) {");
+        writer.writeln("        code |= flag.code;");
+        writer.writeln("    }");
+        writer.writeln("    return code;");
+        writer.writeln("}");
+    }
+
+    /**
+     * Writes {@code from(code)} backed by a lookup built once: an array indexed by code when the codes are compact,
+     * otherwise an open addressing table. The first declared constant wins for duplicate codes.
+     */
+    private void writeCodeLookup(String type) throws IOException {
+        var name = this.node.getName();
+        writer.writeln("private static final int DENSE_LOOKUP_FACTOR = 16;");
+        writer.writeln();
+        writer.writeln("private static final long LOOKUP_OFFSET;");
+        writer.writeln();
+        writer.writeln("private static final " + name + "[] LOOKUP;");
+        writer.writeln();
+        writer.writeln("private static final long[] LOOKUP_CODES;");
+        writer.writeln();
+        writer.writeln("static {");
+        writer.indent();
+        writer.writeln("long min = Long.MAX_VALUE;");
+        writer.writeln("long max = Long.MIN_VALUE;");
+        writer.writeln("for (" + name + " e : VALUES) {");
+        writer.writeln("    min = Math.min(min, e.code);");
+        writer.writeln("    max = Math.max(max, e.code);");
+        writer.writeln("}");
+        writer.writeln();
+        writer.writeln("if (VALUES.length > 0 && max - min >= 0 && max - min < (long) DENSE_LOOKUP_FACTOR * VALUES.length + 64) {");
+        writer.writeln("    LOOKUP_OFFSET = min;");
+        writer.writeln("    LOOKUP = new " + name + "[(int) (max - min + 1)];");
+        writer.writeln("    LOOKUP_CODES = null;");
+        writer.writeln("    for (" + name + " e : VALUES) {");
+        writer.writeln("        int index = (int) (e.code - min);");
+        writer.writeln("        if (LOOKUP[index] == null) {");
+        writer.writeln("            LOOKUP[index] = e;");
+        writer.writeln("        }");
+        writer.writeln("    }");
+        writer.writeln("} else {");
+        writer.writeln("    int capacity = Integer.highestOneBit(Math.max(1, VALUES.length) * 2) * 2;");
+        writer.writeln("    LOOKUP_OFFSET = 0;");
+        writer.writeln("    LOOKUP = new " + name + "[capacity];");
+        writer.writeln("    LOOKUP_CODES = new long[capacity];");
+        writer.writeln("    for (" + name + " e : VALUES) {");
+        writer.writeln("        int slot = lookupSlot(e.code);");
+        writer.writeln("        while (LOOKUP[slot] != null && LOOKUP_CODES[slot] != e.code) {");
+        writer.writeln("            slot = (slot + 1) & (capacity - 1);");
+        writer.writeln("        }");
+        writer.writeln("        if (LOOKUP[slot] == null) {");
+        writer.writeln("            LOOKUP[slot] = e;");
+        writer.writeln("            LOOKUP_CODES[slot] = e.code;");
+        writer.writeln("        }");
+        writer.writeln("    }");
+        writer.writeln("}");
+        writer.unindent();
+        writer.writeln("}");
+        writer.writeln();
+        writer.writeln("private static int lookupSlot(long code) {");
+        writer.writeln("    return (int) ((code * 0x9E3779B97F4A7C15L) >>> 32) & (LOOKUP.length - 1);");
+        writer.writeln("}");
+        writer.writeln();
+        writer.writeln("public static " + name + " from(" + type + " code) {");
+        writer.writeln("    if (LOOKUP_CODES == null) {");
+        writer.writeln("        long index = code - LOOKUP_OFFSET;");
+        writer.writeln("        return index >= 0 && index < LOOKUP.length ? LOOKUP[(int) index] : null;");
+        writer.writeln("    }");
+        writer.writeln("    for (int slot = lookupSlot(code); LOOKUP[slot] != null; slot = (slot + 1) & (LOOKUP.length - 1)) {");
+        writer.writeln("        if (LOOKUP_CODES[slot] == code) {");
+        writer.writeln("            return LOOKUP[slot];");
+        writer.writeln("        }");
+        writer.writeln("    }");
+        writer.writeln("    return null;");
+        writer.writeln("}");
+    }
+
+    private static String getBoxedType(String type) {
+        switch (type) {
+            case "byte":
+                return "Byte";
+            case "short":
+                return "Short";
+            case "long":
+                return "Long";
+            default:
+                return "Integer";
         }
     }
 